@@ -0,0 +1,42 @@
+package com.enyoi.arka.benchmark;
+
+import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.OrderStatus;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Datos de prueba compartidos por los benchmarks.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static OrderItem item(int index) {
+        return OrderItem.builder()
+                .productId(ProductId.of("prod-" + index))
+                .quantity(1 + index % 5)
+                .unitPrice(Money.of(new BigDecimal("15000.50").add(BigDecimal.valueOf(index)), "COP"))
+                .build();
+    }
+
+    public static Order order(String id, String customerId, int itemCount) {
+        Order.Builder builder = Order.builder()
+                .id(OrderId.of(id))
+                .customerId(CustomerId.of(customerId))
+                .status(OrderStatus.PENDIENTE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now());
+        for (int i = 0; i < itemCount; i++) {
+            builder.addItem(item(i));
+        }
+        return builder.build();
+    }
+}
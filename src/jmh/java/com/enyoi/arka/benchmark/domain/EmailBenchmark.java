@@ -0,0 +1,29 @@
+package com.enyoi.arka.benchmark.domain;
+
+import com.enyoi.arka.domain.valueobjects.Email;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Email.of} valida con una expresion regular en cada llamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailBenchmark {
+
+    @Param({"cliente@arka.com", "nombre.apellido+pedidos@distribuidora-arka.com.co"})
+    public String address;
+
+    @Benchmark
+    public Email of() {
+        return Email.of(address);
+    }
+}
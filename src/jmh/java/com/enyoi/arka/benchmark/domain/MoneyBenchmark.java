@@ -0,0 +1,52 @@
+package com.enyoi.arka.benchmark.domain;
+
+import com.enyoi.arka.domain.valueobjects.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Money.of} resuelve la moneda con {@code Currency.getInstance} y
+ * {@code toUpperCase} en cada llamada; {@code add} y {@code multiply}
+ * crean un {@code Money} nuevo por operacion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private final BigDecimal amount = new BigDecimal("150000.50");
+    private final Money price = Money.of(amount, "COP");
+    private final Money other = Money.of("2500.25", "COP");
+
+    @Benchmark
+    public Money ofUpperCaseCode() {
+        return Money.of(amount, "COP");
+    }
+
+    @Benchmark
+    public Money ofLowerCaseCode() {
+        return Money.of(amount, "cop");
+    }
+
+    @Benchmark
+    public Money ofString() {
+        return Money.of("150000.50", "COP");
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(7);
+    }
+}
@@ -0,0 +1,55 @@
+package com.enyoi.arka.benchmark.domain;
+
+import com.enyoi.arka.benchmark.Fixtures;
+import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.valueobjects.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculos de {@link Order} segun el numero de lineas: {@code getTotal}
+ * suma un {@code Money} por linea y {@code getItems} copia la lista en
+ * cada llamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private Order order;
+    private OrderItem item;
+
+    @Setup
+    public void setUp() {
+        order = Fixtures.order("ord-001", "cust-001", itemCount);
+        item = Fixtures.item(3);
+    }
+
+    @Benchmark
+    public Money getTotal() {
+        return order.getTotal();
+    }
+
+    @Benchmark
+    public List<OrderItem> getItems() {
+        return order.getItems();
+    }
+
+    @Benchmark
+    public Money itemTotalPrice() {
+        return item.getTotalPrice();
+    }
+}
@@ -0,0 +1,47 @@
+package com.enyoi.arka.benchmark.mapping;
+
+import com.enyoi.arka.adapters.out.repository.entity.OrderEntity;
+import com.enyoi.arka.benchmark.Fixtures;
+import com.enyoi.arka.domain.entities.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion entre {@link Order} y {@link OrderEntity}, que se paga en
+ * cada lectura y escritura de ordenes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderEntityMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private Order order;
+    private OrderEntity entity;
+
+    @Setup
+    public void setUp() {
+        order = Fixtures.order("ord-001", "cust-001", itemCount);
+        entity = OrderEntity.fromDomain(order);
+    }
+
+    @Benchmark
+    public OrderEntity fromDomain() {
+        return OrderEntity.fromDomain(order);
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return entity.toDomain();
+    }
+}
@@ -0,0 +1,91 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.adapters.out.repository.config.DatabaseConfig;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.adapters.out.repository.config.SqliteProfile;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Base de datos SQLite desechable para un benchmark: un archivo temporal o
+ * una base en memoria compartida. Se migra con {@link DatabaseConfig} igual
+ * que la de la aplicacion y expone una conexion JDBC para cargar datos.
+ * Por defecto usa el perfil {@link SqliteProfile#THROUGHPUT}; los
+ * benchmarks de escritura reciben el perfil como parametro para comparar
+ * el costo del commit con {@code synchronous=FULL}.
+ *
+ * <p>La base en memoria existe mientras haya una conexion abierta, por eso
+ * la conexion de carga se mantiene abierta hasta {@link #close()}.
+ */
+public class BenchmarkDatabase implements AutoCloseable {
+
+    private final Path file;
+    private final String jdbcUrl;
+    private final SqliteProfile profile;
+    private final Connection connection;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JpaUnitOfWork unitOfWork;
+
+    private BenchmarkDatabase(Path file, String jdbcUrl, SqliteProfile profile) throws SQLException {
+        this.file = file;
+        this.jdbcUrl = jdbcUrl;
+        this.profile = profile;
+        this.connection = DriverManager.getConnection(jdbcUrl);
+        this.entityManagerFactory = DatabaseConfig.createEntityManagerFactory(jdbcUrl, profile);
+        this.unitOfWork = new JpaUnitOfWork(entityManagerFactory);
+    }
+
+    public static BenchmarkDatabase open(Storage storage) {
+        return open(storage, SqliteProfile.THROUGHPUT);
+    }
+
+    public static BenchmarkDatabase open(Storage storage, SqliteProfile profile) {
+        try {
+            if (storage == Storage.MEMORY) {
+                return new BenchmarkDatabase(null,
+                        "jdbc:sqlite:file:arka-bench-" + UUID.randomUUID() + "?mode=memory&cache=shared", profile);
+            }
+            Path file = Files.createTempFile("arka-bench-", ".db");
+            return new BenchmarkDatabase(file, "jdbc:sqlite:" + file, profile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot open benchmark database", e);
+        }
+    }
+
+    public Connection connection() {
+        return connection;
+    }
+
+    public JpaUnitOfWork unitOfWork() {
+        return unitOfWork;
+    }
+
+    /**
+     * EntityManagerFactory nuevo sobre la misma base, con sus caches vacios.
+     * Lo cierra quien lo crea.
+     */
+    public EntityManagerFactory newEntityManagerFactory(boolean secondLevelCache) {
+        return DatabaseConfig.createEntityManagerFactory(jdbcUrl, profile, secondLevelCache);
+    }
+
+    @Override
+    public void close() throws Exception {
+        entityManagerFactory.close();
+        connection.close();
+        if (file != null) {
+            for (String suffix : new String[]{"", "-wal", "-shm"}) {
+                Files.deleteIfExists(Path.of(file + suffix));
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.adapters.in.OrderServiceImpl;
+import com.enyoi.arka.adapters.out.repository.JpaCustomerRepository;
+import com.enyoi.arka.adapters.out.repository.JpaOrderRepository;
+import com.enyoi.arka.adapters.out.repository.JpaProductRepository;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.adapters.out.repository.config.SqliteProfile;
+import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code OrderServiceImpl.createOrder} de punta a punta: email del cliente,
+ * carga de productos, descuento de stock y guardado de la orden en una
+ * unidad de trabajo. Las notificaciones se descartan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CreateOrderBenchmark {
+
+    private static final int CUSTOMERS = 1_000;
+    private static final int PRODUCTS = 10_000;
+    private static final Money UNIT_PRICE = Money.of(new BigDecimal("1000"), "COP");
+
+    @Param({"3"})
+    public int lines;
+
+    @Param({"FILE", "MEMORY"})
+    public Storage storage;
+
+    @Param({"DURABLE", "THROUGHPUT"})
+    public SqliteProfile profile;
+
+    private BenchmarkDatabase database;
+    private OrderServiceImpl orderService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open(storage, profile);
+        DatasetSeeder seeder = new DatasetSeeder(database.connection());
+        seeder.customers(CUSTOMERS);
+        seeder.products(PRODUCTS, 1_000_000_000, 0);
+        JpaUnitOfWork unitOfWork = database.unitOfWork();
+        orderService = new OrderServiceImpl(
+                new JpaOrderRepository(unitOfWork::currentEntityManager),
+                new JpaProductRepository(unitOfWork::currentEntityManager),
+                new JpaCustomerRepository(unitOfWork::currentEntityManager),
+                new NoOpNotificationService(),
+                unitOfWork);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<OrderItem> items = new ArrayList<>(lines);
+        int first = random.nextInt(PRODUCTS);
+        for (int i = 0; i < lines; i++) {
+            items.add(OrderItem.builder()
+                    .productId(ProductId.of(DatasetSeeder.productId((first + i) % PRODUCTS)))
+                    .quantity(1)
+                    .unitPrice(UNIT_PRICE)
+                    .build());
+        }
+        return orderService.createOrder(CustomerId.of(DatasetSeeder.customerId(random.nextInt(CUSTOMERS))), items);
+    }
+}
@@ -0,0 +1,120 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.domain.entities.OrderStatus;
+import com.enyoi.arka.domain.entities.ProductCategory;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Carga datos sinteticos con INSERT en lote por JDBC, mucho mas rapido que
+ * pasar por JPA cuando hay que crear millones de filas.
+ */
+public class DatasetSeeder {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final Connection connection;
+
+    public DatasetSeeder(Connection connection) {
+        this.connection = connection;
+    }
+
+    public static String customerId(int index) {
+        return "cust-" + index;
+    }
+
+    public static String productId(int index) {
+        return "prod-" + index;
+    }
+
+    public void customers(int count) throws SQLException {
+        insert("INSERT INTO customers (id, name, last_name, email, phone, city) VALUES (?, ?, ?, ?, ?, ?)",
+                count, (statement, i) -> {
+                    statement.setString(1, customerId(i));
+                    statement.setString(2, "Cliente " + i);
+                    statement.setString(3, "Benchmark");
+                    statement.setString(4, "cliente" + i + "@arka.com");
+                    statement.setString(5, "3000000000");
+                    statement.setString(6, "Bogota");
+                });
+    }
+
+    /**
+     * Productos repartidos entre todas las categorias. Uno de cada
+     * {@code lowStockEvery} queda con stock 0..9 y el resto con
+     * {@code stock}; con {@code lowStockEvery <= 0} ninguno queda bajo.
+     */
+    public void products(int count, int stock, int lowStockEvery) throws SQLException {
+        ProductCategory[] categories = ProductCategory.values();
+        insert("INSERT INTO products (id, name, description, price_amount, price_currency, stock, category) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", count, (statement, i) -> {
+            statement.setString(1, productId(i));
+            statement.setString(2, "Producto " + i);
+            statement.setString(3, "Producto sintetico");
+            statement.setBigDecimal(4, BigDecimal.valueOf(1000 + i % 500_000));
+            statement.setString(5, "COP");
+            statement.setInt(6, lowStockEvery > 0 && i % lowStockEvery == 0 ? i % 10 : stock);
+            statement.setString(7, categories[i % categories.length].name());
+        });
+    }
+
+    /**
+     * Ordenes de una linea cada una, repartidas en turno entre
+     * {@code customers} clientes.
+     */
+    public void orders(int count, int customers) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insert("INSERT INTO orders (id, customer_id, status, created_at, updated_at, "
+                + "total_amount, total_currency, line_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                count, (statement, i) -> {
+                    statement.setString(1, "ord-" + i);
+                    statement.setString(2, customerId(i % customers));
+                    statement.setString(3, OrderStatus.PENDIENTE.name());
+                    statement.setTimestamp(4, now);
+                    statement.setTimestamp(5, now);
+                    statement.setBigDecimal(6, BigDecimal.valueOf(1000));
+                    statement.setString(7, "COP");
+                    statement.setInt(8, 1);
+                });
+        insert("INSERT INTO order_items (id, order_id, product_id, quantity, unit_price_amount, unit_price_currency) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", count, (statement, i) -> {
+            statement.setString(1, "item-" + i);
+            statement.setString(2, "ord-" + i);
+            statement.setString(3, productId(i % 100));
+            statement.setInt(4, 1);
+            statement.setBigDecimal(5, BigDecimal.valueOf(1000));
+            statement.setString(6, "COP");
+        });
+    }
+
+    private void insert(String sql, int count, Row row) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                row.bind(statement, i);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Row {
+        void bind(PreparedStatement statement, int index) throws SQLException;
+    }
+}
@@ -0,0 +1,69 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.adapters.out.repository.JpaOrderRepository;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code JpaOrderRepository.findByCustomerId} sobre tablas de 1k, 100k y
+ * 1M ordenes, con 10 ordenes por cliente. Cada llamada consulta un cliente
+ * distinto para no medir siempre las mismas paginas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FindByCustomerBenchmark {
+
+    private static final int ORDERS_PER_CUSTOMER = 10;
+
+    @Param({"1000", "100000", "1000000"})
+    public int orders;
+
+    @Param({"FILE", "MEMORY"})
+    public Storage storage;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private BenchmarkDatabase database;
+    private JpaUnitOfWork unitOfWork;
+    private JpaOrderRepository orderRepository;
+    private int customers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open(storage);
+        customers = orders / ORDERS_PER_CUSTOMER;
+        DatasetSeeder seeder = new DatasetSeeder(database.connection());
+        seeder.customers(customers);
+        seeder.products(100, 1_000, 0);
+        seeder.orders(orders, customers);
+        unitOfWork = database.unitOfWork();
+        orderRepository = new JpaOrderRepository(unitOfWork::currentEntityManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Order> findByCustomerId() {
+        CustomerId customerId = CustomerId.of(DatasetSeeder.customerId(
+                Math.floorMod(next.getAndIncrement(), customers)));
+        return unitOfWork.read(() -> orderRepository.findByCustomerId(customerId));
+    }
+}
@@ -0,0 +1,58 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.adapters.out.repository.JpaProductRepository;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.domain.entities.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code JpaProductRepository.findLowStockProducts} sobre catalogos de 1k,
+ * 100k y 1M productos, con el 1% del catalogo en stock bajo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LowStockBenchmark {
+
+    private static final int LOW_STOCK_EVERY = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int products;
+
+    @Param({"FILE", "MEMORY"})
+    public Storage storage;
+
+    private BenchmarkDatabase database;
+    private JpaUnitOfWork unitOfWork;
+    private JpaProductRepository productRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open(storage);
+        new DatasetSeeder(database.connection()).products(products, 1_000, LOW_STOCK_EVERY);
+        unitOfWork = database.unitOfWork();
+        productRepository = new JpaProductRepository(unitOfWork::currentEntityManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Product> findLowStockProducts() {
+        return unitOfWork.read(() -> productRepository.findLowStockProducts(10));
+    }
+}
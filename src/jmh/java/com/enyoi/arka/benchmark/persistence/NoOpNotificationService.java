@@ -0,0 +1,18 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+/**
+ * Notificaciones descartadas, para que el benchmark mida solo persistencia.
+ */
+class NoOpNotificationService implements NotificationService {
+
+    @Override
+    public void notifyOrderStatusChange(String orderId, String customerEmail, String status) {
+    }
+
+    @Override
+    public void notifyLowStockAlert(ProductId productId, String productName, int currentStock) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.adapters.out.repository.JpaOrderRepository;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.adapters.out.repository.config.SqliteProfile;
+import com.enyoi.arka.benchmark.Fixtures;
+import com.enyoi.arka.domain.entities.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code JpaOrderRepository.save} de una orden nueva con 1, 10 o 100
+ * lineas, en su propia unidad de trabajo (un commit por orden), con los
+ * perfiles de SQLite {@code DURABLE} y {@code THROUGHPUT}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderSaveBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int lines;
+
+    @Param({"FILE", "MEMORY"})
+    public Storage storage;
+
+    @Param({"DURABLE", "THROUGHPUT"})
+    public SqliteProfile profile;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private BenchmarkDatabase database;
+    private JpaUnitOfWork unitOfWork;
+    private JpaOrderRepository orderRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open(storage, profile);
+        DatasetSeeder seeder = new DatasetSeeder(database.connection());
+        seeder.customers(1);
+        seeder.products(100, 1_000_000, 0);
+        unitOfWork = database.unitOfWork();
+        orderRepository = new JpaOrderRepository(unitOfWork::currentEntityManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public Order save() {
+        Order order = Fixtures.order("bench-" + sequence.incrementAndGet(), DatasetSeeder.customerId(0), lines);
+        return unitOfWork.execute(() -> orderRepository.save(order));
+    }
+}
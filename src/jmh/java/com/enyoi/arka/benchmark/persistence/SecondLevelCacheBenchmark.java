@@ -0,0 +1,114 @@
+package com.enyoi.arka.benchmark.persistence;
+
+import com.enyoi.arka.adapters.out.repository.JpaCustomerRepository;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lecturas de clientes por id con el cache de segundo nivel de Hibernate
+ * apagado y encendido; {@code CustomerEntity} es la unica entidad que lo
+ * usa. Con {@code FRESH} cada iteracion usa un EntityManagerFactory nuevo,
+ * asi que mide el cache mientras se llena; con {@code WARM} el factory dura
+ * todo el ensayo y se calienta leyendo todos los clientes antes de medir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SecondLevelCacheBenchmark {
+
+    private static final int WARM_UP_BATCH = 1_000;
+
+    public enum Factory {
+        FRESH,
+        WARM
+    }
+
+    @Param({"1000", "100000"})
+    public int customers;
+
+    @Param({"false", "true"})
+    public boolean secondLevelCache;
+
+    @Param({"FRESH", "WARM"})
+    public Factory factory;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private BenchmarkDatabase database;
+    private EntityManagerFactory entityManagerFactory;
+    private JpaUnitOfWork unitOfWork;
+    private JpaCustomerRepository customerRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open(Storage.FILE);
+        new DatasetSeeder(database.connection()).customers(customers);
+        if (factory == Factory.WARM) {
+            openFactory();
+            warmUp();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        if (factory == Factory.FRESH) {
+            openFactory();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        if (factory == Factory.FRESH) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+        database.close();
+    }
+
+    private void openFactory() {
+        entityManagerFactory = database.newEntityManagerFactory(secondLevelCache);
+        unitOfWork = new JpaUnitOfWork(entityManagerFactory);
+        customerRepository = new JpaCustomerRepository(unitOfWork::currentEntityManager);
+    }
+
+    // Lee los clientes en tandas para no acumular todo en un solo contexto
+    // de persistencia
+    private void warmUp() {
+        for (int start = 0; start < customers; start += WARM_UP_BATCH) {
+            int from = start;
+            unitOfWork.read(() -> {
+                for (int i = from; i < Math.min(from + WARM_UP_BATCH, customers); i++) {
+                    customerRepository.findById(CustomerId.of(DatasetSeeder.customerId(i)));
+                }
+                return null;
+            });
+        }
+    }
+
+    @Benchmark
+    public Optional<Customer> findById() {
+        CustomerId id = CustomerId.of(DatasetSeeder.customerId(Math.floorMod(next.getAndIncrement(), customers)));
+        return unitOfWork.read(() -> customerRepository.findById(id));
+    }
+}
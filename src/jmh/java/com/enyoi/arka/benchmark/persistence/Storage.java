@@ -0,0 +1,6 @@
+package com.enyoi.arka.benchmark.persistence;
+
+public enum Storage {
+    FILE,
+    MEMORY
+}
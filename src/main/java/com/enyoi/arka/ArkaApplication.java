@@ -2,32 +2,79 @@ package com.enyoi.arka;
 
  import com.enyoi.arka.adapters.in.InventoryServiceImpl;
  import com.enyoi.arka.adapters.in.OrderServiceImpl;
+ import com.enyoi.arka.adapters.metrics.Instrumentation;
+ import com.enyoi.arka.adapters.metrics.MetricsRegistry;
+ import com.enyoi.arka.adapters.metrics.PrometheusEndpoint;
+ import com.enyoi.arka.adapters.metrics.PrometheusExporter;
+ import com.enyoi.arka.adapters.out.repository.CachingCustomerRepository;
+ import com.enyoi.arka.adapters.out.repository.CachingProductRepository;
+ import com.enyoi.arka.adapters.out.repository.JpaCustomerQueries;
  import com.enyoi.arka.adapters.out.repository.JpaCustomerRepository;
+ import com.enyoi.arka.adapters.out.repository.JpaNotificationOutbox;
+ import com.enyoi.arka.adapters.out.repository.JpaOrderQueries;
  import com.enyoi.arka.adapters.out.repository.JpaOrderRepository;
+ import com.enyoi.arka.adapters.out.repository.JpaProductQueries;
  import com.enyoi.arka.adapters.out.repository.JpaProductRepository;
+ import com.enyoi.arka.adapters.out.repository.LowStockTrackingProductRepository;
+ import com.enyoi.arka.adapters.out.repository.SqliteSalesReports;
  import com.enyoi.arka.adapters.out.repository.config.DatabaseConfig;
+ import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+ import com.enyoi.arka.adapters.out.service.CoalescingNotificationService;
  import com.enyoi.arka.adapters.out.service.ConsoleNotificationService;
+ import com.enyoi.arka.adapters.out.service.outbox.NotificationOutbox;
+ import com.enyoi.arka.adapters.out.service.outbox.OutboxDispatcher;
+ import com.enyoi.arka.adapters.out.service.outbox.OutboxNotificationService;
  import com.enyoi.arka.domain.entities.*;
  import com.enyoi.arka.domain.ports.in.InventoryService;
  import com.enyoi.arka.domain.ports.in.OrderService;
+ import com.enyoi.arka.domain.ports.out.CustomerQueries;
  import com.enyoi.arka.domain.ports.out.CustomerRepository;
+ import com.enyoi.arka.domain.ports.out.LowStockIndex;
  import com.enyoi.arka.domain.ports.out.NotificationService;
+ import com.enyoi.arka.domain.ports.out.OrderQueries;
  import com.enyoi.arka.domain.ports.out.OrderRepository;
+ import com.enyoi.arka.domain.ports.out.ProductQueries;
  import com.enyoi.arka.domain.ports.out.ProductRepository;
+ import com.enyoi.arka.domain.ports.out.SalesReports;
  import com.enyoi.arka.domain.valueobjects.*;
- import jakarta.persistence.EntityManager;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class ArkaApplication {
     private static final Scanner scanner = new Scanner(System.in);
+    private static final int PRODUCT_CACHE_SIZE = 10_000;
+    private static final Duration PRODUCT_CACHE_TTL = Duration.ofMinutes(5);
+    private static final int CUSTOMER_EMAIL_CACHE_SIZE = 100_000;
+    private static final Duration CUSTOMER_EMAIL_CACHE_TTL = Duration.ofHours(1);
+    private static final LowStockThresholds LOW_STOCK_THRESHOLDS = LowStockThresholds.defaults();
+    private static final int NOTIFICATION_OUTBOX_CAPACITY = 10_000;
+    private static final Duration LOW_STOCK_ALERT_WINDOW = Duration.ofHours(24);
+    private static final int LIST_PAGE_SIZE = 20;
 
     // Servicios
     private static InventoryService inventoryService;
     private static OrderService orderService;
     private static CustomerRepository customerRepository;
+    private static ProductQueries productQueries;
+    private static LowStockIndex lowStockIndex;
+    private static CustomerQueries customerQueries;
+    private static OrderQueries orderQueries;
+    private static SalesReports salesReports;
+    private static JpaUnitOfWork unitOfWork;
+    private static OutboxDispatcher outboxDispatcher;
+    private static PrometheusExporter metricsExporter;
+    private static PrometheusEndpoint metricsEndpoint;
 
 
     public static void main(String[] args) {
@@ -45,6 +92,7 @@ public class ArkaApplication {
                 case 1 -> manageInventory();
                 case 2 -> manageCustomers();
                 case 3 -> manageOrders();
+                case 4 -> manageReports();
                 case 0 -> {
                     System.out.println("¡Hasta luego!");
                     running = false;
@@ -53,25 +101,75 @@ public class ArkaApplication {
             }
         }
 
+        outboxDispatcher.close();
+        closeMetrics();
         DatabaseConfig.shutdown();
     }
 
     private static void initializeServices() {
-        // EntityManager compartido
-        EntityManager entityManager = DatabaseConfig.createEntityManager();
+        // Unidad de trabajo: un EntityManager por hilo
+        unitOfWork = DatabaseConfig.createUnitOfWork();
 
-        // Repositorios
-        ProductRepository productRepo = new JpaProductRepository(entityManager);
-        CustomerRepository customerRepo = new JpaCustomerRepository(entityManager);
-        OrderRepository orderRepo = new JpaOrderRepository(entityManager);
+        // Metricas: cada puerto se envuelve en un proxy que mide sus llamadas
+        MetricsRegistry metrics = new MetricsRegistry();
 
-        // Notificaciones
-        NotificationService notificationService = new ConsoleNotificationService();
+        // Repositorios
+        LowStockTrackingProductRepository lowStockRepo = new LowStockTrackingProductRepository(
+                new JpaProductRepository(unitOfWork::currentEntityManager), LOW_STOCK_THRESHOLDS, unitOfWork);
+        lowStockRepo.rebuild();
+        lowStockIndex = lowStockRepo;
+        ProductRepository productRepo = Instrumentation.instrument(ProductRepository.class,
+                new CachingProductRepository(lowStockRepo, PRODUCT_CACHE_SIZE, PRODUCT_CACHE_TTL, unitOfWork), metrics);
+        CustomerRepository customerRepo = Instrumentation.instrument(CustomerRepository.class,
+                new CachingCustomerRepository(new JpaCustomerRepository(unitOfWork::currentEntityManager),
+                        CUSTOMER_EMAIL_CACHE_SIZE, CUSTOMER_EMAIL_CACHE_TTL, unitOfWork), metrics);
+        OrderRepository orderRepo = Instrumentation.instrument(OrderRepository.class,
+                new JpaOrderRepository(unitOfWork::currentEntityManager), metrics);
+
+        // Notificaciones: se guardan con la orden y se entregan en segundo plano
+        NotificationOutbox outbox = new JpaNotificationOutbox(unitOfWork::currentEntityManager);
+        outboxDispatcher = OutboxDispatcher.builder(outbox, new ConsoleNotificationService(), unitOfWork).build();
+        outboxDispatcher.start();
+        CoalescingNotificationService coalescing = new CoalescingNotificationService(
+                new OutboxNotificationService(outbox, unitOfWork, outboxDispatcher, NOTIFICATION_OUTBOX_CAPACITY),
+                LOW_STOCK_ALERT_WINDOW, unitOfWork);
+        lowStockRepo.addRecoveryListener(coalescing::stockRecovered);
+        NotificationService notificationService = Instrumentation.instrument(NotificationService.class, coalescing, metrics);
 
         // Servicios
-        inventoryService = new InventoryServiceImpl(productRepo, notificationService);
-        orderService = new OrderServiceImpl(orderRepo, productRepo, customerRepo, notificationService);
+        inventoryService = Instrumentation.instrument(InventoryService.class,
+                new InventoryServiceImpl(productRepo, notificationService, unitOfWork, lowStockIndex), metrics);
+        orderService = Instrumentation.instrument(OrderService.class,
+                new OrderServiceImpl(orderRepo, productRepo, customerRepo, notificationService, unitOfWork), metrics);
         customerRepository = customerRepo;
+
+        // Consultas de lectura para los listados: proyecciones sin entidades
+        productQueries = Instrumentation.instrument(ProductQueries.class,
+                new JpaProductQueries(unitOfWork::currentEntityManager), metrics);
+        customerQueries = Instrumentation.instrument(CustomerQueries.class,
+                new JpaCustomerQueries(unitOfWork::currentEntityManager), metrics);
+        orderQueries = Instrumentation.instrument(OrderQueries.class,
+                new JpaOrderQueries(unitOfWork::currentEntityManager), metrics);
+        salesReports = Instrumentation.instrument(SalesReports.class,
+                new SqliteSalesReports(unitOfWork::currentEntityManager), metrics);
+
+        // Exportacion Prometheus: -Darka.metrics.port=9464 publica /metrics en
+        // localhost; -Darka.metrics.file=<ruta> escribe el archivo al salir
+        metricsExporter = new PrometheusExporter(metrics);
+        Integer metricsPort = Integer.getInteger("arka.metrics.port");
+        if (metricsPort != null) {
+            metricsEndpoint = PrometheusEndpoint.start(metricsExporter, metricsPort);
+        }
+    }
+
+    private static void closeMetrics() {
+        if (metricsEndpoint != null) {
+            metricsEndpoint.close();
+        }
+        String metricsFile = System.getProperty("arka.metrics.file");
+        if (metricsFile != null) {
+            metricsExporter.writeTo(Path.of(metricsFile));
+        }
     }
 
     private static void showMenu() {
@@ -79,6 +177,7 @@ public class ArkaApplication {
         System.out.println("1. Gestión de Inventario");
         System.out.println("2. Gestión de Clientes");
         System.out.println("3. Gestión de Órdenes");
+        System.out.println("4. Reportes");
         System.out.println("0. Salir");
         System.out.println("==================");
     }
@@ -122,6 +221,7 @@ public class ArkaApplication {
         System.out.println("1. Crear orden");
         System.out.println("2. Ver órdenes pendientes");
         System.out.println("3. Confirmar orden");
+        System.out.println("4. Resumen de órdenes");
         System.out.println("0. Volver");
 
         int option = readInt("Seleccione: ");
@@ -129,6 +229,26 @@ public class ArkaApplication {
             case 1 -> createOrder();
             case 2 -> viewPendingOrders();
             case 3 -> confirmOrder();
+            case 4 -> viewOrderSummary();
+            case 0 -> {}
+            default -> System.out.println("Opción inválida");
+        }
+    }
+
+    private static void manageReports() {
+        System.out.println("\nREPORTES");
+        System.out.println("1. Ingresos diarios por categoría");
+        System.out.println("2. Ventas por producto");
+        System.out.println("3. Ingresos por cliente");
+        System.out.println("4. Valor del inventario");
+        System.out.println("0. Volver");
+
+        int option = readInt("Seleccione: ");
+        switch (option) {
+            case 1 -> viewDailyRevenueByCategory();
+            case 2 -> viewSalesByProduct();
+            case 3 -> viewRevenueByCustomer();
+            case 4 -> viewInventoryValuation();
             case 0 -> {}
             default -> System.out.println("Opción inválida");
         }
@@ -158,15 +278,11 @@ public class ArkaApplication {
     }
 
     private static void viewProducts() {
-        List<Product> products = inventoryService.getAllProducts();
-        if (products.isEmpty()) {
-            System.out.println("No hay productos registrados.");
-            return;
-        }
-        System.out.println("PRODUCTOS REGISTRADOS:");
-        for (Product p : products) {
-            System.out.println("- " + p.getName() + " (ID: " + p.getId().value() + ") - Stock: " + p.getStock() + " - Precio: " + p.getPrice());
-        }
+        printPages("PRODUCTOS REGISTRADOS:", "No hay productos registrados.",
+                after -> unitOfWork.read(() -> productQueries.listProducts(after, LIST_PAGE_SIZE + 1)),
+                ProductSummary::id,
+                p -> System.out.println("- " + p.name() + " (ID: " + p.id().value() + ") - Stock: " + p.stock()
+                        + " - Precio: " + p.priceCurrency() + " " + p.priceAmount().toPlainString()));
     }
 
     private static void updateStock() {
@@ -182,14 +298,14 @@ public class ArkaApplication {
     }
 
     private static void viewLowStock() {
-        List<Product> lowStock = inventoryService.getLowStockProducts();
+        List<ProductSummary> lowStock = unitOfWork.read(() -> productQueries.findLowStock(lowStockIndex.lowStockIds()));
         if (lowStock.isEmpty()) {
             System.out.println("No hay productos con stock bajo.");
             return;
         }
         System.out.println("PRODUCTOS CON STOCK BAJO:");
-        for (Product p : lowStock) {
-            System.out.println("- " + p.getName() + " - Stock: " + p.getStock());
+        for (ProductSummary p : lowStock) {
+            System.out.println("- " + p.name() + " - Stock: " + p.stock());
         }
     }
 
@@ -215,17 +331,62 @@ public class ArkaApplication {
     }
 
     private static void viewPendingOrders() {
-        List<Order> orders = orderService.getAllOrders().stream()
-                .filter(Order::isPending)
-                .toList();
-        if (orders.isEmpty()) {
-            System.out.println("No hay órdenes pendientes.");
+        printPages("ÓRDENES PENDIENTES:", "No hay órdenes pendientes.",
+                after -> unitOfWork.read(() -> orderQueries.findByStatus(OrderStatus.PENDIENTE, after, LIST_PAGE_SIZE + 1)),
+                OrderSummary::id,
+                o -> System.out.println("- ID: " + o.id().value() + " - Total: " + o.totalCurrency() + " "
+                        + o.totalAmount().toPlainString() + " - Items: " + o.lineCount()));
+    }
+
+    private static void viewOrderSummary() {
+        System.out.println("RESUMEN DE ÓRDENES:");
+        for (OrderStatus status : OrderStatus.values()) {
+            System.out.println("- " + status + ": " + orderService.countOrdersByStatus(status));
+        }
+        System.out.println("Productos con stock bajo: " + inventoryService.countLowStockProducts());
+    }
+
+    private static void viewDailyRevenueByCategory() {
+        DateRange range = readDateRange();
+        if (range == null) {
             return;
         }
-        System.out.println("ÓRDENES PENDIENTES:");
-        for (Order o : orders) {
-            System.out.println("- ID: " + o.getId().value() + " - Total: " + o.getTotal());
+        printReport("INGRESOS DIARIOS POR CATEGORÍA:", "No hay ventas en el rango.",
+                () -> salesReports.dailyRevenueByCategory(range),
+                r -> System.out.println("- " + r.day() + " " + r.category() + " - Unidades: " + r.unitsSold()
+                        + " - Ingresos: " + r.currency() + " " + r.revenue().toPlainString()));
+    }
+
+    private static void viewSalesByProduct() {
+        DateRange range = readDateRange();
+        if (range == null) {
+            return;
         }
+        printReport("VENTAS POR PRODUCTO:", "No hay ventas en el rango.",
+                () -> salesReports.salesByProduct(range),
+                s -> System.out.println("- " + (s.productName() != null ? s.productName() : s.productId().value())
+                        + " - Unidades: " + s.unitsSold() + " - Órdenes: " + s.orderCount()
+                        + " - Ingresos: " + s.currency() + " " + s.revenue().toPlainString()));
+    }
+
+    private static void viewRevenueByCustomer() {
+        DateRange range = readDateRange();
+        if (range == null) {
+            return;
+        }
+        printReport("INGRESOS POR CLIENTE:", "No hay ventas en el rango.",
+                () -> salesReports.revenueByCustomer(range),
+                c -> System.out.println("- " + (c.customerName() != null ? c.customerName() : c.customerId().value())
+                        + " - Órdenes: " + c.orderCount()
+                        + " - Ingresos: " + c.currency() + " " + c.revenue().toPlainString()));
+    }
+
+    private static void viewInventoryValuation() {
+        printReport("VALOR DEL INVENTARIO:", "No hay productos registrados.",
+                salesReports::inventoryValuation,
+                v -> System.out.println("- " + v.category() + " - Productos: " + v.productCount()
+                        + " - Unidades: " + v.unitsInStock() + " - Valor: " + v.currency() + " "
+                        + v.value().toPlainString()));
     }
 
     private static void confirmOrder() {
@@ -256,7 +417,7 @@ public class ArkaApplication {
                     .email(email)
                     .city(city)
                     .build();
-            customerRepository.save(customer);
+            unitOfWork.run(() -> customerRepository.save(customer));
             System.out.println("Cliente registrado: " + customer.getName() + " (ID: " + customer.getId().value() + ")");
         } catch (Exception e) {
             System.out.println("Error: " + e.getMessage());
@@ -264,14 +425,63 @@ public class ArkaApplication {
     }
 
     private static void viewCustomers() {
-        List<Customer> customers = customerRepository.findAll();
-        if (customers.isEmpty()) {
-            System.out.println("No hay clientes registrados.");
+        printPages("CLIENTES REGISTRADOS:", "No hay clientes registrados.",
+                after -> unitOfWork.read(() -> customerQueries.listCustomers(after, LIST_PAGE_SIZE + 1)),
+                CustomerSummary::id,
+                c -> System.out.println("- " + c.name() + " (ID: " + c.id().value() + ") - Email: " + c.email() + " - Ciudad: " + c.city()));
+    }
+
+    /**
+     * Imprime un listado de a {@code LIST_PAGE_SIZE} filas. {@code fetch}
+     * recibe el cursor (null para la primera pagina) y debe pedir una fila
+     * extra para saber si hay mas.
+     */
+    private static <T, C> void printPages(String title, String emptyMessage, Function<C, List<T>> fetch,
+                                          Function<T, C> cursor, Consumer<T> printer) {
+        Page<T, C> page = Page.fromLookahead(fetch.apply(null), LIST_PAGE_SIZE, cursor);
+        if (page.items().isEmpty()) {
+            System.out.println(emptyMessage);
             return;
         }
-        System.out.println("CLIENTES REGISTRADOS:");
-        for (Customer c : customers) {
-            System.out.println("- " + c.getName() + " (ID: " + c.getId().value() + ") - Email: " + c.getEmail().value() + " - Ciudad: " + c.getCity());
+        System.out.println(title);
+        while (true) {
+            page.items().forEach(printer);
+            if (!page.hasNext() || !readString("Ver más? (s/n): ").equalsIgnoreCase("s")) {
+                break;
+            }
+            page = Page.fromLookahead(fetch.apply(page.next()), LIST_PAGE_SIZE, cursor);
+        }
+    }
+
+    /**
+     * Imprime las filas de un reporte a medida que llegan de la base de
+     * datos, dentro de una unidad de trabajo de solo lectura que cierra el
+     * stream: mientras se imprime, las escrituras siguen sin esperar.
+     */
+    private static <T> void printReport(String title, String emptyMessage, Supplier<Stream<T>> report,
+                                        Consumer<T> printer) {
+        unitOfWork.read(() -> {
+            try (Stream<T> rows = report.get()) {
+                Iterator<T> iterator = rows.iterator();
+                if (!iterator.hasNext()) {
+                    System.out.println(emptyMessage);
+                    return null;
+                }
+                System.out.println(title);
+                iterator.forEachRemaining(printer);
+            }
+            return null;
+        });
+    }
+
+    private static DateRange readDateRange() {
+        try {
+            LocalDate from = LocalDate.parse(readString("Desde (AAAA-MM-DD): "));
+            LocalDate to = LocalDate.parse(readString("Hasta (AAAA-MM-DD): "));
+            return new DateRange(from, to);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            System.out.println("Error: rango de fechas inválido");
+            return null;
         }
     }
 
@@ -2,89 +2,146 @@ package com.enyoi.arka.adapters.in;
 
 import com.enyoi.arka.domain.entities.Product;
 import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.exception.InsufficientStockException;
 import com.enyoi.arka.domain.exception.ProductNotFoundException;
 import com.enyoi.arka.domain.ports.in.InventoryService;
+import com.enyoi.arka.domain.ports.out.LowStockIndex;
 import com.enyoi.arka.domain.ports.out.NotificationService;
 import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.LowStockThresholds;
 import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.Page;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class InventoryServiceImpl implements InventoryService {
     
     private final ProductRepository productRepository;
     private final NotificationService notificationService;
+    private final UnitOfWork unitOfWork;
+    private final LowStockIndex lowStockIndex;
 
     public InventoryServiceImpl(ProductRepository productRepository, NotificationService notificationService) {
+        this(productRepository, notificationService, UnitOfWork.none());
+    }
+
+    public InventoryServiceImpl(ProductRepository productRepository, NotificationService notificationService,
+                                UnitOfWork unitOfWork) {
+        this(productRepository, notificationService, unitOfWork,
+                LowStockIndex.scanning(productRepository, LowStockThresholds.defaults()));
+    }
+
+    public InventoryServiceImpl(ProductRepository productRepository, NotificationService notificationService,
+                                UnitOfWork unitOfWork, LowStockIndex lowStockIndex) {
         this.productRepository = Objects.requireNonNull(productRepository);
         this.notificationService = Objects.requireNonNull(notificationService);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.lowStockIndex = Objects.requireNonNull(lowStockIndex);
     }
 
     @Override
     public Product registerProduct(String name, String description, Money price, int stock, String category) {
-        ProductId productId = ProductId.of(UUID.randomUUID().toString());
-        ProductCategory productCategory = ProductCategory.valueOf(category);
+        return unitOfWork.execute(() -> {
+            ProductId productId = ProductId.of(UUID.randomUUID().toString());
+            ProductCategory productCategory = ProductCategory.valueOf(category);
         
-        Product product = Product.builder()
-                .id(productId)
-                .name(name)
-                .description(description)
-                .price(price)
-                .stock(stock)
-                .category(productCategory)
-                .build();
+            Product product = Product.builder()
+                    .id(productId)
+                    .name(name)
+                    .description(description)
+                    .price(price)
+                    .stock(stock)
+                    .category(productCategory)
+                    .build();
         
-        return productRepository.save(product);
+            return productRepository.save(product);
+        });
     }
 
     @Override
     public Product getProductById(ProductId id) {
-        return productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id.value()));
+        return unitOfWork.read(() -> productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id.value())));
     }
 
     @Override
     public List<Product> getAllProducts() {
-        return productRepository.findAll();
+        return unitOfWork.read(productRepository::findAll);
+    }
+
+    @Override
+    public Page<Product, ProductId> getProductsPage(ProductId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return unitOfWork.read(() -> Page.fromLookahead(
+                productRepository.findPage(after, limit + 1), limit, Product::getId));
     }
 
     @Override
     public Product updateStock(ProductId id, int newStock) {
-        Product product = getProductById(id);
-        Product updatedProduct = Product.builder()
-                .id(product.getId())
-                .name(product.getName())
-                .description(product.getDescription())
-                .price(product.getPrice())
-                .stock(newStock)
-                .category(product.getCategory())
-                .build();
-        return productRepository.save(updatedProduct);
+        return unitOfWork.execute(() -> {
+            Product product = getProductById(id);
+            Product updatedProduct = Product.builder()
+                    .id(product.getId())
+                    .name(product.getName())
+                    .description(product.getDescription())
+                    .price(product.getPrice())
+                    .stock(newStock)
+                    .category(product.getCategory())
+                    .build();
+            return productRepository.save(updatedProduct);
+        });
     }
 
     @Override
     public void reduceStock(ProductId id, int quantity) {
-        Product product = getProductById(id);
-        product.reduceStock(quantity);
-        productRepository.save(product);
+        unitOfWork.run(() -> {
+            if (!productRepository.tryDecrementStock(id, quantity)) {
+                Product product = getProductById(id);
+                throw new InsufficientStockException(id.value(), quantity, product.getStock());
+            }
+        });
     }
 
     @Override
-    public List<Product> getLowStockProducts() {
+    public void increaseStock(ProductId id, int quantity) {
+        unitOfWork.run(() -> {
+            if (!productRepository.incrementStock(id, quantity)) {
+                throw new ProductNotFoundException(id.value());
+            }
+        });
+    }
 
-        return productRepository.findLowStockProducts(10);
+    @Override
+    public List<Product> getLowStockProducts() {
+        return unitOfWork.read(lowStockIndex::lowStockProducts);
+    }
 
+    @Override
+    public int countLowStockProducts() {
+        return unitOfWork.read(lowStockIndex::lowStockCount);
     }
 
+    /**
+     * Envia todas las alertas del reporte en un solo resumen. El resumen se
+     * envia aunque este vacio: asi quien agrupa alertas sabe que ningun
+     * producto sigue en stock bajo.
+     */
     @Override
     public void generateRestockReport() {
-        List<Product> lowStockProducts = productRepository.findLowStockProducts(10);
-        for (Product product : lowStockProducts) {
-            notificationService.notifyLowStockAlert(product.getName(), product.getStock());
-        }
+        unitOfWork.run(() -> {
+            List<LowStockAlert> alerts = lowStockIndex.lowStockProducts().stream()
+                    .map(product -> new LowStockAlert(product.getId(), product.getName(), product.getStock()))
+                    .collect(Collectors.toList());
+            notificationService.notifyLowStockDigest(alerts);
+        });
     }
 }
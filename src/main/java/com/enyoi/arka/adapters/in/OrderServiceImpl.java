@@ -1,8 +1,8 @@
 package com.enyoi.arka.adapters.in;
 
-import com.enyoi.arka.domain.entities.Customer;
 import com.enyoi.arka.domain.entities.Order;
 import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.OrderStatus;
 import com.enyoi.arka.domain.entities.Product;
 import com.enyoi.arka.domain.exception.InsufficientStockException;
 import com.enyoi.arka.domain.exception.ProductNotFoundException;
@@ -11,11 +11,26 @@ import com.enyoi.arka.domain.ports.out.CustomerRepository;
 import com.enyoi.arka.domain.ports.out.NotificationService;
 import com.enyoi.arka.domain.ports.out.OrderRepository;
 import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
 import com.enyoi.arka.domain.valueobjects.OrderId;
-
+import com.enyoi.arka.domain.valueobjects.OrderStatusChange;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.OrderTransition;
+import com.enyoi.arka.domain.valueobjects.OrderTransitionResult;
+import com.enyoi.arka.domain.valueobjects.Page;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public class OrderServiceImpl implements OrderService {
@@ -23,165 +38,272 @@ public class OrderServiceImpl implements OrderService {
     private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
     private final NotificationService notificationService;
+    private final UnitOfWork unitOfWork;
 
     public OrderServiceImpl(OrderRepository orderRepository, ProductRepository productRepository,
                             CustomerRepository customerRepository, NotificationService notificationService) {
+        this(orderRepository, productRepository, customerRepository, notificationService, UnitOfWork.none());
+    }
+
+    public OrderServiceImpl(OrderRepository orderRepository, ProductRepository productRepository,
+                            CustomerRepository customerRepository, NotificationService notificationService,
+                            UnitOfWork unitOfWork) {
         this.orderRepository = Objects.requireNonNull(orderRepository);
         this.productRepository = Objects.requireNonNull(productRepository);
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.notificationService = Objects.requireNonNull(notificationService);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
     }
 
     /**
      * Crea una nueva orden de compra.
      */
     public Order createOrder(CustomerId customerId, List<OrderItem> items) {
-        // Validar que el cliente existe
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found"));
-
-        // Validar stock para cada item
-        for (OrderItem item : items) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(item.getProductId().value()));
+        return unitOfWork.execute(() -> {
+            // Validar que el cliente existe
+            Email customerEmail = customerRepository.findEmailById(customerId)
+                    .orElseThrow(() -> new RuntimeException("Customer not found"));
+
+            // Cargar todos los productos de la orden en una sola consulta
+            Map<ProductId, Integer> requested = requestedQuantities(items);
+            Map<ProductId, Product> products = loadProducts(requested.keySet());
+
+            // Validar stock para cada producto (sumando lineas repetidas)
+            for (Map.Entry<ProductId, Integer> entry : requested.entrySet()) {
+                Product product = products.get(entry.getKey());
+                if (product == null) {
+                    throw new ProductNotFoundException(entry.getKey().value());
+                }
+                if (product.getStock() < entry.getValue()) {
+                    throw new InsufficientStockException(entry.getKey().value(),
+                            entry.getValue(), product.getStock());
+                }
+            }
 
-            if (product.getStock() < item.getQuantity()) {
-                throw new InsufficientStockException(item.getProductId().value(),
-                        item.getQuantity(), product.getStock());
+            // Reducir stock de todos los productos de forma atomica. Si otro
+            // pedido gano la carrera, el stock leido arriba ya no es el real:
+            // se vuelve a leer para informarlo
+            Optional<ProductId> withoutStock = productRepository.tryDecrementStock(requested);
+            if (withoutStock.isPresent()) {
+                ProductId productId = withoutStock.get();
+                int available = productRepository.findById(productId)
+                        .orElseThrow(() -> new ProductNotFoundException(productId.value()))
+                        .getStock();
+                throw new InsufficientStockException(productId.value(), requested.get(productId), available);
             }
-        }
 
-        // Crear orden
-        OrderId orderId = OrderId.of(UUID.randomUUID().toString());
-        Order order = Order.builder()
-                .id(orderId)
-                .customerId(customerId)
-                .items(items)
-                .build();
+            // Crear orden
+            OrderId orderId = OrderId.of(UUID.randomUUID().toString());
+            Order order = Order.builder()
+                    .id(orderId)
+                    .customerId(customerId)
+                    .items(items)
+                    .build();
 
-        Order savedOrder = orderRepository.save(order);
+            Order savedOrder = orderRepository.save(order);
 
-        // Reducir stock
-        for (OrderItem item : items) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(item.getProductId().value()));
-            product.reduceStock(item.getQuantity());
-            productRepository.save(product);
-        }
+            // Notificar
+            notificationService.notifyOrderStatusChange(orderId.value(), customerEmail.value(), "PENDIENTE");
+
+            return savedOrder;
+        });
+    }
 
-        // Notificar
-        notificationService.notifyOrderStatusChange(orderId.value(), customer.getEmail().value(), "PENDIENTE");
+    private Map<ProductId, Product> loadProducts(Set<ProductId> ids) {
+        Map<ProductId, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            products.put(product.getId(), product);
+        }
+        return products;
+    }
 
-        return savedOrder;
+    private Map<ProductId, Integer> requestedQuantities(List<OrderItem> items) {
+        Map<ProductId, Integer> requested = new LinkedHashMap<>();
+        for (OrderItem item : items) {
+            requested.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return requested;
     }
 
     /**
      * Obtiene una orden por ID.
      */
     public Order getOrderById(OrderId id) {
-        return orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Order not found"));
+        return unitOfWork.read(() -> orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found")));
     }
 
     @Override
     public List<Order> getOrdersByCustomerId(CustomerId customerId) {
-        return orderRepository.findByCustomerId(customerId);
+        return unitOfWork.read(() -> orderRepository.findByCustomerId(customerId));
     }
 
     /**
-     * Confirma una orden pendiente.
+     * Cuenta las órdenes en un estado sin cargarlas.
      */
-    public Order confirmOrder(OrderId id) {
-        Order order = getOrderById(id);
-        order.confirm();
-        Order savedOrder = orderRepository.save(order);
-
-        Customer customer = customerRepository.findById(order.getCustomerId())
-                .orElseThrow(() -> new RuntimeException("Customer not found"));
+    @Override
+    public long countOrdersByStatus(OrderStatus status) {
+        return unitOfWork.read(() -> orderRepository.countByStatus(status));
+    }
 
-        notificationService.notifyOrderStatusChange(id.value(), customer.getEmail().value(), "CONFIRMADO");
+    /**
+     * Cuenta las órdenes de un cliente sin cargarlas.
+     */
+    @Override
+    public long countOrdersByCustomer(CustomerId customerId) {
+        return unitOfWork.read(() -> orderRepository.countByCustomer(customerId));
+    }
 
-        return savedOrder;
+    /**
+     * Confirma una orden pendiente.
+     */
+    public Order confirmOrder(OrderId id) {
+        return transitionStatus(id, OrderStatus.CONFIRMADO);
     }
 
     /**
      * Agrega un item a una orden pendiente.
      */
     public Order addItemToOrder(OrderId orderId, OrderItem item) {
-        Order order = getOrderById(orderId);
-        if (!order.isPending()) {
-            throw new IllegalStateException("Can only modify pending orders");
-        }
+        return unitOfWork.execute(() -> {
+            Order order = getOrderById(orderId);
+            if (!order.isPending()) {
+                throw new IllegalStateException("Can only modify pending orders");
+            }
 
-        // Validar stock
-        Product product = productRepository.findById(item.getProductId())
-                .orElseThrow(() -> new ProductNotFoundException(item.getProductId().value()));
+            // Validar stock
+            Product product = productRepository.findById(item.getProductId())
+                    .orElseThrow(() -> new ProductNotFoundException(item.getProductId().value()));
 
-        if (product.getStock() < item.getQuantity()) {
-            throw new InsufficientStockException(item.getProductId().value(),
-                    item.getQuantity(), product.getStock());
-        }
+            if (product.getStock() < item.getQuantity()) {
+                throw new InsufficientStockException(item.getProductId().value(),
+                        item.getQuantity(), product.getStock());
+            }
 
-        order.addItem(item);
-        return orderRepository.save(order);
+            order.addItem(item);
+            return orderRepository.save(order);
+        });
     }
 
     /**
      * Remueve un item de una orden pendiente.
      */
     public Order removeItemFromOrder(OrderId orderId, OrderItem item) {
-        Order order = getOrderById(orderId);
-        if (!order.isPending()) {
-            throw new IllegalStateException("Can only modify pending orders");
-        }
-
-        order.remove(item);
-        // Devolver stock al producto
-        Product product = productRepository.findById(item.getProductId())
-                .orElseThrow(() -> new ProductNotFoundException(item.getProductId().value()));
+        return unitOfWork.execute(() -> {
+            Order order = getOrderById(orderId);
+            if (!order.isPending()) {
+                throw new IllegalStateException("Can only modify pending orders");
+            }
 
-        product.increaseStock(item.getQuantity());
-        productRepository.save(product);
+            order.remove(item);
+            // Devolver stock al producto
+            if (!productRepository.incrementStock(item.getProductId(), item.getQuantity())) {
+                throw new ProductNotFoundException(item.getProductId().value());
+            }
 
-        return orderRepository.save(order);
+            return orderRepository.save(order);
+        });
     }
 
     /**
      * Envía una orden confirmada.
      */
     public Order shipOrder(OrderId id) {
-        Order order = getOrderById(id);
-        order.ship();
-        Order savedOrder = orderRepository.save(order);
-
-        Customer customer = customerRepository.findById(order.getCustomerId())
-                .orElseThrow(() -> new RuntimeException("Customer not found"));
-
-        notificationService.notifyOrderStatusChange(id.value(), customer.getEmail().value(), "EN_DESPACHO");
-
-        return savedOrder;
+        return transitionStatus(id, OrderStatus.EN_DESPACHO);
     }
 
     /**
      * Entrega una orden enviada.
      */
     public Order deliverOrder(OrderId id) {
-        Order order = getOrderById(id);
-        order.deliver();
-        Order savedOrder = orderRepository.save(order);
+        return transitionStatus(id, OrderStatus.ENTREGADO);
+    }
 
-        Customer customer = customerRepository.findById(order.getCustomerId())
-                .orElseThrow(() -> new RuntimeException("Customer not found"));
+    /**
+     * Aplica la transicion con un compare-and-set en el repositorio: un
+     * UPDATE de estado y una consulta para la orden y el email del cliente.
+     * El estado esperado y el mensaje de error salen de {@link OrderStatus}.
+     */
+    private Order transitionStatus(OrderId id, OrderStatus next) {
+        return unitOfWork.execute(() -> {
+            OrderStatusChange change = orderRepository.transitionStatus(id, next.previous(), next)
+                    .orElseThrow(() -> orderRepository.existsById(id)
+                            ? new IllegalStateException(next.illegalTransitionMessage())
+                            : new RuntimeException("Order not found"));
+            if (change.customerEmail() == null) {
+                throw new RuntimeException("Customer not found");
+            }
 
-        notificationService.notifyOrderStatusChange(id.value(), customer.getEmail().value(), "ENTREGADO");
+            notificationService.notifyOrderStatusChange(id.value(), change.customerEmail(), next.name());
 
-        return savedOrder;
+            return change.order();
+        });
     }
 
     /**
      * Lista todas las órdenes.
      */
     public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+        return unitOfWork.read(orderRepository::findAll);
+    }
+
+    /**
+     * Lista las órdenes por páginas, sin cargar la tabla completa.
+     */
+    @Override
+    public Page<Order, OrderId> getOrdersPage(OrderId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return unitOfWork.read(() -> Page.fromLookahead(
+                orderRepository.findPage(after, limit + 1), limit, Order::getId));
+    }
+
+    /**
+     * Confirma un lote de órdenes pendientes.
+     */
+    @Override
+    public Map<OrderId, OrderTransitionResult> confirmOrders(Collection<OrderId> ids) {
+        return transitionStatuses(ids, OrderStatus.CONFIRMADO);
+    }
+
+    /**
+     * Envía un lote de órdenes confirmadas.
+     */
+    @Override
+    public Map<OrderId, OrderTransitionResult> shipOrders(Collection<OrderId> ids) {
+        return transitionStatuses(ids, OrderStatus.EN_DESPACHO);
+    }
+
+    /**
+     * Entrega un lote de órdenes enviadas.
+     */
+    @Override
+    public Map<OrderId, OrderTransitionResult> deliverOrders(Collection<OrderId> ids) {
+        return transitionStatuses(ids, OrderStatus.ENTREGADO);
+    }
+
+    /**
+     * Aplica la transicion a todo el lote en una transaccion y envia las
+     * notificaciones juntas. A diferencia de la version por orden, una orden
+     * en estado invalido, inexistente o sin cliente no aborta el lote: queda
+     * sin cambios y se informa en el resultado.
+     */
+    private Map<OrderId, OrderTransitionResult> transitionStatuses(Collection<OrderId> ids, OrderStatus next) {
+        return unitOfWork.execute(() -> {
+            Map<OrderId, OrderTransitionResult> results = new LinkedHashMap<>();
+            List<OrderStatusNotification> notifications = new ArrayList<>();
+            for (OrderTransition transition : orderRepository.transitionStatuses(ids, next.previous(), next)) {
+                results.put(transition.orderId(), transition.result());
+                if (transition.result().isOk()) {
+                    notifications.add(new OrderStatusNotification(
+                            transition.orderId().value(), transition.customerEmail(), next.name()));
+                }
+            }
+            if (!notifications.isEmpty()) {
+                notificationService.notifyOrderStatusChanges(notifications);
+            }
+            return results;
+        });
     }
 }
@@ -0,0 +1,80 @@
+package com.enyoi.arka.adapters.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Decora cualquier puerto con un proxy que mide cada llamada: latencia,
+ * numero de llamadas y numero de errores. Las metricas de cada metodo se
+ * resuelven al crear el proxy, de modo que una llamada solo agrega dos
+ * lecturas de {@link System#nanoTime()} y un incremento atomico. Las
+ * excepciones del puerto se propagan sin envolver.
+ *
+ * <p>El metodo se etiqueta con su nombre; si el puerto lo sobrecarga, cada
+ * sobrecarga agrega sus tipos de parametros, por ejemplo
+ * {@code tryDecrementStock(ProductId,int)} y {@code tryDecrementStock(Map)}.
+ *
+ * <pre>
+ * OrderService orders = Instrumentation.instrument(OrderService.class, orderService, registry);
+ * </pre>
+ */
+public final class Instrumentation {
+
+    private Instrumentation() {
+    }
+
+    public static <T> T instrument(Class<T> port, T target, MetricsRegistry registry) {
+        if (!port.isInterface()) {
+            throw new IllegalArgumentException("Port must be an interface: " + port.getName());
+        }
+        Objects.requireNonNull(target);
+        Map<String, Long> overloads = Arrays.stream(port.getMethods())
+                .filter(method -> !Modifier.isStatic(method.getModifiers()))
+                .collect(Collectors.groupingBy(Method::getName, Collectors.counting()));
+        Map<Method, MethodMetrics> metrics = new HashMap<>();
+        for (Method method : port.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                String label = overloads.get(method.getName()) > 1 ? signature(method) : method.getName();
+                metrics.put(method, registry.method(port.getSimpleName(), label));
+            }
+        }
+        InvocationHandler handler = (proxy, method, args) -> {
+            MethodMetrics methodMetrics = metrics.get(method);
+            if (methodMetrics == null) {
+                return invoke(method, target, args);
+            }
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = invoke(method, target, args);
+                failed = false;
+                return result;
+            } finally {
+                methodMetrics.record(System.nanoTime() - start, failed);
+            }
+        };
+        return port.cast(Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, handler));
+    }
+
+    private static String signature(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", method.getName() + "(", ")"));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
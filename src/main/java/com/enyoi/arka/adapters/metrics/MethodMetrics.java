@@ -0,0 +1,32 @@
+package com.enyoi.arka.adapters.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Llamadas, errores y latencia de un metodo de un puerto. El numero de
+ * llamadas es el numero de muestras del histograma, que incluye tambien
+ * las llamadas fallidas.
+ */
+public class MethodMetrics {
+
+    private final String port;
+    private final String method;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    MethodMetrics(String port, String method) {
+        this.port = port;
+        this.method = method;
+    }
+
+    public void record(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public MethodSnapshot snapshot() {
+        return new MethodSnapshot(port, method, errors.sum(), latency.snapshot());
+    }
+}
@@ -0,0 +1,11 @@
+package com.enyoi.arka.adapters.metrics;
+
+/**
+ * Estado de las metricas de un metodo en un instante.
+ */
+public record MethodSnapshot(String port, String method, long errors, HistogramSnapshot latency) {
+
+    public long calls() {
+        return latency.count();
+    }
+}
@@ -0,0 +1,30 @@
+package com.enyoi.arka.adapters.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metricas de todos los puertos instrumentados, identificadas por puerto y
+ * etiqueta de metodo. {@link Instrumentation} etiqueta las sobrecargas con
+ * sus tipos de parametros, asi que cada una tiene metricas propias.
+ */
+public class MetricsRegistry {
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    public MethodMetrics method(String port, String method) {
+        return methods.computeIfAbsent(port + '#' + method, key -> new MethodMetrics(port, method));
+    }
+
+    /**
+     * Estado actual de cada metodo, ordenado por puerto y metodo.
+     */
+    public List<MethodSnapshot> snapshot() {
+        return methods.values().stream()
+                .map(MethodMetrics::snapshot)
+                .sorted(Comparator.comparing(MethodSnapshot::port).thenComparing(MethodSnapshot::method))
+                .toList();
+    }
+}
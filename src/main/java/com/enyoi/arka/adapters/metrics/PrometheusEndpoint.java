@@ -0,0 +1,65 @@
+package com.enyoi.arka.adapters.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Servidor HTTP minimo que publica las metricas en {@code /metrics} para
+ * que Prometheus las recolecte. Escucha solo en la interfaz local y
+ * atiende las peticiones en un unico hilo.
+ */
+public class PrometheusEndpoint implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private PrometheusEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Inicia el servidor en {@code port} (0 elige un puerto libre).
+     */
+    public static PrometheusEndpoint start(PrometheusExporter exporter, int port) {
+        Objects.requireNonNull(exporter);
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.createContext("/metrics", exchange -> respond(exchange, exporter));
+            server.start();
+            return new PrometheusEndpoint(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start metrics endpoint on port " + port, e);
+        }
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, PrometheusExporter exporter) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = exporter.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusExporter.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
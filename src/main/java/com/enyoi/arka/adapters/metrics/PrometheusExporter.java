@@ -0,0 +1,107 @@
+package com.enyoi.arka.adapters.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Exporta un {@link MetricsRegistry} en el formato de texto de Prometheus
+ * (version 0.0.4):
+ *
+ * <pre>
+ * arka_port_calls_total{port="OrderService",method="createOrder"} 1520
+ * arka_port_errors_total{port="OrderService",method="createOrder"} 12
+ * arka_port_latency_seconds{port="OrderService",method="createOrder",quantile="0.99"} 0.0042
+ * </pre>
+ *
+ * La latencia se publica como un {@code summary} con los cuantiles 0.5,
+ * 0.9, 0.99 y 0.999 calculados en el proceso.
+ */
+public class PrometheusExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final MetricsRegistry registry;
+
+    public PrometheusExporter(MetricsRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    public String scrape() {
+        List<MethodSnapshot> snapshots = registry.snapshot();
+        StringBuilder out = new StringBuilder();
+
+        header(out, "arka_port_calls_total", "counter", "Llamadas por puerto y metodo");
+        for (MethodSnapshot snapshot : snapshots) {
+            sample(out, "arka_port_calls_total", labels(snapshot), snapshot.calls());
+        }
+
+        header(out, "arka_port_errors_total", "counter", "Llamadas que terminaron en excepcion");
+        for (MethodSnapshot snapshot : snapshots) {
+            sample(out, "arka_port_errors_total", labels(snapshot), snapshot.errors());
+        }
+
+        header(out, "arka_port_latency_seconds", "summary", "Latencia por puerto y metodo");
+        for (MethodSnapshot snapshot : snapshots) {
+            String labels = labels(snapshot);
+            for (double quantile : QUANTILES) {
+                sample(out, "arka_port_latency_seconds",
+                        labels + ",quantile=\"" + quantile + "\"",
+                        seconds(snapshot.latency().percentile(quantile * 100)));
+            }
+            sample(out, "arka_port_latency_seconds_sum", labels, seconds(snapshot.latency().sum()));
+            sample(out, "arka_port_latency_seconds_count", labels, snapshot.calls());
+        }
+        return out.toString();
+    }
+
+    /**
+     * Escribe el estado actual en {@code file}. Se escribe primero en un
+     * archivo temporal y luego se reemplaza, para que un lector (por ejemplo,
+     * el textfile collector de node_exporter) nunca vea un archivo a medias.
+     */
+    public void writeTo(Path file) {
+        Path absolute = file.toAbsolutePath();
+        try {
+            Files.createDirectories(absolute.getParent());
+            Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+            Files.writeString(temp, scrape(), StandardCharsets.UTF_8);
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metrics to " + file, e);
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append('{').append(labels).append("} ")
+                .append(String.format(Locale.ROOT, "%.9f", value)).append('\n');
+    }
+
+    private static String labels(MethodSnapshot snapshot) {
+        return "port=\"" + escape(snapshot.port()) + "\",method=\"" + escape(snapshot.method()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+}
@@ -0,0 +1,107 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.adapters.out.repository.cache.CacheInvalidation;
+import com.enyoi.arka.adapters.out.repository.cache.CacheStats;
+import com.enyoi.arka.adapters.out.repository.cache.FrequencyCache;
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.ports.out.CustomerRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link CustomerRepository} que cachea solo el email de cada
+ * cliente, el unico dato que necesitan las notificaciones. Guardar la
+ * proyeccion en lugar del cliente completo mantiene acotada la memoria
+ * aunque haya millones de clientes. {@code save} y {@code delete}
+ * invalidan la entrada del cliente con las mismas reglas que
+ * {@link CachingProductRepository}: se invalida otra vez al terminar la
+ * unidad de trabajo y un hilo con escrituras pendientes no usa el cache.
+ */
+public class CachingCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository delegate;
+    private final FrequencyCache<CustomerId, Email> emails;
+    private final CacheInvalidation<CustomerId, Email> invalidation;
+
+    public CachingCustomerRepository(CustomerRepository delegate, int maxSize, Duration ttl) {
+        this(delegate, maxSize, ttl, UnitOfWork.none());
+    }
+
+    public CachingCustomerRepository(CustomerRepository delegate, int maxSize, Duration ttl, UnitOfWork unitOfWork) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.emails = new FrequencyCache<>(maxSize, ttl);
+        this.invalidation = new CacheInvalidation<>(emails, unitOfWork);
+    }
+
+    public CacheStats stats() {
+        return emails.stats();
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        try {
+            return delegate.save(customer);
+        } finally {
+            invalidation.invalidate(List.of(customer.getId()));
+        }
+    }
+
+    @Override
+    public Optional<Customer> findById(CustomerId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Email> findEmailById(CustomerId id) {
+        if (invalidation.hasPendingWrites()) {
+            return delegate.findEmailById(id);
+        }
+        Optional<Email> cached = emails.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = invalidation.generation(id);
+        Optional<Email> email = delegate.findEmailById(id);
+        email.ifPresent(e -> invalidation.putIfUnchanged(id, e, generation));
+        return email;
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Customer> findPage(CustomerId after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Stream<Customer> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void delete(CustomerId id) {
+        try {
+            delegate.delete(id);
+        } finally {
+            invalidation.invalidate(List.of(id));
+        }
+    }
+
+    @Override
+    public boolean existsById(CustomerId id) {
+        if (!invalidation.hasPendingWrites() && emails.peek(id).isPresent()) {
+            return true;
+        }
+        return delegate.existsById(id);
+    }
+}
@@ -0,0 +1,199 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.adapters.out.repository.cache.CacheInvalidation;
+import com.enyoi.arka.adapters.out.repository.cache.CacheStats;
+import com.enyoi.arka.adapters.out.repository.cache.FrequencyCache;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de lectura con cache para {@link ProductRepository}. Las
+ * busquedas por id se sirven desde un {@link FrequencyCache}; cualquier
+ * escritura (incluidos los descuentos de stock) invalida los productos
+ * afectados. Las consultas de listas siempre van a la base de datos.
+ *
+ * <p>La invalidacion se repite cuando termina la unidad de trabajo, tanto
+ * si confirma como si se revierte, y una lectura del delegado solo llena el
+ * cache si el producto no se invalido mientras leia (ver
+ * {@link CacheInvalidation}). Un hilo con escrituras pendientes lee siempre
+ * del delegado y no llena el cache, para no publicar datos que aun pueden
+ * revertirse.
+ *
+ * <p>Como {@link Product} es mutable (stock), el cache guarda y entrega
+ * copias. La correccion del stock no depende del cache: los descuentos son
+ * UPDATE condicionales en la base de datos.
+ */
+public class CachingProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final FrequencyCache<ProductId, Product> cache;
+    private final CacheInvalidation<ProductId, Product> invalidation;
+
+    public CachingProductRepository(ProductRepository delegate, int maxSize, Duration ttl) {
+        this(delegate, maxSize, ttl, UnitOfWork.none());
+    }
+
+    public CachingProductRepository(ProductRepository delegate, int maxSize, Duration ttl, UnitOfWork unitOfWork) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = new FrequencyCache<>(maxSize, ttl);
+        this.invalidation = new CacheInvalidation<>(cache, unitOfWork);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public Product save(Product product) {
+        try {
+            return delegate.save(product);
+        } finally {
+            invalidate(List.of(product.getId()));
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        if (hasPendingWrites()) {
+            return delegate.findById(id);
+        }
+        Optional<Product> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached.map(CachingProductRepository::copy);
+        }
+        long generation = invalidation.generation(id);
+        Optional<Product> product = delegate.findById(id);
+        product.ifPresent(p -> invalidation.putIfUnchanged(id, copy(p), generation));
+        return product;
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<ProductId> ids) {
+        if (hasPendingWrites()) {
+            return delegate.findAllById(ids);
+        }
+        List<Product> products = new ArrayList<>();
+        Map<ProductId, Long> missing = new LinkedHashMap<>();
+        for (ProductId id : new LinkedHashSet<>(ids)) {
+            Optional<Product> cached = cache.get(id);
+            if (cached.isPresent()) {
+                products.add(copy(cached.get()));
+            } else {
+                missing.put(id, invalidation.generation(id));
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Product product : delegate.findAllById(new ArrayList<>(missing.keySet()))) {
+                invalidation.putIfUnchanged(product.getId(), copy(product), missing.get(product.getId()));
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public List<Product> findLowStockProducts(int threshold) {
+        return delegate.findLowStockProducts(threshold);
+    }
+
+    @Override
+    public long countLowStock(int threshold) {
+        return delegate.countLowStock(threshold);
+    }
+
+    @Override
+    public boolean tryDecrementStock(ProductId id, int quantity) {
+        try {
+            return delegate.tryDecrementStock(id, quantity);
+        } finally {
+            invalidate(List.of(id));
+        }
+    }
+
+    @Override
+    public Optional<ProductId> tryDecrementStock(Map<ProductId, Integer> quantities) {
+        try {
+            return delegate.tryDecrementStock(quantities);
+        } finally {
+            invalidate(quantities.keySet());
+        }
+    }
+
+    @Override
+    public boolean incrementStock(ProductId id, int quantity) {
+        try {
+            return delegate.incrementStock(id, quantity);
+        } finally {
+            invalidate(List.of(id));
+        }
+    }
+
+    @Override
+    public void deleteById(ProductId id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidate(List.of(id));
+        }
+    }
+
+    @Override
+    public boolean existsById(ProductId id) {
+        if (!hasPendingWrites() && cache.peek(id).isPresent()) {
+            return true;
+        }
+        return delegate.existsById(id);
+    }
+
+    private boolean hasPendingWrites() {
+        return invalidation.hasPendingWrites();
+    }
+
+    private void invalidate(Collection<ProductId> ids) {
+        invalidation.invalidate(ids);
+    }
+
+    private static Product copy(Product product) {
+        return Product.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .category(product.getCategory())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.ports.out.CustomerQueries;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.CustomerSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Proyecciones de clientes leidas con consultas escalares, sin hidratar
+ * entidades ni validar de nuevo los emails.
+ */
+public class JpaCustomerQueries implements CustomerQueries {
+    private static final String SELECT_SUMMARY = "SELECT c.id, c.name, c.email, c.city FROM CustomerEntity c";
+
+    private final Supplier<EntityManager> entityManagerProvider;
+
+    public JpaCustomerQueries(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = Objects.requireNonNull(entityManagerProvider);
+    }
+
+    private EntityManager entityManager() {
+        return entityManagerProvider.get();
+    }
+
+    @Override
+    public List<CustomerSummary> listCustomers(CustomerId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        TypedQuery<Object[]> query = after == null
+                ? entityManager().createQuery(SELECT_SUMMARY + " ORDER BY c.id", Object[].class)
+                : entityManager().createQuery(SELECT_SUMMARY + " WHERE c.id > :after ORDER BY c.id", Object[].class)
+                        .setParameter("after", after.value());
+        return query.setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> new CustomerSummary(
+                        CustomerId.of((String) row[0]), (String) row[1], (String) row[2], (String) row[3]))
+                .collect(Collectors.toList());
+    }
+}
@@ -4,35 +4,56 @@ import com.enyoi.arka.adapters.out.repository.entity.CustomerEntity;
 import com.enyoi.arka.domain.entities.Customer;
 import com.enyoi.arka.domain.ports.out.CustomerRepository;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class JpaCustomerRepository implements CustomerRepository {
-    private final EntityManager em;
+    // Filas que el driver trae por lectura al recorrer la tabla con streamAll
+    private static final int STREAM_FETCH_SIZE = 500;
 
-    public JpaCustomerRepository(EntityManager em) {
-        this.em = em;
+    private final Supplier<EntityManager> entityManagerProvider;
+
+    public JpaCustomerRepository(EntityManager entityManager) {
+        this(() -> entityManager);
+    }
+
+    public JpaCustomerRepository(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = entityManagerProvider;
+    }
+
+    private EntityManager em() {
+        return entityManagerProvider.get();
     }
 
     @Override
     public Customer save(Customer customer) {
-        EntityTransaction tx = em.getTransaction();
-        try {
+        EntityTransaction tx = em().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
             tx.begin();
+        }
+        try {
             CustomerEntity entity = CustomerEntity.fromDomain(customer);
             if (entity.getId() == null) {
-                em.persist(entity);
+                em().persist(entity);
             } else {
-                em.merge(entity);
+                em().merge(entity);
+            }
+            if (isNewTransaction) {
+                tx.commit();
             }
-            tx.commit();
             return customer;
         } catch (Exception e) {
-            if (tx.isActive()) {
+            if (isNewTransaction && tx.isActive()) {
                 tx.rollback();
             }
             throw e;
@@ -41,40 +62,95 @@ public class JpaCustomerRepository implements CustomerRepository {
 
     @Override
     public Optional<Customer> findById(CustomerId id) {
-        CustomerEntity entity = em.find(CustomerEntity.class, id.value());
+        CustomerEntity entity = em().find(CustomerEntity.class, id.value());
         return entity != null ? Optional.of(entity.toDomain()) : Optional.empty();
     }
 
+    @Override
+    public Optional<Email> findEmailById(CustomerId id) {
+        return em().createQuery("SELECT c.email FROM CustomerEntity c WHERE c.id = :id", String.class)
+                .setParameter("id", id.value())
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(Email::of);
+    }
+
     @Override
     public List<Customer> findAll() {
-        return em.createQuery("SELECT c FROM CustomerEntity c", CustomerEntity.class)
+        return em().createQuery("SELECT c FROM CustomerEntity c", CustomerEntity.class)
+                .getResultList()
+                .stream()
+                .map(CustomerEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Customer> findPage(CustomerId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        TypedQuery<CustomerEntity> query = after == null
+                ? em().createQuery("SELECT c FROM CustomerEntity c ORDER BY c.id", CustomerEntity.class)
+                : em().createQuery("SELECT c FROM CustomerEntity c WHERE c.id > :after ORDER BY c.id", CustomerEntity.class)
+                        .setParameter("after", after.value());
+        return query.setMaxResults(limit)
                 .getResultList()
                 .stream()
                 .map(CustomerEntity::toDomain)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Cursor de solo lectura; cada entidad se desasocia al mapearla para que
+     * la memoria no crezca con el numero de clientes.
+     */
+    @Override
+    public Stream<Customer> streamAll() {
+        EntityManager em = em();
+        return em.createQuery("SELECT c FROM CustomerEntity c", CustomerEntity.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(entity -> {
+                    Customer customer = entity.toDomain();
+                    em.detach(entity);
+                    return customer;
+                });
+    }
+
     @Override
     public void delete(CustomerId id) {
-        EntityTransaction tx = em.getTransaction();
-        try {
+        EntityTransaction tx = em().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
             tx.begin();
-            CustomerEntity entity = em.find(CustomerEntity.class, id.value());
+        }
+        try {
+            CustomerEntity entity = em().find(CustomerEntity.class, id.value());
             if (entity != null) {
-                em.remove(entity);
+                em().remove(entity);
+            }
+            if (isNewTransaction) {
+                tx.commit();
             }
-            tx.commit();
         } catch (Exception e) {
-            if (tx.isActive()) {
+            if (isNewTransaction && tx.isActive()) {
                 tx.rollback();
             }
             throw e;
         }
     }
 
+    /**
+     * Solo consulta la clave primaria, sin hidratar la entidad.
+     */
     @Override
     public boolean existsById(CustomerId id) {
-        CustomerEntity entity = em.find(CustomerEntity.class, id.value());
-        return entity != null;
+        return !em().createQuery("SELECT 1 FROM CustomerEntity c WHERE c.id = :id", Integer.class)
+                .setParameter("id", id.value())
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
     }
 }
@@ -0,0 +1,102 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.adapters.out.repository.entity.OutboxEventEntity;
+import com.enyoi.arka.adapters.out.service.outbox.NotificationOutbox;
+import com.enyoi.arka.adapters.out.service.outbox.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class JpaNotificationOutbox implements NotificationOutbox {
+    private final Supplier<EntityManager> entityManagerProvider;
+
+    public JpaNotificationOutbox(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = entityManagerProvider;
+    }
+
+    private EntityManager entityManager() {
+        return entityManagerProvider.get();
+    }
+
+    @Override
+    public void append(OutboxEvent event) {
+        inTransaction(em -> em.persist(OutboxEventEntity.fromEvent(event)));
+    }
+
+    @Override
+    public List<OutboxEvent> findDue(LocalDateTime now, int limit) {
+        return entityManager().createQuery(
+                        "SELECT e FROM OutboxEventEntity e WHERE e.state = :state AND e.nextAttemptAt <= :now "
+                                + "ORDER BY e.createdAt", OutboxEventEntity.class)
+                .setParameter("state", OutboxEventEntity.State.PENDING)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(OutboxEventEntity::toEvent)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void removeDispatched(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        inTransaction(em -> em.createQuery("DELETE FROM OutboxEventEntity e WHERE e.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate());
+    }
+
+    @Override
+    public void scheduleRetry(String id, int attempts, LocalDateTime nextAttemptAt) {
+        inTransaction(em -> em.createQuery(
+                        "UPDATE OutboxEventEntity e SET e.attempts = :attempts, e.nextAttemptAt = :next WHERE e.id = :id")
+                .setParameter("attempts", attempts)
+                .setParameter("next", nextAttemptAt)
+                .setParameter("id", id)
+                .executeUpdate());
+    }
+
+    @Override
+    public void markFailed(String id, int attempts) {
+        inTransaction(em -> em.createQuery(
+                        "UPDATE OutboxEventEntity e SET e.state = :state, e.attempts = :attempts WHERE e.id = :id")
+                .setParameter("state", OutboxEventEntity.State.FAILED)
+                .setParameter("attempts", attempts)
+                .setParameter("id", id)
+                .executeUpdate());
+    }
+
+    @Override
+    public long countPending() {
+        return entityManager().createQuery(
+                        "SELECT COUNT(e) FROM OutboxEventEntity e WHERE e.state = :state", Long.class)
+                .setParameter("state", OutboxEventEntity.State.PENDING)
+                .getSingleResult();
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
+            tx.begin();
+        }
+        try {
+            work.accept(entityManager());
+            if (isNewTransaction) {
+                tx.commit();
+            }
+        } catch (Exception e) {
+            if (isNewTransaction && tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+}
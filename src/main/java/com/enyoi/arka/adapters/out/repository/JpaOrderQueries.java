@@ -0,0 +1,64 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.OrderStatus;
+import com.enyoi.arka.domain.ports.out.OrderQueries;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Resumenes de ordenes leidos de los totales que guarda la propia tabla
+ * {@code orders}: la consulta no toca los items, no agrupa y no carga
+ * entidades ni construye {@code Money} por linea.
+ */
+public class JpaOrderQueries implements OrderQueries {
+    private static final String SELECT_SUMMARY = "SELECT o.id, o.customerId, o.status, "
+            + "o.totalAmount, o.totalCurrency, o.lineCount "
+            + "FROM OrderEntity o WHERE o.status = :status";
+    private static final String ORDER_BY = " ORDER BY o.id";
+
+    private final Supplier<EntityManager> entityManagerProvider;
+
+    public JpaOrderQueries(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = Objects.requireNonNull(entityManagerProvider);
+    }
+
+    private EntityManager entityManager() {
+        return entityManagerProvider.get();
+    }
+
+    @Override
+    public List<OrderSummary> findByStatus(OrderStatus status, OrderId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        TypedQuery<Object[]> query = after == null
+                ? entityManager().createQuery(SELECT_SUMMARY + ORDER_BY, Object[].class)
+                : entityManager().createQuery(SELECT_SUMMARY + " AND o.id > :after" + ORDER_BY, Object[].class)
+                        .setParameter("after", after.value());
+        return query.setParameter("status", status)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(JpaOrderQueries::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    private static OrderSummary toSummary(Object[] row) {
+        return new OrderSummary(
+                OrderId.of((String) row[0]),
+                CustomerId.of((String) row[1]),
+                (OrderStatus) row[2],
+                (BigDecimal) row[3],
+                (String) row[4],
+                (Integer) row[5]);
+    }
+}
@@ -6,35 +6,72 @@ import com.enyoi.arka.domain.entities.OrderStatus;
 import com.enyoi.arka.domain.ports.out.OrderRepository;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
 import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderStatusChange;
+import com.enyoi.arka.domain.valueobjects.OrderTransition;
+import com.enyoi.arka.domain.valueobjects.OrderTransitionResult;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class JpaOrderRepository implements OrderRepository {
-    private final EntityManager entityManager;
+    // Los items se cargan con fetch join en la misma consulta que las ordenes
+    // para no disparar un SELECT adicional por cada orden (N+1).
+    private static final String SELECT_WITH_ITEMS = "SELECT o FROM OrderEntity o LEFT JOIN FETCH o.items";
+    private static final String SELECT_WITH_ITEMS_AND_EMAIL = "SELECT o, c.email FROM OrderEntity o "
+            + "LEFT JOIN FETCH o.items LEFT JOIN CustomerEntity c ON c.id = o.customerId";
+    // SQLite limita la cantidad de parametros por sentencia; los lotes
+    // grandes se procesan en bloques.
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+    // Ordenes por pagina al recorrer la tabla con streamAll
+    private static final int STREAM_PAGE_SIZE = 500;
+
+    private final Supplier<EntityManager> entityManagerProvider;
 
     public JpaOrderRepository(EntityManager entityManager) {
-        this.entityManager = entityManager;
+        this(() -> entityManager);
+    }
+
+    public JpaOrderRepository(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = entityManagerProvider;
+    }
+
+    private EntityManager entityManager() {
+        return entityManagerProvider.get();
     }
 
     @Override
     public Order save(Order order) {
-        EntityTransaction tx = entityManager.getTransaction();
-        try {
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
             tx.begin();
-            OrderEntity entity = OrderEntity.fromDomain(order);
-            if (entity.getId() == null) {
-                entityManager.persist(entity);
+        }
+        try {
+            // En lugar de merge (que reemplaza la coleccion de items) se
+            // actualiza la entidad gestionada y Hibernate aplica solo el diff
+            OrderEntity entity = findEntity(order.getId().value());
+            if (entity == null) {
+                entityManager().persist(OrderEntity.fromDomain(order));
             } else {
-                entityManager.merge(entity);
+                entity.updateFrom(order);
+            }
+            if (isNewTransaction) {
+                tx.commit();
             }
-            tx.commit();
             return order;
         } catch (Exception e) {
-            if (tx.isActive()) {
+            if (isNewTransaction && tx.isActive()) {
                 tx.rollback();
             }
             throw e;
@@ -43,22 +80,83 @@ public class JpaOrderRepository implements OrderRepository {
 
     @Override
     public Optional<Order> findById(OrderId id) {
-        OrderEntity entity = entityManager.find(OrderEntity.class, id.value());
-        return entity != null ? Optional.of(entity.toDomain()) : Optional.empty();
+        return Optional.ofNullable(findEntity(id.value())).map(OrderEntity::toDomain);
+    }
+
+    private OrderEntity findEntity(String id) {
+        return entityManager().createQuery(SELECT_WITH_ITEMS + " WHERE o.id = :id", OrderEntity.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .orElse(null);
     }
 
     @Override
     public List<Order> findAll() {
-        return entityManager.createQuery("SELECT o FROM OrderEntity o", OrderEntity.class)
+        return entityManager().createQuery(SELECT_WITH_ITEMS, OrderEntity.class)
                 .getResultList()
                 .stream()
                 .map(OrderEntity::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Order> findPage(OrderId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return findPageEntities(after == null ? null : after.value(), limit).stream()
+                .map(OrderEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Recorre la tabla por paginas de {@value #STREAM_PAGE_SIZE} ordenes. La
+     * pagina siguiente se lee solo cuando el consumidor termina la actual, y
+     * las ordenes de cada pagina (con sus items) se desasocian del contexto
+     * de persistencia al mapearlas, asi que la memoria no crece con el
+     * numero de ordenes. Se pagina en lugar de usar un cursor porque el
+     * fetch join de items no se puede recorrer fila a fila sin repetir ordenes.
+     */
+    @Override
+    public Stream<Order> streamAll() {
+        return Stream.iterate(streamPage(null), page -> !page.isEmpty(),
+                        page -> page.size() < STREAM_PAGE_SIZE
+                                ? List.of()
+                                : streamPage(page.get(page.size() - 1).getId().value()))
+                .flatMap(List::stream);
+    }
+
+    private List<Order> streamPage(String after) {
+        List<OrderEntity> entities = findPageEntities(after, STREAM_PAGE_SIZE);
+        List<Order> orders = entities.stream().map(OrderEntity::toDomain).collect(Collectors.toList());
+        entities.forEach(entityManager()::detach);
+        return orders;
+    }
+
+    /**
+     * Primero se eligen los ids de la pagina sobre el indice de la clave
+     * primaria y luego se cargan esas ordenes con sus items. Limitar
+     * directamente el fetch join obligaria a Hibernate a paginar en memoria.
+     */
+    private List<OrderEntity> findPageEntities(String after, int limit) {
+        TypedQuery<String> ids = after == null
+                ? entityManager().createQuery("SELECT o.id FROM OrderEntity o ORDER BY o.id", String.class)
+                : entityManager().createQuery("SELECT o.id FROM OrderEntity o WHERE o.id > :after ORDER BY o.id", String.class)
+                        .setParameter("after", after);
+        List<String> page = ids.setMaxResults(limit).getResultList();
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        return entityManager().createQuery(SELECT_WITH_ITEMS + " WHERE o.id IN :ids ORDER BY o.id", OrderEntity.class)
+                .setParameter("ids", page)
+                .getResultList();
+    }
+
     @Override
     public List<Order> findByCustomerId(CustomerId customerId) {
-        return entityManager.createQuery("SELECT o FROM OrderEntity o WHERE o.customerId = :customerId", OrderEntity.class)
+        return entityManager().createQuery(SELECT_WITH_ITEMS + " WHERE o.customerId = :customerId", OrderEntity.class)
                 .setParameter("customerId", customerId.value())
                 .getResultList()
                 .stream()
@@ -68,7 +166,7 @@ public class JpaOrderRepository implements OrderRepository {
 
     @Override
     public List<Order> findByStatus(OrderStatus status) {
-        return entityManager.createQuery("SELECT o FROM OrderEntity o WHERE o.status = :status", OrderEntity.class)
+        return entityManager().createQuery(SELECT_WITH_ITEMS + " WHERE o.status = :status", OrderEntity.class)
                 .setParameter("status", status)
                 .getResultList()
                 .stream()
@@ -78,12 +176,22 @@ public class JpaOrderRepository implements OrderRepository {
 
     @Override
     public List<Order> findPendingOrders() {
-        return entityManager.createQuery("SELECT o FROM OrderEntity o WHERE o.status = :status", OrderEntity.class)
-                .setParameter("status", OrderStatus.PENDIENTE)
-                .getResultList()
-                .stream()
-                .map(OrderEntity::toDomain)
-                .collect(Collectors.toList());
+        return findByStatus(OrderStatus.PENDIENTE);
+    }
+
+    // Ambos conteos se resuelven sobre los indices de status y customer_id
+    @Override
+    public long countByStatus(OrderStatus status) {
+        return entityManager().createQuery("SELECT COUNT(o) FROM OrderEntity o WHERE o.status = :status", Long.class)
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+
+    @Override
+    public long countByCustomer(CustomerId customerId) {
+        return entityManager().createQuery("SELECT COUNT(o) FROM OrderEntity o WHERE o.customerId = :customerId", Long.class)
+                .setParameter("customerId", customerId.value())
+                .getSingleResult();
     }
 
     @Override
@@ -93,25 +201,158 @@ public class JpaOrderRepository implements OrderRepository {
 
     @Override
     public void deleteById(OrderId id) {
-        EntityTransaction tx = entityManager.getTransaction();
-        try {
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
             tx.begin();
-            OrderEntity entity = entityManager.find(OrderEntity.class, id.value());
+        }
+        try {
+            OrderEntity entity = entityManager().find(OrderEntity.class, id.value());
             if (entity != null) {
-                entityManager.remove(entity);
+                entityManager().remove(entity);
+            }
+            if (isNewTransaction) {
+                tx.commit();
             }
-            tx.commit();
         } catch (Exception e) {
-            if (tx.isActive()) {
+            if (isNewTransaction && tx.isActive()) {
                 tx.rollback();
             }
             throw e;
         }
     }
 
+    /**
+     * Un UPDATE condicional sobre {@code status}/{@code updated_at} y un
+     * SELECT que trae la orden, sus items y el email del cliente. No se
+     * reescribe el grafo de la orden ni se consulta el cliente por separado.
+     */
+    @Override
+    public Optional<OrderStatusChange> transitionStatus(OrderId id, OrderStatus expected, OrderStatus next) {
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
+            tx.begin();
+        }
+        try {
+            int updated = entityManager().createQuery(
+                            "UPDATE OrderEntity o SET o.status = :next, o.updatedAt = :updatedAt "
+                                    + "WHERE o.id = :id AND o.status = :expected")
+                    .setParameter("next", next)
+                    .setParameter("updatedAt", LocalDateTime.now())
+                    .setParameter("id", id.value())
+                    .setParameter("expected", expected)
+                    .executeUpdate();
+
+            Optional<OrderStatusChange> change = Optional.empty();
+            if (updated == 1) {
+                evictFromPersistenceContext(id.value());
+                change = entityManager().createQuery(SELECT_WITH_ITEMS_AND_EMAIL + " WHERE o.id = :id", Object[].class)
+                        .setParameter("id", id.value())
+                        .getResultList()
+                        .stream()
+                        .findFirst()
+                        .map(row -> new OrderStatusChange(((OrderEntity) row[0]).toDomain(), (String) row[1]));
+            }
+            if (isNewTransaction) {
+                tx.commit();
+            }
+            return change;
+        } catch (Exception e) {
+            if (isNewTransaction && tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Por cada bloque de ids: un SELECT que lee estado y email del cliente y
+     * un UPDATE sobre las ordenes elegibles (en el estado esperado y con
+     * cliente). Todo corre en la misma
+     * transaccion, asi que la lectura y la escritura ven el mismo estado.
+     */
+    @Override
+    public List<OrderTransition> transitionStatuses(Collection<OrderId> ids, OrderStatus expected, OrderStatus next) {
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
+            tx.begin();
+        }
+        try {
+            List<String> values = ids.stream()
+                    .map(OrderId::value)
+                    .distinct()
+                    .collect(Collectors.toList());
+            LocalDateTime updatedAt = LocalDateTime.now();
+            Map<String, OrderTransition> transitions = new HashMap<>();
+
+            for (int from = 0; from < values.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                List<String> chunk = values.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, values.size()));
+                List<String> eligible = new ArrayList<>();
+                List<Object[]> rows = entityManager().createQuery(
+                                "SELECT o.id, o.status, c.email FROM OrderEntity o "
+                                        + "LEFT JOIN CustomerEntity c ON c.id = o.customerId WHERE o.id IN :ids", Object[].class)
+                        .setParameter("ids", chunk)
+                        .getResultList();
+                for (Object[] row : rows) {
+                    String id = (String) row[0];
+                    if (row[1] != expected) {
+                        transitions.put(id, new OrderTransition(OrderId.of(id), OrderTransitionResult.ILLEGAL_STATE, null));
+                    } else if (row[2] == null) {
+                        transitions.put(id, new OrderTransition(OrderId.of(id), OrderTransitionResult.CUSTOMER_NOT_FOUND, null));
+                    } else {
+                        eligible.add(id);
+                        transitions.put(id, new OrderTransition(OrderId.of(id), OrderTransitionResult.OK, (String) row[2]));
+                    }
+                }
+                if (eligible.isEmpty()) {
+                    continue;
+                }
+                int updated = entityManager().createQuery(
+                                "UPDATE OrderEntity o SET o.status = :next, o.updatedAt = :updatedAt "
+                                        + "WHERE o.id IN :ids AND o.status = :expected")
+                        .setParameter("next", next)
+                        .setParameter("updatedAt", updatedAt)
+                        .setParameter("ids", eligible)
+                        .setParameter("expected", expected)
+                        .executeUpdate();
+                if (updated != eligible.size()) {
+                    throw new IllegalStateException("Orders changed status concurrently during batch transition");
+                }
+                eligible.forEach(this::evictFromPersistenceContext);
+            }
+            if (isNewTransaction) {
+                tx.commit();
+            }
+            return values.stream()
+                    .map(id -> transitions.getOrDefault(id,
+                            new OrderTransition(OrderId.of(id), OrderTransitionResult.NOT_FOUND, null)))
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            if (isNewTransaction && tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+    // El UPDATE masivo no pasa por el contexto de persistencia; se desasocia
+    // la orden (y sus items, por cascada) para que el SELECT lea el estado nuevo.
+    private void evictFromPersistenceContext(String id) {
+        entityManager().detach(entityManager().getReference(OrderEntity.class, id));
+    }
+
+    /**
+     * Solo consulta la clave primaria, sin cargar la orden ni sus items en
+     * el contexto de persistencia.
+     */
     @Override
     public boolean existsById(OrderId id) {
-        OrderEntity entity = entityManager.find(OrderEntity.class, id.value());
-        return entity != null;
+        return !entityManager().createQuery("SELECT 1 FROM OrderEntity o WHERE o.id = :id", Integer.class)
+                .setParameter("id", id.value())
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
     }
 }
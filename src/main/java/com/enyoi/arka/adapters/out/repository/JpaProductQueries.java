@@ -0,0 +1,90 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.ports.out.ProductQueries;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import com.enyoi.arka.domain.valueobjects.ProductSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Proyecciones de productos leidas con consultas escalares: Hibernate no
+ * hidrata entidades ni las registra en el contexto de persistencia.
+ */
+public class JpaProductQueries implements ProductQueries {
+    private static final String SELECT_SUMMARY =
+            "SELECT p.id, p.name, p.category, p.stock, p.priceAmount, p.priceCurrency FROM ProductEntity p";
+    // SQLite limita la cantidad de parametros por sentencia; los lotes
+    // grandes se procesan en bloques.
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+    private static final Comparator<ProductSummary> BY_STOCK = Comparator.comparingInt(ProductSummary::stock)
+            .thenComparing(summary -> summary.id().value());
+
+    private final Supplier<EntityManager> entityManagerProvider;
+
+    public JpaProductQueries(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = Objects.requireNonNull(entityManagerProvider);
+    }
+
+    private EntityManager entityManager() {
+        return entityManagerProvider.get();
+    }
+
+    @Override
+    public List<ProductSummary> listProducts(ProductId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        TypedQuery<Object[]> query = after == null
+                ? entityManager().createQuery(SELECT_SUMMARY + " ORDER BY p.id", Object[].class)
+                : entityManager().createQuery(SELECT_SUMMARY + " WHERE p.id > :after ORDER BY p.id", Object[].class)
+                        .setParameter("after", after.value());
+        return query.setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(JpaProductQueries::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Los ids se consultan en bloques para no superar el limite de
+     * parametros de SQLite con catalogos grandes; cada bloque usa la clave
+     * primaria y los resultados se ordenan en memoria.
+     */
+    @Override
+    public List<ProductSummary> findLowStock(Collection<ProductId> lowStockIds) {
+        List<String> ids = lowStockIds.stream()
+                .map(ProductId::value)
+                .distinct()
+                .collect(Collectors.toList());
+        List<ProductSummary> summaries = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            entityManager().createQuery(SELECT_SUMMARY + " WHERE p.id IN :ids", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(row -> summaries.add(toSummary(row)));
+        }
+        summaries.sort(BY_STOCK);
+        return summaries;
+    }
+
+    private static ProductSummary toSummary(Object[] row) {
+        return new ProductSummary(
+                ProductId.of((String) row[0]),
+                (String) row[1],
+                (ProductCategory) row[2],
+                ((Number) row[3]).intValue(),
+                (BigDecimal) row[4],
+                (String) row[5]);
+    }
+}
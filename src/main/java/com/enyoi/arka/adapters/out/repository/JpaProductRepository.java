@@ -8,17 +8,37 @@ import com.enyoi.arka.domain.valueobjects.Money;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class JpaProductRepository implements ProductRepository {
+    // Filas que el driver trae por lectura al recorrer la tabla con streamAll
+    private static final int STREAM_FETCH_SIZE = 500;
 
-    private final EntityManager entityManager;
+    private final Supplier<EntityManager> entityManagerProvider;
 
     public JpaProductRepository(EntityManager entityManager) {
-        this.entityManager = entityManager;
+        this(() -> entityManager);
+    }
+
+    /**
+     * Obtiene el EntityManager en cada operacion, por ejemplo el de la
+     * unidad de trabajo activa del hilo ({@code JpaUnitOfWork::currentEntityManager}).
+     */
+    public JpaProductRepository(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = entityManagerProvider;
+    }
+
+    private EntityManager entityManager() {
+        return entityManagerProvider.get();
     }
 
     private Product toDomain(ProductEntity entity) {
@@ -34,7 +54,7 @@ public class JpaProductRepository implements ProductRepository {
 
     @Override
     public Product save(Product product) {
-        EntityTransaction tx = entityManager.getTransaction();
+        EntityTransaction tx = entityManager().getTransaction();
         boolean isNewTransaction = !tx.isActive();
         if (isNewTransaction) {
             tx.begin();
@@ -42,9 +62,9 @@ public class JpaProductRepository implements ProductRepository {
         try {
             ProductEntity entity = ProductEntity.fromDomain(product);
             if (entity.getId() == null) {
-                entityManager.persist(entity);
+                entityManager().persist(entity);
             } else {
-                entityManager.merge(entity);
+                entityManager().merge(entity);
             }
             if (isNewTransaction) {
                 tx.commit();
@@ -60,23 +80,82 @@ public class JpaProductRepository implements ProductRepository {
 
     @Override
     public Optional<Product> findById(ProductId id) {
-        ProductEntity entity = entityManager.find(ProductEntity.class, id.value());
+        ProductEntity entity = entityManager().find(ProductEntity.class, id.value());
         return entity != null ? Optional.of(entity.toDomain()) : Optional.empty();
     }
 
+    @Override
+    public List<Product> findAllById(Collection<ProductId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = ids.stream()
+                .map(ProductId::value)
+                .distinct()
+                .collect(Collectors.toList());
+        return entityManager().createQuery("SELECT p FROM ProductEntity p WHERE p.id IN :ids", ProductEntity.class)
+                .setParameter("ids", values)
+                .getResultList()
+                .stream()
+                .map(ProductEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Product> findAll() {
-        return entityManager.createQuery("SELECT p FROM ProductEntity p", ProductEntity.class)
+        return entityManager().createQuery("SELECT p FROM ProductEntity p", ProductEntity.class)
                 .getResultList()
                 .stream()
                 .map(ProductEntity::toDomain)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Paginacion por cursor sobre la clave primaria: cada pagina es un
+     * recorrido del indice a partir de {@code after}, sin OFFSET, asi que su
+     * costo no crece con la posicion en la tabla.
+     */
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        TypedQuery<ProductEntity> query = after == null
+                ? entityManager().createQuery("SELECT p FROM ProductEntity p ORDER BY p.id", ProductEntity.class)
+                : entityManager().createQuery("SELECT p FROM ProductEntity p WHERE p.id > :after ORDER BY p.id", ProductEntity.class)
+                        .setParameter("after", after.value());
+        return query.setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(ProductEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lee la tabla con un cursor de solo lectura y desasocia cada entidad
+     * del contexto de persistencia apenas se mapea, de modo que la memoria
+     * no crece con el numero de filas. Las entidades que el llamador ya
+     * tenia cargadas tambien se desasocian: no conviene mezclar el
+     * recorrido con cambios pendientes sobre productos.
+     */
+    @Override
+    public Stream<Product> streamAll() {
+        EntityManager em = entityManager();
+        return em.createQuery("SELECT p FROM ProductEntity p", ProductEntity.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(entity -> {
+                    Product product = entity.toDomain();
+                    em.detach(entity);
+                    return product;
+                });
+    }
+
     @Override
     public List<Product> findByCategory(String categoryName) {
         ProductCategory category = ProductCategory.valueOf(categoryName);
-        return entityManager.createQuery("SELECT p FROM ProductEntity p WHERE p.category = :category", ProductEntity.class)
+        return entityManager().createQuery("SELECT p FROM ProductEntity p WHERE p.category = :category", ProductEntity.class)
                 .setParameter("category", category)
                 .getResultList()
                 .stream()
@@ -86,7 +165,7 @@ public class JpaProductRepository implements ProductRepository {
 
     @Override
     public List<Product> findLowStockProducts(int threshold) {
-        return entityManager.createQuery("SELECT p FROM ProductEntity p WHERE p.stock <= :threshold", ProductEntity.class)
+        return entityManager().createQuery("SELECT p FROM ProductEntity p WHERE p.stock < :threshold", ProductEntity.class)
                 .setParameter("threshold", threshold)
                 .getResultList()
                 .stream()
@@ -94,17 +173,132 @@ public class JpaProductRepository implements ProductRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long countLowStock(int threshold) {
+        return entityManager().createQuery("SELECT COUNT(p) FROM ProductEntity p WHERE p.stock < :threshold", Long.class)
+                .setParameter("threshold", threshold)
+                .getSingleResult();
+    }
+
+    @Override
+    public boolean tryDecrementStock(ProductId id, int quantity) {
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
+            tx.begin();
+        }
+        try {
+            boolean decremented = decrementStock(id.value(), quantity);
+            if (isNewTransaction) {
+                tx.commit();
+            }
+            return decremented;
+        } catch (Exception e) {
+            if (isNewTransaction && tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Descuenta el stock de varios productos. Retorna el primer producto sin
+     * stock suficiente, o vacio si todos los descuentos se aplicaron. En su
+     * propia transaccion es atomico: si un descuento falla se revierten los
+     * anteriores. Dentro de una transaccion exterior los descuentos ya
+     * aplicados quedan en ella, y es el llamador quien debe revertirla.
+     */
+    @Override
+    public Optional<ProductId> tryDecrementStock(Map<ProductId, Integer> quantities) {
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
+            tx.begin();
+        }
+        try {
+            for (Map.Entry<ProductId, Integer> entry : quantities.entrySet()) {
+                if (!decrementStock(entry.getKey().value(), entry.getValue())) {
+                    if (isNewTransaction) {
+                        tx.rollback();
+                    }
+                    return Optional.of(entry.getKey());
+                }
+            }
+            if (isNewTransaction) {
+                tx.commit();
+            }
+            return Optional.empty();
+        } catch (Exception e) {
+            if (isNewTransaction && tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean incrementStock(ProductId id, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        EntityTransaction tx = entityManager().getTransaction();
+        boolean isNewTransaction = !tx.isActive();
+        if (isNewTransaction) {
+            tx.begin();
+        }
+        try {
+            int updated = entityManager().createQuery("UPDATE ProductEntity p SET p.stock = p.stock + :quantity WHERE p.id = :id")
+                    .setParameter("quantity", quantity)
+                    .setParameter("id", id.value())
+                    .executeUpdate();
+            evictFromPersistenceContext(id.value());
+            if (isNewTransaction) {
+                tx.commit();
+            }
+            return updated == 1;
+        } catch (Exception e) {
+            if (isNewTransaction && tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * UPDATE condicional: la base de datos solo descuenta si hay stock
+     * suficiente, por lo que dos ordenes concurrentes nunca pueden dejar el
+     * stock en negativo. El numero de filas afectadas indica el resultado.
+     */
+    private boolean decrementStock(String id, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        int updated = entityManager().createQuery(
+                        "UPDATE ProductEntity p SET p.stock = p.stock - :quantity WHERE p.id = :id AND p.stock >= :quantity")
+                .setParameter("quantity", quantity)
+                .setParameter("id", id)
+                .executeUpdate();
+        evictFromPersistenceContext(id);
+        return updated == 1;
+    }
+
+    // Las actualizaciones masivas no pasan por el contexto de persistencia;
+    // se desasocia la entidad para que la siguiente lectura vea el stock real.
+    private void evictFromPersistenceContext(String id) {
+        entityManager().detach(entityManager().getReference(ProductEntity.class, id));
+    }
+
     @Override
     public void deleteById(ProductId id) {
-        EntityTransaction tx = entityManager.getTransaction();
+        EntityTransaction tx = entityManager().getTransaction();
         boolean isNewTransaction = !tx.isActive();
         if (isNewTransaction) {
             tx.begin();
         }
         try {
-            ProductEntity entity = entityManager.find(ProductEntity.class, id.value());
+            ProductEntity entity = entityManager().find(ProductEntity.class, id.value());
             if (entity != null) {
-                entityManager.remove(entity);
+                entityManager().remove(entity);
             }
             if (isNewTransaction) {
                 tx.commit();
@@ -117,9 +311,16 @@ public class JpaProductRepository implements ProductRepository {
         }
     }
 
+    /**
+     * Solo consulta la clave primaria: SQLite responde desde el indice, sin
+     * leer la fila ni hidratar la entidad en el contexto de persistencia.
+     */
     @Override
     public boolean existsById(ProductId id) {
-        ProductEntity entity = entityManager.find(ProductEntity.class, id.value());
-        return entity != null;
+        return !entityManager().createQuery("SELECT 1 FROM ProductEntity p WHERE p.id = :id", Integer.class)
+                .setParameter("id", id.value())
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
     }
 }
@@ -0,0 +1,236 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.ports.out.LowStockIndex;
+import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockThresholds;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de {@link ProductRepository} que mantiene en memoria el
+ * conjunto de productos en stock bajo. Cada escritura de stock (alta,
+ * actualizacion, descuento, reposicion, borrado) registra el nivel del
+ * producto afectado cuando la unidad de trabajo se confirma, asi que
+ * {@link #lowStockProducts()} solo lee de la base de datos los productos
+ * que estan en stock bajo.
+ *
+ * <p>El nivel registrado es el stock absoluto que se lee dentro de la misma
+ * transaccion despues de escribir, no un delta. Cada lectura lleva una
+ * version tomada despues de leer; como las unidades de trabajo que escriben
+ * se serializan, las versiones siguen el orden de los commits y una accion
+ * posterior al commit que llega tarde no pisa un nivel mas nuevo. Los
+ * borrados dejan una marca con su version por el mismo motivo.
+ *
+ * <p>El indice se carga con {@link #rebuild()}. Quien necesite saber cuando
+ * un producto sale del stock bajo (por ejemplo, para volver a alertarlo si
+ * cae de nuevo) se registra con {@link #addRecoveryListener}.
+ */
+public class LowStockTrackingProductRepository implements ProductRepository, LowStockIndex {
+
+    private final ProductRepository delegate;
+    private final LowStockThresholds thresholds;
+    private final UnitOfWork unitOfWork;
+    private final Map<ProductId, StockLevel> levels = new ConcurrentHashMap<>();
+    private final Set<ProductId> lowStock = ConcurrentHashMap.newKeySet();
+    private final AtomicLong versions = new AtomicLong();
+    private final List<Consumer<ProductId>> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    public LowStockTrackingProductRepository(ProductRepository delegate, LowStockThresholds thresholds,
+                                             UnitOfWork unitOfWork) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.thresholds = Objects.requireNonNull(thresholds);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+    }
+
+    /**
+     * Reconstruye el indice recorriendo todos los productos del repositorio
+     * con memoria constante. Corre en una unidad de trabajo que escribe para
+     * que su lectura quede ordenada con las escrituras concurrentes; los
+     * niveles mas antiguos que la reconstruccion se descartan.
+     */
+    public void rebuild() {
+        unitOfWork.run(() -> {
+            long version = versions.incrementAndGet();
+            try (Stream<Product> products = delegate.streamAll()) {
+                products.forEach(product -> record(product.getId(), StockLevel.of(product, version)));
+            }
+            levels.keySet().forEach(id -> levels.computeIfPresent(id, (key, level) -> {
+                if (level.version() >= version) {
+                    return level;
+                }
+                lowStock.remove(key);
+                return null;
+            }));
+        });
+    }
+
+    /**
+     * Registra una accion que recibe el id de cada producto que sale del
+     * stock bajo (repuesto por encima de su umbral o borrado). Corre despues
+     * del commit que lo saca, en el hilo que lo confirmo.
+     */
+    public void addRecoveryListener(Consumer<ProductId> listener) {
+        recoveryListeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public List<Product> lowStockProducts() {
+        if (lowStock.isEmpty()) {
+            return List.of();
+        }
+        return unitOfWork.read(() -> delegate.findAllById(Set.copyOf(lowStock)));
+    }
+
+    @Override
+    public Set<ProductId> lowStockIds() {
+        return Set.copyOf(lowStock);
+    }
+
+    @Override
+    public int lowStockCount() {
+        return lowStock.size();
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        StockLevel level = StockLevel.of(saved, versions.incrementAndGet());
+        unitOfWork.afterCommit(() -> record(saved.getId(), level));
+        return saved;
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<ProductId> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public List<Product> findLowStockProducts(int threshold) {
+        return delegate.findLowStockProducts(threshold);
+    }
+
+    @Override
+    public long countLowStock(int threshold) {
+        return delegate.countLowStock(threshold);
+    }
+
+    @Override
+    public boolean tryDecrementStock(ProductId id, int quantity) {
+        boolean decremented = delegate.tryDecrementStock(id, quantity);
+        if (decremented) {
+            trackCurrent(List.of(id));
+        }
+        return decremented;
+    }
+
+    @Override
+    public Optional<ProductId> tryDecrementStock(Map<ProductId, Integer> quantities) {
+        Optional<ProductId> insufficient = delegate.tryDecrementStock(quantities);
+        if (insufficient.isEmpty()) {
+            trackCurrent(quantities.keySet());
+        }
+        return insufficient;
+    }
+
+    @Override
+    public boolean incrementStock(ProductId id, int quantity) {
+        boolean incremented = delegate.incrementStock(id, quantity);
+        if (incremented) {
+            trackCurrent(List.of(id));
+        }
+        return incremented;
+    }
+
+    @Override
+    public void deleteById(ProductId id) {
+        delegate.deleteById(id);
+        StockLevel deleted = StockLevel.deleted(versions.incrementAndGet());
+        unitOfWork.afterCommit(() -> record(id, deleted));
+    }
+
+    @Override
+    public boolean existsById(ProductId id) {
+        return delegate.existsById(id);
+    }
+
+    // Lee el stock que deja la escritura dentro de su transaccion; un
+    // producto que ya no existe queda marcado como borrado
+    private void trackCurrent(Collection<ProductId> ids) {
+        List<Product> products = delegate.findAllById(ids);
+        long version = versions.incrementAndGet();
+        Map<ProductId, StockLevel> current = new HashMap<>();
+        ids.forEach(id -> current.put(id, StockLevel.deleted(version)));
+        products.forEach(product -> current.put(product.getId(), StockLevel.of(product, version)));
+        unitOfWork.afterCommit(() -> current.forEach(this::record));
+    }
+
+    private void record(ProductId id, StockLevel level) {
+        AtomicBoolean recovered = new AtomicBoolean();
+        levels.compute(id, (key, previous) -> {
+            if (previous != null && previous.version() > level.version()) {
+                return previous;
+            }
+            if (!level.deleted() && level.stock() < thresholds.thresholdFor(key, level.category())) {
+                lowStock.add(key);
+            } else {
+                recovered.set(lowStock.remove(key));
+            }
+            return level;
+        });
+        if (recovered.get()) {
+            recoveryListeners.forEach(listener -> listener.accept(id));
+        }
+    }
+
+    private record StockLevel(ProductCategory category, int stock, boolean deleted, long version) {
+
+        static StockLevel of(Product product, long version) {
+            return new StockLevel(product.getCategory(), product.getStock(), false, version);
+        }
+
+        static StockLevel deleted(long version) {
+            return new StockLevel(null, 0, true, version);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.OrderStatus;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.ports.out.SalesReports;
+import com.enyoi.arka.domain.valueobjects.CategoryRevenue;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.CustomerRevenue;
+import com.enyoi.arka.domain.valueobjects.DateRange;
+import com.enyoi.arka.domain.valueobjects.InventoryValuation;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import com.enyoi.arka.domain.valueobjects.ProductSales;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reportes en SQL nativo de SQLite: el GROUP BY se resuelve en la base de
+ * datos sobre {@code orders}, {@code order_items} y {@code products} y
+ * cada fila agregada se mapea a un record, sin cargar entidades.
+ *
+ * <p>El filtro por fecha usa el indice {@code (status, created_at)} de
+ * {@code orders}. Los ingresos por cliente salen de los totales guardados
+ * en {@code orders}; los de categoria y producto necesitan los items.
+ */
+public class SqliteSalesReports implements SalesReports {
+    // Filas que el driver trae por lectura al recorrer un reporte
+    private static final int STREAM_FETCH_SIZE = 500;
+    // Escala de las columnas de montos (NUMERIC(19,4))
+    private static final int AMOUNT_SCALE = 4;
+    private static final List<String> SOLD_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(status -> !status.isPending())
+            .map(Enum::name)
+            .collect(Collectors.toList());
+
+    private static final String SOLD_ORDERS = "o.status IN (:statuses) "
+            + "AND o.created_at >= :start AND o.created_at < :end";
+
+    // sqlite-jdbc guarda los TIMESTAMP como milisegundos desde la epoca; el
+    // dia se calcula en la zona local, la misma con que se escribieron
+    private static final String ORDER_DAY = "CASE typeof(o.created_at) "
+            + "WHEN 'integer' THEN date(o.created_at / 1000, 'unixepoch', 'localtime') "
+            + "ELSE date(o.created_at) END";
+
+    private static final String DAILY_REVENUE_BY_CATEGORY = "SELECT " + ORDER_DAY + " AS day, p.category, "
+            + "i.unit_price_currency, SUM(i.quantity), SUM(i.quantity * i.unit_price_amount) "
+            + "FROM orders o "
+            + "JOIN order_items i ON i.order_id = o.id "
+            + "JOIN products p ON p.id = i.product_id "
+            + "WHERE " + SOLD_ORDERS + " "
+            + "GROUP BY day, p.category, i.unit_price_currency "
+            + "ORDER BY day, p.category";
+
+    private static final String SALES_BY_PRODUCT = "SELECT i.product_id, p.name, SUM(i.quantity), "
+            + "COUNT(DISTINCT o.id), SUM(i.quantity * i.unit_price_amount), i.unit_price_currency "
+            + "FROM orders o "
+            + "JOIN order_items i ON i.order_id = o.id "
+            + "LEFT JOIN products p ON p.id = i.product_id "
+            + "WHERE " + SOLD_ORDERS + " "
+            + "GROUP BY i.product_id, p.name, i.unit_price_currency "
+            + "ORDER BY SUM(i.quantity) DESC, i.product_id";
+
+    private static final String REVENUE_BY_CUSTOMER = "SELECT o.customer_id, c.name, COUNT(*), "
+            + "SUM(o.total_amount), o.total_currency "
+            + "FROM orders o "
+            + "LEFT JOIN customers c ON c.id = o.customer_id "
+            + "WHERE " + SOLD_ORDERS + " "
+            + "GROUP BY o.customer_id, c.name, o.total_currency "
+            + "ORDER BY SUM(o.total_amount) DESC, o.customer_id";
+
+    private static final String INVENTORY_VALUATION = "SELECT p.category, p.price_currency, COUNT(*), "
+            + "SUM(p.stock), SUM(p.stock * p.price_amount) "
+            + "FROM products p "
+            + "GROUP BY p.category, p.price_currency "
+            + "ORDER BY p.category";
+
+    private final Supplier<EntityManager> entityManagerProvider;
+
+    public SqliteSalesReports(Supplier<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = Objects.requireNonNull(entityManagerProvider);
+    }
+
+    private EntityManager entityManager() {
+        return entityManagerProvider.get();
+    }
+
+    @Override
+    public Stream<CategoryRevenue> dailyRevenueByCategory(DateRange range) {
+        return stream(soldOrders(DAILY_REVENUE_BY_CATEGORY, range))
+                .map(row -> new CategoryRevenue(
+                        LocalDate.parse((String) row[0]),
+                        ProductCategory.valueOf((String) row[1]),
+                        (String) row[2],
+                        ((Number) row[3]).longValue(),
+                        toBigDecimal(row[4])));
+    }
+
+    @Override
+    public Stream<ProductSales> salesByProduct(DateRange range) {
+        return stream(soldOrders(SALES_BY_PRODUCT, range))
+                .map(row -> new ProductSales(
+                        ProductId.of((String) row[0]),
+                        (String) row[1],
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue(),
+                        toBigDecimal(row[4]),
+                        (String) row[5]));
+    }
+
+    @Override
+    public Stream<CustomerRevenue> revenueByCustomer(DateRange range) {
+        return stream(soldOrders(REVENUE_BY_CUSTOMER, range))
+                .map(row -> new CustomerRevenue(
+                        CustomerId.of((String) row[0]),
+                        (String) row[1],
+                        ((Number) row[2]).longValue(),
+                        toBigDecimal(row[3]),
+                        (String) row[4]));
+    }
+
+    @Override
+    public Stream<InventoryValuation> inventoryValuation() {
+        return stream(entityManager().createNativeQuery(INVENTORY_VALUATION))
+                .map(row -> new InventoryValuation(
+                        ProductCategory.valueOf((String) row[0]),
+                        (String) row[1],
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue(),
+                        toBigDecimal(row[4])));
+    }
+
+    private Query soldOrders(String sql, DateRange range) {
+        Objects.requireNonNull(range, "Range must not be null");
+        return entityManager().createNativeQuery(sql)
+                .setParameter("statuses", SOLD_STATUSES)
+                .setParameter("start", range.start())
+                .setParameter("end", range.endExclusive());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Stream<Object[]> stream(Query query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    // SQLite entrega las sumas como entero o como real segun los valores;
+    // los reales se redondean a la escala de la columna
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(((Number) value).doubleValue()).setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+        }
+        return BigDecimal.valueOf(((Number) value).longValue());
+    }
+}
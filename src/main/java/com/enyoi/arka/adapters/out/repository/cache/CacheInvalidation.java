@@ -0,0 +1,99 @@
+package com.enyoi.arka.adapters.out.repository.cache;
+
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Coordina las invalidaciones de un {@link FrequencyCache} con la unidad de
+ * trabajo de quien escribe.
+ *
+ * <p>Una escritura invalida sus claves de inmediato y otra vez cuando la
+ * unidad de trabajo termina, tanto si confirma como si se revierte:
+ * mientras la transaccion esta abierta otro hilo puede volver a cachear la
+ * version anterior. El hilo con escrituras pendientes debe leer del
+ * delegado sin llenar el cache ({@link #hasPendingWrites()}).
+ *
+ * <p>Cada invalidacion avanza una generacion por grupo de claves. Quien lee
+ * del delegado toma la generacion antes de leer y solo cachea el valor si
+ * no hubo invalidaciones en el medio ({@link #putIfUnchanged}); asi una
+ * lectura que empezo antes de un commit no deja en el cache el valor
+ * anterior hasta que expire.
+ */
+public class CacheInvalidation<K, V> {
+    // Grupos de claves con generacion propia: una escritura solo descarta
+    // las lecturas concurrentes de su grupo
+    private static final int STRIPES = 64;
+
+    private final FrequencyCache<K, V> cache;
+    private final UnitOfWork unitOfWork;
+    private final ThreadLocal<Set<K>> written = ThreadLocal.withInitial(HashSet::new);
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public CacheInvalidation(FrequencyCache<K, V> cache, UnitOfWork unitOfWork) {
+        this.cache = Objects.requireNonNull(cache);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+    }
+
+    /**
+     * Indica si el hilo actual escribio en la unidad de trabajo activa.
+     */
+    public boolean hasPendingWrites() {
+        return !written.get().isEmpty();
+    }
+
+    /**
+     * Generacion actual de la clave; se toma antes de leer del delegado.
+     */
+    public long generation(K key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * Cachea el valor si la clave no se invalido desde {@code generation}.
+     */
+    public void putIfUnchanged(K key, V value, long generation) {
+        int stripe = stripe(key);
+        if (generations.get(stripe) != generation) {
+            return;
+        }
+        cache.put(key, value);
+        // Una invalidacion que avanzo la generacion entre la comparacion y
+        // el put pudo correr antes del put
+        if (generations.get(stripe) != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    // Invalida ya y otra vez al terminar la unidad de trabajo; sin unidad
+    // activa afterCommit corre enseguida y limpia las escrituras pendientes
+    public void invalidate(Collection<K> keys) {
+        Set<K> pending = written.get();
+        boolean first = pending.isEmpty();
+        pending.addAll(keys);
+        keys.forEach(this::invalidateNow);
+        if (first) {
+            unitOfWork.afterRollback(this::invalidatePending);
+            unitOfWork.afterCommit(this::invalidatePending);
+        }
+    }
+
+    private void invalidatePending() {
+        Set<K> pending = written.get();
+        written.remove();
+        pending.forEach(this::invalidateNow);
+    }
+
+    private void invalidateNow(K key) {
+        generations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+}
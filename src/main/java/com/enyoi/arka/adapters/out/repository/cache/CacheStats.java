@@ -0,0 +1,18 @@
+package com.enyoi.arka.adapters.out.repository.cache;
+
+/**
+ * Contadores acumulados de un {@link FrequencyCache}.
+ */
+public record CacheStats(long hits, long misses, long evictions, int size) {
+
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, evictions=%d, size=%d, hitRatio=%.2f",
+                hits, misses, evictions, size, hitRatio());
+    }
+}
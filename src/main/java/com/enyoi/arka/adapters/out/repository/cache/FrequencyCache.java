@@ -0,0 +1,166 @@
+package com.enyoi.arka.adapters.out.repository.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache en memoria con tamano maximo, expiracion (TTL) y desalojo LFU: al
+ * llenarse se descarta la entrada menos usada y, entre las empatadas, la
+ * menos reciente. Un producto consultado en cada orden no es desplazado
+ * por un recorrido puntual del catalogo, como ocurriria con LRU.
+ *
+ * <p>Todas las operaciones son O(1) y estan sincronizadas: el costo es
+ * despreciable frente a la consulta a la base de datos que evitan.
+ */
+public class FrequencyCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final Map<K, Node<V>> entries = new HashMap<>();
+    // Claves agrupadas por frecuencia, en orden de uso dentro de cada grupo
+    private final Map<Integer, LinkedHashSet<K>> frequencies = new HashMap<>();
+    private int minFrequency;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public FrequencyCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    FrequencyCache(int maxSize, Duration ttl, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public synchronized Optional<V> get(K key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            misses++;
+            return Optional.empty();
+        }
+        if (clock.getAsLong() - node.expiresAt >= 0) {
+            remove(key, node);
+            misses++;
+            return Optional.empty();
+        }
+        touch(key, node);
+        hits++;
+        return Optional.of(node.value);
+    }
+
+    /**
+     * Como {@link #get}, pero sin contar aciertos ni fallos y sin afectar
+     * la frecuencia de uso de la entrada.
+     */
+    public synchronized Optional<V> peek(K key) {
+        Node<V> node = entries.get(key);
+        if (node == null || clock.getAsLong() - node.expiresAt >= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(node.value);
+    }
+
+    public synchronized void put(K key, V value) {
+        Objects.requireNonNull(value, "Cached value must not be null");
+        Node<V> node = entries.get(key);
+        if (node != null) {
+            node.value = value;
+            node.expiresAt = clock.getAsLong() + ttlNanos;
+            touch(key, node);
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(key, new Node<>(value, clock.getAsLong() + ttlNanos));
+        frequencies.computeIfAbsent(1, f -> new LinkedHashSet<>()).add(key);
+        minFrequency = 1;
+    }
+
+    public synchronized void invalidate(K key) {
+        Node<V> node = entries.get(key);
+        if (node != null) {
+            remove(key, node);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        frequencies.clear();
+        minFrequency = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size());
+    }
+
+    private void touch(K key, Node<V> node) {
+        LinkedHashSet<K> bucket = frequencies.get(node.frequency);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            frequencies.remove(node.frequency);
+            if (minFrequency == node.frequency) {
+                minFrequency = node.frequency + 1;
+            }
+        }
+        node.frequency++;
+        frequencies.computeIfAbsent(node.frequency, f -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void evict() {
+        LinkedHashSet<K> bucket = frequencies.get(minFrequency);
+        if (bucket == null) {
+            // minFrequency puede quedar desactualizado tras una invalidacion
+            minFrequency = frequencies.keySet().stream().min(Integer::compare).orElse(0);
+            bucket = frequencies.get(minFrequency);
+            if (bucket == null) {
+                return;
+            }
+        }
+        Iterator<K> oldest = bucket.iterator();
+        K key = oldest.next();
+        remove(key, entries.get(key));
+        evictions++;
+    }
+
+    private void remove(K key, Node<V> node) {
+        entries.remove(key);
+        LinkedHashSet<K> bucket = frequencies.get(node.frequency);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            frequencies.remove(node.frequency);
+        }
+    }
+
+    private static final class Node<V> {
+        private V value;
+        private long expiresAt;
+        private int frequency = 1;
+
+        private Node(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -4,18 +4,102 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
 import jakarta.persistence.Persistence;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.HashMap;
+import java.util.Map;
 
 public class DatabaseConfig {
     private static final String PERSISTENCE_UNIT_NAME = "arka-persistence-unit";
+    private static final String DEFAULT_JDBC_URL = "jdbc:sqlite:arka.db";
+    private static final int DEFAULT_POOL_SIZE = 10;
+    public static final String SECOND_LEVEL_CACHE_PROPERTY = "arka.db.cache";
+    private static final String EHCACHE_CONFIG = "ehcache.xml";
     private static EntityManagerFactory entityManagerFactory;
 
-    public static EntityManagerFactory getEntityManagerFactory() {
+    public static synchronized EntityManagerFactory getEntityManagerFactory() {
         if (entityManagerFactory == null) {
-            entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME);
+            entityManagerFactory = createEntityManagerFactory(System.getProperty("arka.db.url", DEFAULT_JDBC_URL));
         }
         return entityManagerFactory;
     }
 
+    public static EntityManagerFactory createEntityManagerFactory(String jdbcUrl) {
+        return createEntityManagerFactory(jdbcUrl, SqliteProfile.current());
+    }
+
+    /**
+     * Aplica las migraciones pendientes sobre la base de datos indicada y
+     * crea un EntityManagerFactory apuntando a ella. Hibernate no valida ni
+     * actualiza el esquema: de eso se encarga {@link SchemaMigrator}.
+     *
+     * <p>Las conexiones salen de un pool HikariCP ({@code -Darka.db.pool.size})
+     * y cada una se abre con los pragmas del perfil indicado.
+     */
+    public static EntityManagerFactory createEntityManagerFactory(String jdbcUrl, SqliteProfile profile) {
+        return createEntityManagerFactory(jdbcUrl, profile, Boolean.getBoolean(SECOND_LEVEL_CACHE_PROPERTY));
+    }
+
+    /**
+     * Como {@link #createEntityManagerFactory(String, SqliteProfile)}, pero
+     * activa el cache de segundo nivel segun {@code secondLevelCache} en
+     * lugar de {@code -Darka.db.cache}; sirve para compararlo en benchmarks.
+     */
+    public static EntityManagerFactory createEntityManagerFactory(String jdbcUrl, SqliteProfile profile,
+                                                                  boolean secondLevelCache) {
+        String url = profile.apply(jdbcUrl);
+        new SchemaMigrator(url).migrate();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.connection.url", url);
+        properties.put("hibernate.hikari.maximumPoolSize",
+                String.valueOf(Integer.getInteger("arka.db.pool.size", DEFAULT_POOL_SIZE)));
+        if (secondLevelCache) {
+            properties.putAll(secondLevelCacheProperties());
+        }
+        return Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME, properties);
+    }
+
+    /**
+     * Cache de segundo nivel sobre JCache (Ehcache en memoria), activado con
+     * {@code -Darka.db.cache=true}. Solo lo usa {@code CustomerEntity}: los
+     * productos se escriben en cada orden con UPDATE masivos, que vacian la
+     * region entera, y ya tienen su propio cache en
+     * {@code CachingProductRepository}. Las regiones se declaran con tamano
+     * y TTL en {@code ehcache.xml}; una region que falte es un error al
+     * arrancar. Tambien habilita las estadisticas para medir la tasa de
+     * aciertos.
+     */
+    public static Map<String, Object> secondLevelCacheProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.cache.use_second_level_cache", "true");
+        properties.put("hibernate.cache.region.factory_class", "jcache");
+        properties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+        properties.put("hibernate.javax.cache.uri", EHCACHE_CONFIG);
+        properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        properties.put("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+        properties.put("hibernate.generate_statistics", "true");
+        return properties;
+    }
+
+    /**
+     * Estadisticas de Hibernate (aciertos del cache de segundo nivel y de
+     * consultas, sentencias preparadas, etc.). Solo se acumulan si
+     * {@code hibernate.generate_statistics} esta activo.
+     */
+    public static Statistics statistics() {
+        return getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Unidad de trabajo sobre el EntityManagerFactory de la aplicacion: cada
+     * hilo que la ejecuta trabaja con su propio EntityManager.
+     */
+    public static JpaUnitOfWork createUnitOfWork() {
+        return new JpaUnitOfWork(getEntityManagerFactory());
+    }
+
     public static EntityManager createEntityManager() {
         return getEntityManagerFactory().createEntityManager();
     }
@@ -0,0 +1,174 @@
+package com.enyoi.arka.adapters.out.repository.config;
+
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.RollbackException;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.sqlite.SQLiteConfig.TransactionMode;
+import org.sqlite.SQLiteConnection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Unidad de trabajo JPA: cada hilo obtiene su propio EntityManager mientras
+ * dura {@link #execute}, de modo que los mismos repositorios y servicios
+ * pueden usarse desde varios hilos a la vez. Los repositorios obtienen el
+ * EntityManager activo con {@link #currentEntityManager()}.
+ *
+ * <p>Toda la unidad de trabajo corre en una sola transaccion: los
+ * repositorios se unen a ella en lugar de confirmar por su cuenta, asi que
+ * un caso de uso completo cuesta un unico commit y, si falla, no deja
+ * cambios a medias.
+ *
+ * <p>{@link #execute} abre la transaccion con {@code BEGIN IMMEDIATE}: toma
+ * el lock de escritura de SQLite al empezar, asi una transaccion que lee y
+ * luego escribe espera con {@code busy_timeout} en lugar de fallar con
+ * SQLITE_BUSY. {@link #read} abre una transaccion DEFERRED de solo lectura
+ * que no toma el lock de escritura: en WAL corre en paralelo con las
+ * escrituras y con otras lecturas.
+ *
+ * <p>Las acciones registradas con {@link #afterCommit} se ejecutan despues
+ * del commit de la unidad de trabajo exterior y se descartan si esta se
+ * revierte; las de {@link #afterRollback}, al reves. Si la transaccion
+ * termina marcada para rollback, se revierte y {@link #execute} lanza
+ * {@link RollbackException} en lugar de retornar un resultado que no se
+ * guardo.
+ */
+public class JpaUnitOfWork implements UnitOfWork {
+    private final EntityManagerFactory entityManagerFactory;
+    private final ThreadLocal<EntityManager> current = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> readOnly = new ThreadLocal<>();
+    private final ThreadLocal<List<Runnable>> afterCommit = ThreadLocal.withInitial(ArrayList::new);
+    private final ThreadLocal<List<Runnable>> afterRollback = ThreadLocal.withInitial(ArrayList::new);
+
+    public JpaUnitOfWork(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        if (current.get() != null) {
+            if (Boolean.TRUE.equals(readOnly.get())) {
+                throw new IllegalStateException("Cannot write inside a read-only unit of work");
+            }
+            return work.get();
+        }
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        current.set(entityManager);
+        EntityTransaction tx = entityManager.getTransaction();
+        List<Runnable> actions = afterCommit.get();
+        List<Runnable> rollbackActions = afterRollback.get();
+        boolean committed = false;
+        T result;
+        try {
+            begin(entityManager, TransactionMode.IMMEDIATE);
+            result = work.get();
+            if (tx.getRollbackOnly()) {
+                tx.rollback();
+                throw new RollbackException("Transaction was marked for rollback only");
+            }
+            tx.commit();
+            committed = true;
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        } finally {
+            current.remove();
+            afterCommit.remove();
+            afterRollback.remove();
+            entityManager.close();
+            if (!committed) {
+                rollbackActions.forEach(Runnable::run);
+            }
+        }
+        if (committed) {
+            actions.forEach(Runnable::run);
+        }
+        return result;
+    }
+
+    /**
+     * Unidad de trabajo de solo lectura: la sesion no vigila cambios ni hace
+     * flush y la transaccion se revierte al terminar. Todas las consultas
+     * ven la misma instantanea de la base de datos. Dentro de otra unidad de
+     * trabajo se une a ella; una escritura anidada ({@link #execute}) falla.
+     */
+    @Override
+    public <T> T read(Supplier<T> work) {
+        if (current.get() != null) {
+            return work.get();
+        }
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        current.set(entityManager);
+        readOnly.set(true);
+        List<Runnable> rollbackActions = afterRollback.get();
+        try {
+            Session session = entityManager.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            begin(entityManager, TransactionMode.DEFERRED);
+            return work.get();
+        } finally {
+            try {
+                if (entityManager.getTransaction().isActive()) {
+                    entityManager.getTransaction().rollback();
+                }
+            } finally {
+                current.remove();
+                readOnly.remove();
+                afterCommit.remove();
+                afterRollback.remove();
+                entityManager.close();
+                rollbackActions.forEach(Runnable::run);
+            }
+        }
+    }
+
+    /**
+     * sqlite-jdbc emite el BEGIN con el modo configurado en la conexion al
+     * iniciar la transaccion; se fija antes de cada una porque las
+     * conexiones del pool se reutilizan entre lecturas y escrituras.
+     */
+    private static void begin(EntityManager entityManager, TransactionMode mode) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            if (connection.isWrapperFor(SQLiteConnection.class)) {
+                connection.unwrap(SQLiteConnection.class).getConnectionConfig().setTransactionMode(mode);
+            }
+        });
+        entityManager.getTransaction().begin();
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        Objects.requireNonNull(action);
+        if (current.get() == null) {
+            action.run();
+        } else {
+            afterCommit.get().add(action);
+        }
+    }
+
+    @Override
+    public void afterRollback(Runnable action) {
+        Objects.requireNonNull(action);
+        if (current.get() != null) {
+            afterRollback.get().add(action);
+        }
+    }
+
+    public EntityManager currentEntityManager() {
+        EntityManager entityManager = current.get();
+        if (entityManager == null) {
+            throw new IllegalStateException("No active unit of work on thread " + Thread.currentThread().getName());
+        }
+        return entityManager;
+    }
+}
@@ -0,0 +1,146 @@
+package com.enyoi.arka.adapters.out.repository.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aplica en orden los scripts SQL de {@code db/migration} y registra cada
+ * version aplicada en la tabla {@code schema_version}. Reemplaza a
+ * {@code hibernate.hbm2ddl.auto=update}, que no crea indices secundarios y
+ * compara todo el esquema en cada arranque.
+ */
+public class SchemaMigrator {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    private static final String LOCATION = "db/migration/";
+
+    // Los scripts se listan explicitamente: no hay forma portable de
+    // enumerar recursos del classpath dentro de un jar sin dependencias.
+    static final List<String> MIGRATIONS = List.of(
+            "V1__create_tables.sql",
+            "V2__create_indexes.sql",
+            "V3__create_notification_outbox.sql",
+            "V4__add_order_totals.sql",
+            "V5__add_outbox_product_id.sql"
+    );
+
+    private final String jdbcUrl;
+
+    public SchemaMigrator(String jdbcUrl) {
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    /**
+     * Aplica las migraciones pendientes y retorna cuantas se aplicaron.
+     */
+    public int migrate() {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl)) {
+            connection.setAutoCommit(false);
+            createVersionTable(connection);
+            int currentVersion = currentVersion(connection);
+
+            int applied = 0;
+            for (String script : MIGRATIONS) {
+                int version = versionOf(script);
+                if (version <= currentVersion) {
+                    continue;
+                }
+                apply(connection, script, version);
+                applied++;
+            }
+            if (applied > 0) {
+                logger.info("Esquema migrado a la version {} ({} scripts aplicados)", currentVersion(connection), applied);
+            }
+            return applied;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database migration failed for " + jdbcUrl, e);
+        }
+    }
+
+    private void createVersionTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS schema_version ("
+                    + "version INTEGER NOT NULL PRIMARY KEY, "
+                    + "script VARCHAR(255) NOT NULL, "
+                    + "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        }
+        connection.commit();
+    }
+
+    private int currentVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void apply(Connection connection, String script, int version) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements(readScript(script))) {
+                statement.execute(sql);
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO schema_version (version, script) VALUES (?, ?)")) {
+                insert.setInt(1, version);
+                insert.setString(2, script);
+                insert.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw new SQLException("Migration " + script + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    static int versionOf(String script) {
+        int separator = script.indexOf("__");
+        if (!script.startsWith("V") || separator < 2) {
+            throw new IllegalArgumentException("Invalid migration name: " + script);
+        }
+        return Integer.parseInt(script.substring(1, separator));
+    }
+
+    static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    private String readScript(String script) {
+        try (InputStream in = SchemaMigrator.class.getClassLoader().getResourceAsStream(LOCATION + script)) {
+            if (in == null) {
+                throw new IllegalStateException("Migration script not found: " + LOCATION + script);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read migration script " + script, e);
+        }
+    }
+}
@@ -4,8 +4,12 @@ import com.enyoi.arka.domain.entities.Customer;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
 import com.enyoi.arka.domain.valueobjects.Email;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
 @Table(name = "customers")
 public class CustomerEntity {
     @Id
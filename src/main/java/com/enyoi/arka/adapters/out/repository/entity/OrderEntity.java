@@ -1,14 +1,19 @@
 package com.enyoi.arka.adapters.out.repository.entity;
 
 import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.entities.OrderItem;
 import com.enyoi.arka.domain.entities.OrderStatus;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Money;
 import com.enyoi.arka.domain.valueobjects.OrderId;
 import jakarta.persistence.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Entity
@@ -34,6 +39,17 @@ public class OrderEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Totales desnormalizados: se recalculan desde los items en cada
+    // escritura para que los reportes no tengan que leer order_items.
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "total_currency", nullable = false, length = 3)
+    private String totalCurrency = "COP";
+
+    @Column(name = "line_count", nullable = false)
+    private int lineCount;
+
     public OrderEntity() {
     }
 
@@ -49,9 +65,46 @@ public class OrderEntity {
                     .map(item -> OrderItemEntity.fromDomain(item, entity))
                     .collect(Collectors.toList());
         }
+        entity.updateTotals(order);
         return entity;
     }
 
+    /**
+     * Sincroniza la entidad gestionada con la orden de dominio. Las lineas se
+     * comparan por id: solo se insertan las nuevas, se eliminan las que ya no
+     * estan y se actualizan las existentes, de modo que un cambio de estado
+     * toca unicamente la fila de {@code orders}.
+     */
+    public void updateFrom(Order order) {
+        this.customerId = order.getCustomerId().value();
+        this.status = order.getStatus();
+        this.updatedAt = order.getUpdatedAt();
+
+        Map<String, OrderItemEntity> current = new HashMap<>();
+        for (OrderItemEntity item : items) {
+            current.put(item.getId(), item);
+        }
+        List<OrderItemEntity> added = new ArrayList<>();
+        for (OrderItem item : order.getItems()) {
+            OrderItemEntity existing = current.remove(item.getId().value());
+            if (existing != null) {
+                existing.updateFrom(item);
+            } else {
+                added.add(OrderItemEntity.fromDomain(item, this));
+            }
+        }
+        items.removeAll(current.values());
+        items.addAll(added);
+        updateTotals(order);
+    }
+
+    private void updateTotals(Order order) {
+        Money total = order.getTotal();
+        this.totalAmount = total.amount();
+        this.totalCurrency = total.currency().getCurrencyCode();
+        this.lineCount = order.getItems().size();
+    }
+
     public Order toDomain() {
         Order.Builder builder = Order.builder()
                 .id(OrderId.of(id))
@@ -115,4 +168,16 @@ public class OrderEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public String getTotalCurrency() {
+        return totalCurrency;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
 }
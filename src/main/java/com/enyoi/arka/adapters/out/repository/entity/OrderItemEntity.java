@@ -2,6 +2,7 @@ package com.enyoi.arka.adapters.out.repository.entity;
 
 import com.enyoi.arka.domain.entities.OrderItem;
 import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.OrderItemId;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 import jakarta.persistence.*;
 
@@ -35,17 +36,26 @@ public class OrderItemEntity {
 
     public static OrderItemEntity fromDomain(OrderItem item, OrderEntity order) {
         OrderItemEntity entity = new OrderItemEntity();
-        entity.id = java.util.UUID.randomUUID().toString();
+        entity.id = item.getId().value();
         entity.order = order;
-        entity.productId = item.getProductId().value();
-        entity.quantity = item.getQuantity();
-        entity.unitPriceAmount = item.getUnitPrice().amount();
-        entity.unitPriceCurrency = item.getUnitPrice().currency().getCurrencyCode();
+        entity.updateFrom(item);
         return entity;
     }
 
+    /**
+     * Copia los campos de la linea sobre la entidad gestionada. Hibernate
+     * solo emite UPDATE si alguno de ellos cambio realmente.
+     */
+    public void updateFrom(OrderItem item) {
+        this.productId = item.getProductId().value();
+        this.quantity = item.getQuantity();
+        this.unitPriceAmount = item.getUnitPrice().amount();
+        this.unitPriceCurrency = item.getUnitPrice().currency().getCurrencyCode();
+    }
+
     public OrderItem toDomain() {
         return OrderItem.builder()
+                .id(OrderItemId.of(id))
                 .productId(ProductId.of(productId))
                 .quantity(quantity)
                 .unitPrice(Money.of(unitPriceAmount, unitPriceCurrency))
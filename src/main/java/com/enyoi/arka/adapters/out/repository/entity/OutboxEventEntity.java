@@ -0,0 +1,105 @@
+package com.enyoi.arka.adapters.out.repository.entity;
+
+import com.enyoi.arka.adapters.out.service.outbox.OutboxEvent;
+import com.enyoi.arka.adapters.out.service.outbox.OutboxEventType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_outbox")
+public class OutboxEventEntity {
+
+    public enum State {
+        PENDING,
+        FAILED
+    }
+
+    @Id
+    @Column(name = "id", length = 100)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    @Column(name = "order_id", length = 100)
+    private String orderId;
+
+    @Column(name = "customer_email", length = 255)
+    private String customerEmail;
+
+    @Column(name = "status", length = 50)
+    private String status;
+
+    @Column(name = "product_id", length = 100)
+    private String productId;
+
+    @Column(name = "product_name", length = 255)
+    private String productName;
+
+    @Column(name = "current_stock")
+    private Integer currentStock;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private State state;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public OutboxEventEntity() {
+    }
+
+    public static OutboxEventEntity fromEvent(OutboxEvent event) {
+        OutboxEventEntity entity = new OutboxEventEntity();
+        entity.id = event.id();
+        entity.eventType = event.type();
+        entity.orderId = event.orderId();
+        entity.customerEmail = event.customerEmail();
+        entity.status = event.status();
+        entity.productId = event.productId();
+        entity.productName = event.productName();
+        entity.currentStock = event.type() == OutboxEventType.LOW_STOCK_ALERT ? event.currentStock() : null;
+        entity.state = State.PENDING;
+        entity.attempts = event.attempts();
+        entity.createdAt = event.createdAt();
+        entity.nextAttemptAt = event.createdAt();
+        return entity;
+    }
+
+    public OutboxEvent toEvent() {
+        return new OutboxEvent(id, eventType, orderId, customerEmail, status, productId, productName,
+                currentStock != null ? currentStock : 0, attempts, createdAt);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+}
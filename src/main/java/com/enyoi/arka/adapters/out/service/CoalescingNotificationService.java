@@ -0,0 +1,137 @@
+package com.enyoi.arka.adapters.out.service;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Decorador de {@link NotificationService} que evita repetir alertas de
+ * stock bajo. Una alerta de un producto ya alertado se descarta hasta que
+ * vence {@code window} o hasta que el producto sale del stock bajo: cuando
+ * el indice de stock bajo avisa que se repuso ({@link #stockRecovered}) o
+ * cuando no aparece en un resumen de {@link #notifyLowStockDigest}. Asi,
+ * el trafico hacia el destino depende de los cambios de estado y no de la
+ * frecuencia del reporte, y un producto que se repone y vuelve a caer
+ * dentro de la ventana se alerta otra vez.
+ *
+ * <p>Los productos se identifican por {@link ProductId}. Una alerta se
+ * reserva al enviarla y la reserva se libera si el envio falla o si la
+ * unidad de trabajo que la guarda se revierte, para que una alerta que no
+ * se confirmo no silencie las siguientes durante toda la ventana. Las
+ * notificaciones de ordenes pasan sin cambios.
+ */
+public class CoalescingNotificationService implements NotificationService {
+
+    private final NotificationService delegate;
+    private final long windowNanos;
+    private final UnitOfWork unitOfWork;
+    private final LongSupplier nanoClock;
+    private final Map<ProductId, Long> lastAlerted = new HashMap<>();
+    private long suppressed;
+
+    public CoalescingNotificationService(NotificationService delegate, Duration window, UnitOfWork unitOfWork) {
+        this(delegate, window, unitOfWork, System::nanoTime);
+    }
+
+    CoalescingNotificationService(NotificationService delegate, Duration window, UnitOfWork unitOfWork,
+                                  LongSupplier nanoClock) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.windowNanos = window.toNanos();
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+    }
+
+    @Override
+    public void notifyOrderStatusChange(String orderId, String customerEmail, String status) {
+        delegate.notifyOrderStatusChange(orderId, customerEmail, status);
+    }
+
+    @Override
+    public void notifyOrderStatusChanges(List<OrderStatusNotification> notifications) {
+        delegate.notifyOrderStatusChanges(notifications);
+    }
+
+    @Override
+    public void notifyLowStockAlert(ProductId productId, String productName, int currentStock) {
+        Claim claim = claim(List.of(new LowStockAlert(productId, productName, currentStock)), false);
+        if (!claim.alerts().isEmpty()) {
+            send(claim, () -> delegate.notifyLowStockAlert(productId, productName, currentStock));
+        }
+    }
+
+    @Override
+    public void notifyLowStockDigest(List<LowStockAlert> alerts) {
+        Claim claim = claim(alerts, true);
+        if (!claim.alerts().isEmpty()) {
+            send(claim, () -> delegate.notifyLowStockDigest(claim.alerts()));
+        }
+    }
+
+    /**
+     * Olvida la alerta del producto porque salio del stock bajo; la proxima
+     * vez que caiga se alerta de nuevo.
+     */
+    public synchronized void stockRecovered(ProductId productId) {
+        lastAlerted.remove(productId);
+    }
+
+    public synchronized long suppressedCount() {
+        return suppressed;
+    }
+
+    /**
+     * Registra como alertadas las alertas que deben enviarse y las retorna.
+     * Con {@code fullReport}, {@code alerts} es el conjunto completo de
+     * productos en stock bajo y se olvidan los que ya no estan.
+     */
+    private synchronized Claim claim(List<LowStockAlert> alerts, boolean fullReport) {
+        long now = nanoClock.getAsLong();
+        lastAlerted.values().removeIf(alertedAt -> now - alertedAt >= windowNanos);
+        if (fullReport) {
+            Set<ProductId> current = alerts.stream().map(LowStockAlert::productId).collect(Collectors.toSet());
+            lastAlerted.keySet().retainAll(current);
+        }
+        List<LowStockAlert> pending = new ArrayList<>();
+        for (LowStockAlert alert : alerts) {
+            if (lastAlerted.putIfAbsent(alert.productId(), now) == null) {
+                pending.add(alert);
+            } else {
+                suppressed++;
+            }
+        }
+        return new Claim(pending, now);
+    }
+
+    private void send(Claim claim, Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            release(claim);
+            throw e;
+        }
+        unitOfWork.afterRollback(() -> release(claim));
+    }
+
+    // Solo libera las reservas que siguen siendo las de este envio
+    private synchronized void release(Claim claim) {
+        claim.alerts().forEach(alert -> lastAlerted.remove(alert.productId(), claim.claimedAt()));
+    }
+
+    private record Claim(List<LowStockAlert> alerts, long claimedAt) {
+    }
+}
@@ -1,9 +1,15 @@
 package com.enyoi.arka.adapters.out.service;
 
 import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class ConsoleNotificationService implements NotificationService {
     private static final Logger logger = LoggerFactory.getLogger(ConsoleNotificationService.class);
 
@@ -14,8 +20,30 @@ public class ConsoleNotificationService implements NotificationService {
     }
 
     @Override
-    public void notifyLowStockAlert(String productName, int currentStock) {
+    public void notifyOrderStatusChanges(List<OrderStatusNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        String lines = notifications.stream()
+                .map(n -> String.format("  Orden %s para cliente %s cambió a estado: %s", n.orderId(), n.customerEmail(), n.status()))
+                .collect(Collectors.joining(System.lineSeparator()));
+        logger.info("[CAMBIO ESTADO ORDENES] {} órdenes actualizadas{}{}", notifications.size(), System.lineSeparator(), lines);
+    }
+
+    @Override
+    public void notifyLowStockAlert(ProductId productId, String productName, int currentStock) {
         String message = String.format("[ALERTA STOCK BAJO] El producto '%s' tiene stock bajo: %d unidades restantes", productName, currentStock);
         logger.warn(message);
     }
+
+    @Override
+    public void notifyLowStockDigest(List<LowStockAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        String lines = alerts.stream()
+                .map(a -> String.format("  '%s': %d unidades restantes", a.productName(), a.currentStock()))
+                .collect(Collectors.joining(System.lineSeparator()));
+        logger.warn("[ALERTA STOCK BAJO] {} productos con stock bajo{}{}", alerts.size(), System.lineSeparator(), lines);
+    }
 }
@@ -0,0 +1,31 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Almacen persistente de la bandeja de salida. {@link #append} se une a la
+ * transaccion activa, de modo que el evento se confirma o se descarta junto
+ * con el caso de uso que lo genero.
+ */
+public interface NotificationOutbox {
+    void append(OutboxEvent event);
+
+    /**
+     * Eventos pendientes cuyo proximo intento ya vencio, del mas antiguo al
+     * mas reciente.
+     */
+    List<OutboxEvent> findDue(LocalDateTime now, int limit);
+
+    void removeDispatched(Collection<String> ids);
+
+    void scheduleRetry(String id, int attempts, LocalDateTime nextAttemptAt);
+
+    /**
+     * Deja el evento como fallido; no se vuelve a intentar.
+     */
+    void markFailed(String id, int attempts);
+
+    long countPending();
+}
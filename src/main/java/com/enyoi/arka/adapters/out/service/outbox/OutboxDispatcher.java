@@ -0,0 +1,276 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Entrega en segundo plano los eventos de la {@link NotificationOutbox} al
+ * {@link NotificationService} real. Un unico hilo lee lotes de hasta
+ * {@code batchSize} eventos vencidos y los envia agrupados por tipo (los
+ * cambios de estado en una sola llamada a
+ * {@link NotificationService#notifyOrderStatusChanges} y las alertas de
+ * stock bajo en un solo {@link NotificationService#notifyLowStockDigest}).
+ * Corre cada
+ * {@code pollInterval} y, ademas, cada vez que se confirma un evento nuevo.
+ *
+ * <p>Si el envio de un grupo falla, sus eventos se reintentan con espera
+ * exponencial ({@code initialBackoff}, {@code 2 * initialBackoff}, ...
+ * hasta {@code maxBackoff}); al llegar a {@code maxAttempts} quedan como
+ * fallidos. La entrega es al menos una vez: un evento enviado cuyo borrado
+ * falla se vuelve a enviar.
+ */
+public class OutboxDispatcher implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final NotificationOutbox outbox;
+    private final NotificationService delegate;
+    private final UnitOfWork unitOfWork;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Clock clock;
+    private final OutboxMetrics metrics = new OutboxMetrics();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    private OutboxDispatcher(Builder builder) {
+        this.outbox = builder.outbox;
+        this.delegate = builder.delegate;
+        this.unitOfWork = builder.unitOfWork;
+        this.batchSize = builder.batchSize;
+        this.pollInterval = builder.pollInterval;
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.clock = builder.clock;
+    }
+
+    public static Builder builder(NotificationOutbox outbox, NotificationService delegate, UnitOfWork unitOfWork) {
+        return new Builder(outbox, delegate, unitOfWork);
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            throw new IllegalStateException("Outbox dispatcher already started");
+        }
+        metrics.resetDepth(unitOfWork.read(outbox::countPending));
+        executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drainQuietly, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    public OutboxStats stats() {
+        return metrics.stats();
+    }
+
+    long depth() {
+        return metrics.depth();
+    }
+
+    LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Registra {@code count} eventos ya confirmados y adelanta la siguiente
+     * entrega sin esperar al proximo sondeo.
+     */
+    void enqueued(int count) {
+        metrics.enqueued(count);
+        ScheduledExecutorService current = executor;
+        if (current != null && wakeUpPending.compareAndSet(false, true)) {
+            try {
+                current.execute(() -> {
+                    wakeUpPending.set(false);
+                    drainQuietly();
+                });
+            } catch (RejectedExecutionException e) {
+                wakeUpPending.set(false);
+            }
+        }
+    }
+
+    /**
+     * Entrega todos los eventos vencidos y retorna cuantos se entregaron.
+     */
+    public int drain() {
+        int dispatched = 0;
+        while (true) {
+            List<OutboxEvent> batch = unitOfWork.read(() -> outbox.findDue(now(), batchSize));
+            if (batch.isEmpty()) {
+                return dispatched;
+            }
+            dispatched += dispatch(batch);
+            if (batch.size() < batchSize) {
+                return dispatched;
+            }
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            logger.error("Error al entregar la bandeja de salida de notificaciones", e);
+        }
+    }
+
+    private int dispatch(List<OutboxEvent> batch) {
+        Map<OutboxEventType, List<OutboxEvent>> byType = batch.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::type,
+                        () -> new EnumMap<>(OutboxEventType.class), Collectors.toList()));
+        int dispatched = 0;
+        for (Map.Entry<OutboxEventType, List<OutboxEvent>> group : byType.entrySet()) {
+            List<OutboxEvent> events = group.getValue();
+            try {
+                send(group.getKey(), events);
+                unitOfWork.run(() -> outbox.removeDispatched(events.stream()
+                        .map(OutboxEvent::id)
+                        .collect(Collectors.toList())));
+            } catch (RuntimeException e) {
+                logger.warn("Fallo la entrega de {} notificaciones {}: {}", events.size(), group.getKey(), e.getMessage());
+                retry(events);
+                continue;
+            }
+            LocalDateTime now = now();
+            for (OutboxEvent event : events) {
+                metrics.dispatched(Math.max(0, Duration.between(event.createdAt(), now).toMillis()));
+            }
+            dispatched += events.size();
+        }
+        return dispatched;
+    }
+
+    private void send(OutboxEventType type, List<OutboxEvent> events) {
+        switch (type) {
+            case ORDER_STATUS_CHANGE -> delegate.notifyOrderStatusChanges(events.stream()
+                    .map(e -> new OrderStatusNotification(e.orderId(), e.customerEmail(), e.status()))
+                    .collect(Collectors.toList()));
+            case LOW_STOCK_ALERT -> delegate.notifyLowStockDigest(events.stream()
+                    .map(e -> new LowStockAlert(ProductId.of(e.productId()), e.productName(), e.currentStock()))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private void retry(List<OutboxEvent> events) {
+        LocalDateTime now = now();
+        unitOfWork.run(() -> {
+            for (OutboxEvent event : events) {
+                int attempts = event.attempts() + 1;
+                if (attempts >= maxAttempts) {
+                    outbox.markFailed(event.id(), attempts);
+                    metrics.failed();
+                } else {
+                    outbox.scheduleRetry(event.id(), attempts, now.plus(backoff(attempts)));
+                    metrics.retried();
+                }
+            }
+        });
+    }
+
+    Duration backoff(int attempts) {
+        long millis = initialBackoff.toMillis() << Math.min(attempts - 1, 30);
+        return millis <= 0 || millis > maxBackoff.toMillis() ? maxBackoff : Duration.ofMillis(millis);
+    }
+
+    public static class Builder {
+        private final NotificationOutbox outbox;
+        private final NotificationService delegate;
+        private final UnitOfWork unitOfWork;
+        private int batchSize = 100;
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int maxAttempts = 5;
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofMinutes(5);
+        private Clock clock = Clock.systemDefaultZone();
+
+        private Builder(NotificationOutbox outbox, NotificationService delegate, UnitOfWork unitOfWork) {
+            this.outbox = Objects.requireNonNull(outbox);
+            this.delegate = Objects.requireNonNull(delegate);
+            this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        }
+
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder pollInterval(Duration pollInterval) {
+            if (pollInterval.isNegative() || pollInterval.isZero()) {
+                throw new IllegalArgumentException("Poll interval must be positive");
+            }
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("Max attempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder backoff(Duration initialBackoff, Duration maxBackoff) {
+            if (initialBackoff.toMillis() <= 0 || maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException("Backoff must be positive and initial <= max");
+            }
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock);
+            return this;
+        }
+
+        public OutboxDispatcher build() {
+            return new OutboxDispatcher(this);
+        }
+    }
+}
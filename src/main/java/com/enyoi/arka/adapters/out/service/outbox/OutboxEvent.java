@@ -0,0 +1,32 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Notificacion pendiente de entrega guardada en la bandeja de salida. Los
+ * campos que no aplican al tipo de evento quedan en {@code null}.
+ */
+public record OutboxEvent(String id, OutboxEventType type, String orderId, String customerEmail, String status,
+                          String productId, String productName, int currentStock, int attempts,
+                          LocalDateTime createdAt) {
+
+    public OutboxEvent {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(createdAt);
+    }
+
+    public static OutboxEvent orderStatusChange(String orderId, String customerEmail, String status,
+                                                LocalDateTime createdAt) {
+        return new OutboxEvent(UUID.randomUUID().toString(), OutboxEventType.ORDER_STATUS_CHANGE,
+                orderId, customerEmail, status, null, null, 0, 0, createdAt);
+    }
+
+    public static OutboxEvent lowStockAlert(String productId, String productName, int currentStock,
+                                            LocalDateTime createdAt) {
+        return new OutboxEvent(UUID.randomUUID().toString(), OutboxEventType.LOW_STOCK_ALERT,
+                null, null, null, productId, productName, currentStock, 0, createdAt);
+    }
+}
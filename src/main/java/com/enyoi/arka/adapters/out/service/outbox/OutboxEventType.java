@@ -0,0 +1,6 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+public enum OutboxEventType {
+    ORDER_STATUS_CHANGE,
+    LOW_STOCK_ALERT
+}
@@ -0,0 +1,54 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de {@link OutboxDispatcher}, seguros entre hilos.
+ */
+class OutboxMetrics {
+    private final AtomicLong depth = new AtomicLong();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder latencyTotalMillis = new LongAdder();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+    void resetDepth(long pending) {
+        depth.set(pending);
+    }
+
+    void enqueued(int count) {
+        depth.addAndGet(count);
+    }
+
+    void dispatched(long latencyMillis) {
+        decrementDepth();
+        dispatched.increment();
+        latencyTotalMillis.add(latencyMillis);
+        maxLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    void retried() {
+        retried.increment();
+    }
+
+    void failed() {
+        decrementDepth();
+        failed.increment();
+    }
+
+    private void decrementDepth() {
+        depth.updateAndGet(current -> Math.max(0, current - 1));
+    }
+
+    long depth() {
+        return depth.get();
+    }
+
+    OutboxStats stats() {
+        long count = dispatched.sum();
+        double average = count == 0 ? 0.0 : (double) latencyTotalMillis.sum() / count;
+        return new OutboxStats(depth.get(), count, retried.sum(), failed.sum(), average, maxLatencyMillis.get());
+    }
+}
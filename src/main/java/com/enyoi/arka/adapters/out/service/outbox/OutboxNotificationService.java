@@ -0,0 +1,86 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * {@link NotificationService} que no notifica en linea: guarda cada
+ * notificacion en la {@link NotificationOutbox} dentro de la unidad de
+ * trabajo activa, asi que el evento se confirma junto con la orden, y deja
+ * la entrega a {@link OutboxDispatcher}. El caso de uso solo paga un INSERT.
+ *
+ * <p>La bandeja esta acotada a {@code capacity} eventos pendientes: si el
+ * destino no da abasto y se llena, las notificaciones nuevas se rechazan
+ * con {@link IllegalStateException} y el caso de uso se revierte, en lugar
+ * de acumular trabajo sin limite. El limite se compara con los eventos ya
+ * confirmados, por lo que escrituras concurrentes pueden excederlo
+ * ligeramente.
+ */
+public class OutboxNotificationService implements NotificationService {
+
+    private final NotificationOutbox outbox;
+    private final UnitOfWork unitOfWork;
+    private final OutboxDispatcher dispatcher;
+    private final int capacity;
+
+    public OutboxNotificationService(NotificationOutbox outbox, UnitOfWork unitOfWork,
+                                     OutboxDispatcher dispatcher, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.outbox = Objects.requireNonNull(outbox);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void notifyOrderStatusChange(String orderId, String customerEmail, String status) {
+        append(List.of(OutboxEvent.orderStatusChange(orderId, customerEmail, status, dispatcher.now())));
+    }
+
+    @Override
+    public void notifyOrderStatusChanges(List<OrderStatusNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = dispatcher.now();
+        append(notifications.stream()
+                .map(n -> OutboxEvent.orderStatusChange(n.orderId(), n.customerEmail(), n.status(), now))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void notifyLowStockAlert(ProductId productId, String productName, int currentStock) {
+        append(List.of(OutboxEvent.lowStockAlert(productId.value(), productName, currentStock, dispatcher.now())));
+    }
+
+    @Override
+    public void notifyLowStockDigest(List<LowStockAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = dispatcher.now();
+        append(alerts.stream()
+                .map(a -> OutboxEvent.lowStockAlert(a.productId().value(), a.productName(), a.currentStock(), now))
+                .collect(Collectors.toList()));
+    }
+
+    private void append(List<OutboxEvent> events) {
+        if (dispatcher.depth() + events.size() > capacity) {
+            throw new IllegalStateException("Notification outbox is full (" + capacity + " pending events)");
+        }
+        unitOfWork.run(() -> {
+            events.forEach(outbox::append);
+            unitOfWork.afterCommit(() -> dispatcher.enqueued(events.size()));
+        });
+    }
+}
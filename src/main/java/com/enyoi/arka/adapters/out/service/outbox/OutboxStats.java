@@ -0,0 +1,16 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+/**
+ * Metricas acumuladas de la bandeja de salida. {@code depth} es el numero de
+ * eventos pendientes; las latencias miden desde que el evento se guardo
+ * hasta que se entrego.
+ */
+public record OutboxStats(long depth, long dispatched, long retried, long failed,
+                          double averageLatencyMillis, long maxLatencyMillis) {
+
+    @Override
+    public String toString() {
+        return String.format("depth=%d, dispatched=%d, retried=%d, failed=%d, avgLatency=%.1fms, maxLatency=%dms",
+                depth, dispatched, retried, failed, averageLatencyMillis, maxLatencyMillis);
+    }
+}
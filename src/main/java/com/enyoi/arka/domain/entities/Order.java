@@ -56,26 +56,22 @@ public class Order {
     }
 
     public void confirm() {
-        if (!status.canBeConfirmed()) {
-            throw new IllegalStateException("only pending orders can be confirmed");
-        }
-        this.status = OrderStatus.CONFIRMADO;
-        this.updatedAt = LocalDateTime.now();
+        transitionTo(OrderStatus.CONFIRMADO);
     }
 
     public void ship() {
-        if (!status.canBeShipped()) {
-            throw new IllegalStateException("only confirmed orders can be shipped");
-        }
-        this.status = OrderStatus.EN_DESPACHO;
-        this.updatedAt = LocalDateTime.now();
+        transitionTo(OrderStatus.EN_DESPACHO);
     }
 
     public void deliver() {
-        if (!status.canBeDelivered()) {
-            throw new IllegalStateException("only shipped orders can be delivered");
+        transitionTo(OrderStatus.ENTREGADO);
+    }
+
+    private void transitionTo(OrderStatus next) {
+        if (!status.canTransitionTo(next)) {
+            throw new IllegalStateException(next.illegalTransitionMessage());
         }
-        this.status = OrderStatus.ENTREGADO;
+        this.status = next;
         this.updatedAt = LocalDateTime.now();
     }
 
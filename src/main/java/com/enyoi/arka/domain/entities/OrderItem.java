@@ -1,18 +1,22 @@
 package com.enyoi.arka.domain.entities;
 
 import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.OrderItemId;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 public class OrderItem {
+    private final OrderItemId id;
     private final ProductId productId;
     private final int quantity;
     private final Money unitPrice;
 
     private OrderItem(Builder builder) {
+        this.id = builder.id != null ? builder.id : OrderItemId.of(UUID.randomUUID().toString());
         this.productId = Objects.requireNonNull(builder.productId, "Product id must not be null");
         this.quantity = builder.quantity;
         this.unitPrice = Objects.requireNonNull(builder.unitPrice, "Unit price must not be null");
@@ -26,6 +30,10 @@ public class OrderItem {
         return new Builder();
     }
 
+    public OrderItemId getId() {
+        return id;
+    }
+
     public ProductId getProductId() {
         return productId;
     }
@@ -43,10 +51,16 @@ public class OrderItem {
     }
 
     public static class Builder {
+        private OrderItemId id;
         private ProductId productId;
         private int quantity;
         private Money unitPrice;
 
+        public Builder id(OrderItemId id) {
+            this.id = id;
+            return this;
+        }
+
         public Builder productId(ProductId productId) {
             this.productId = productId;
             return this;
@@ -83,7 +97,8 @@ public class OrderItem {
     @Override
     public String toString() {
         return "OrderItem{" +
-                "productId=" + productId +
+                "id=" + id +
+                ", productId=" + productId +
                 ", quantity=" + quantity +
                 ", unitPrice=" + unitPrice +
                 '}';
@@ -1,21 +1,60 @@
 package com.enyoi.arka.domain.entities;
 
+/**
+ * Estados de una orden. El flujo es lineal: cada estado solo se alcanza
+ * desde el anterior ({@link #previous()}), y el mensaje de una transicion
+ * invalida hacia un estado vive junto a el.
+ */
 public enum OrderStatus {
-    PENDIENTE,
-    CONFIRMADO,
-    EN_DESPACHO,
-    ENTREGADO;
+    PENDIENTE(null),
+    CONFIRMADO("only pending orders can be confirmed"),
+    EN_DESPACHO("only confirmed orders can be shipped"),
+    ENTREGADO("only shipped orders can be delivered");
+
+    private final String illegalTransitionMessage;
+
+    OrderStatus(String illegalTransitionMessage) {
+        this.illegalTransitionMessage = illegalTransitionMessage;
+    }
+
+    /**
+     * Estado desde el que se llega a este, o null para {@link #PENDIENTE},
+     * que es el estado inicial.
+     */
+    public OrderStatus previous() {
+        return switch (this) {
+            case PENDIENTE -> null;
+            case CONFIRMADO -> PENDIENTE;
+            case EN_DESPACHO -> CONFIRMADO;
+            case ENTREGADO -> EN_DESPACHO;
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return next.previous() == this;
+    }
+
+    /**
+     * Mensaje de la excepcion cuando una orden que no esta en
+     * {@link #previous()} intenta pasar a este estado.
+     */
+    public String illegalTransitionMessage() {
+        if (illegalTransitionMessage == null) {
+            throw new IllegalStateException("No order can transition to " + name());
+        }
+        return illegalTransitionMessage;
+    }
 
     public boolean canBeConfirmed() {
-        return this == PENDIENTE;
+        return canTransitionTo(CONFIRMADO);
     }
 
     public boolean canBeShipped() {
-        return this == CONFIRMADO;
+        return canTransitionTo(EN_DESPACHO);
     }
 
     public boolean canBeDelivered() {
-        return this == EN_DESPACHO;
+        return canTransitionTo(ENTREGADO);
     }
 
     public boolean isPending() {
@@ -2,6 +2,7 @@ package com.enyoi.arka.domain.ports.in;
 
 import com.enyoi.arka.domain.entities.Product;
 import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.Page;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 
 import java.util.List;
@@ -10,8 +11,23 @@ public interface InventoryService {
     Product registerProduct(String name, String description, Money price, int stock, String category);
     Product getProductById(ProductId id);
     List<Product> getAllProducts();
+
+    /**
+     * Pagina de hasta {@code limit} productos ordenados por id, a partir del
+     * cursor {@code after} (null para la primera pagina).
+     */
+    Page<Product, ProductId> getProductsPage(ProductId after, int limit);
+
     Product updateStock(ProductId id, int newStock);
     void reduceStock(ProductId id, int quantity);
+
+    /**
+     * Suma {@code quantity} unidades al stock con un UPDATE atomico, sin
+     * leer antes el stock, por lo que reposiciones concurrentes no se pisan.
+     */
+    void increaseStock(ProductId id, int quantity);
+
     List<Product> getLowStockProducts();
+    int countLowStockProducts();
     void generateRestockReport();
 }
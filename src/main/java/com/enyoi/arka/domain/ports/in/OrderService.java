@@ -2,19 +2,36 @@ package com.enyoi.arka.domain.ports.in;
 
 import com.enyoi.arka.domain.entities.Order;
 import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.OrderStatus;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
 import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderTransitionResult;
+import com.enyoi.arka.domain.valueobjects.Page;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface OrderService {
     Order createOrder(CustomerId customerId, List<OrderItem> items);
     Order getOrderById(OrderId id);
     List<Order> getOrdersByCustomerId(CustomerId customerId);
+    long countOrdersByStatus(OrderStatus status);
+    long countOrdersByCustomer(CustomerId customerId);
     Order confirmOrder(OrderId id);
     Order addItemToOrder(OrderId id, OrderItem item);
     Order removeItemFromOrder(OrderId id, OrderItem item);
     Order shipOrder(OrderId id);
     Order deliverOrder(OrderId id);
     List<Order> getAllOrders();
+
+    /**
+     * Pagina de hasta {@code limit} ordenes ordenadas por id, a partir del
+     * cursor {@code after} (null para la primera pagina).
+     */
+    Page<Order, OrderId> getOrdersPage(OrderId after, int limit);
+
+    Map<OrderId, OrderTransitionResult> confirmOrders(Collection<OrderId> ids);
+    Map<OrderId, OrderTransitionResult> shipOrders(Collection<OrderId> ids);
+    Map<OrderId, OrderTransitionResult> deliverOrders(Collection<OrderId> ids);
 }
@@ -0,0 +1,14 @@
+package com.enyoi.arka.domain.ports.out;
+
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.CustomerSummary;
+
+import java.util.List;
+
+/**
+ * Consultas de lectura sobre clientes que retornan proyecciones en lugar de
+ * entidades.
+ */
+public interface CustomerQueries {
+    List<CustomerSummary> listCustomers(CustomerId after, int limit);
+}
@@ -2,14 +2,35 @@ package com.enyoi.arka.domain.ports.out;
 
 import com.enyoi.arka.domain.entities.Customer;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CustomerRepository {
     Customer save(Customer customer);
     Optional<Customer> findById(CustomerId id);
+
+    /**
+     * Retorna solo el email del cliente, sin cargar el resto de sus datos.
+     */
+    Optional<Email> findEmailById(CustomerId id);
+
     List<Customer> findAll();
+
+    /**
+     * Hasta {@code limit} clientes con id mayor que {@code after} (null para
+     * empezar desde el principio), ordenados por id.
+     */
+    List<Customer> findPage(CustomerId after, int limit);
+
+    /**
+     * Recorre todos los clientes con memoria constante. El stream debe
+     * consumirse dentro de la unidad de trabajo y cerrarse al terminar.
+     */
+    Stream<Customer> streamAll();
+
     void delete(CustomerId id);
     boolean existsById(CustomerId id);
 }
@@ -0,0 +1,49 @@
+package com.enyoi.arka.domain.ports.out;
+
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.valueobjects.LowStockThresholds;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Conjunto de productos en stock bajo segun unos {@link LowStockThresholds}.
+ * Una implementacion mantenida incrementalmente responde en proporcion a los
+ * productos en stock bajo, no al tamaño del catalogo.
+ */
+public interface LowStockIndex {
+    List<Product> lowStockProducts();
+
+    /**
+     * Ids de los productos en stock bajo. Las implementaciones que mantienen
+     * el conjunto en memoria responden sin consultar el repositorio.
+     */
+    default Set<ProductId> lowStockIds() {
+        return lowStockProducts().stream()
+                .map(Product::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Cantidad de productos en stock bajo. Las implementaciones que mantienen
+     * el conjunto en memoria responden sin consultar el repositorio.
+     */
+    default int lowStockCount() {
+        return lowStockProducts().size();
+    }
+
+    /**
+     * Indice sin estado que consulta el repositorio en cada llamada, para
+     * quien no mantiene un indice propio (por ejemplo, en pruebas con mocks).
+     */
+    static LowStockIndex scanning(ProductRepository productRepository, LowStockThresholds thresholds) {
+        Objects.requireNonNull(productRepository);
+        Objects.requireNonNull(thresholds);
+        return () -> productRepository.findLowStockProducts(thresholds.maxThreshold()).stream()
+                .filter(thresholds::isLow)
+                .toList();
+    }
+}
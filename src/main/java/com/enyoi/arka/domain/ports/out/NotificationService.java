@@ -1,6 +1,32 @@
 package com.enyoi.arka.domain.ports.out;
 
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+import java.util.List;
+
 public interface NotificationService {
     void notifyOrderStatusChange(String orderId, String customerEmail, String status);
-    void notifyLowStockAlert(String productName, int currentStock);
+    void notifyLowStockAlert(ProductId productId, String productName, int currentStock);
+
+    /**
+     * Notifica un lote de cambios de estado. Por defecto envia una
+     * notificacion por orden; los adaptadores pueden agruparlas.
+     */
+    default void notifyOrderStatusChanges(List<OrderStatusNotification> notifications) {
+        for (OrderStatusNotification notification : notifications) {
+            notifyOrderStatusChange(notification.orderId(), notification.customerEmail(), notification.status());
+        }
+    }
+
+    /**
+     * Notifica en un solo mensaje las alertas de un reporte de reposicion.
+     * Por defecto envia una alerta por producto.
+     */
+    default void notifyLowStockDigest(List<LowStockAlert> alerts) {
+        for (LowStockAlert alert : alerts) {
+            notifyLowStockAlert(alert.productId(), alert.productName(), alert.currentStock());
+        }
+    }
 }
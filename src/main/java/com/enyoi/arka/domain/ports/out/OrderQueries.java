@@ -0,0 +1,20 @@
+package com.enyoi.arka.domain.ports.out;
+
+import com.enyoi.arka.domain.entities.OrderStatus;
+import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderSummary;
+
+import java.util.List;
+
+/**
+ * Consultas de lectura sobre ordenes que retornan resumenes en lugar de
+ * ordenes completas con sus items.
+ */
+public interface OrderQueries {
+
+    /**
+     * Hasta {@code limit} ordenes en {@code status} con id mayor que
+     * {@code after} (null para empezar desde el principio), ordenadas por id.
+     */
+    List<OrderSummary> findByStatus(OrderStatus status, OrderId after, int limit);
+}
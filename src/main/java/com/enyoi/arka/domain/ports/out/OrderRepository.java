@@ -4,9 +4,14 @@ import com.enyoi.arka.domain.entities.Order;
 import com.enyoi.arka.domain.entities.OrderStatus;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
 import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderStatusChange;
+import com.enyoi.arka.domain.valueobjects.OrderTransition;
+import com.enyoi.arka.domain.valueobjects.OrderTransitionResult;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository {
     Order save(Order order);
@@ -14,8 +19,48 @@ public interface OrderRepository {
     List<Order> findByCustomerId(CustomerId customerId);
     List<Order> findByStatus(OrderStatus status);
     List<Order> findPendingOrders();
+
+    /**
+     * Cantidad de ordenes en {@code status}, sin cargarlas.
+     */
+    long countByStatus(OrderStatus status);
+
+    /**
+     * Cantidad de ordenes del cliente, sin cargarlas.
+     */
+    long countByCustomer(CustomerId customerId);
+
     List<Order> findAll();
+
+    /**
+     * Hasta {@code limit} ordenes, con sus items, con id mayor que
+     * {@code after} (null para empezar desde el principio), ordenadas por id.
+     */
+    List<Order> findPage(OrderId after, int limit);
+
+    /**
+     * Recorre todas las ordenes con memoria constante. El stream debe
+     * consumirse dentro de la unidad de trabajo y cerrarse al terminar.
+     */
+    Stream<Order> streamAll();
+
     void delete(OrderId id);
     void deleteById(OrderId id);
     boolean existsById(OrderId id);
+
+    /**
+     * Cambia el estado de la orden solo si su estado actual es {@code expected}
+     * (compare-and-set). Retorna la orden actualizada junto con el email del
+     * cliente, o vacio si la orden no existe o no estaba en {@code expected}.
+     */
+    Optional<OrderStatusChange> transitionStatus(OrderId id, OrderStatus expected, OrderStatus next);
+
+    /**
+     * Version masiva de {@link #transitionStatus}: cambia a {@code next} todas
+     * las ordenes en estado {@code expected} y retorna el resultado por id, en
+     * el mismo orden de entrada y sin ids repetidos. Las ordenes cuyo cliente
+     * no existe no cambian y se informan como
+     * {@link OrderTransitionResult#CUSTOMER_NOT_FOUND}.
+     */
+    List<OrderTransition> transitionStatuses(Collection<OrderId> ids, OrderStatus expected, OrderStatus next);
 }
@@ -0,0 +1,24 @@
+package com.enyoi.arka.domain.ports.out;
+
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import com.enyoi.arka.domain.valueobjects.ProductSummary;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas de lectura sobre el catalogo que retornan proyecciones en lugar
+ * de entidades. Los listados paginan por cursor como
+ * {@link ProductRepository#findPage}.
+ */
+public interface ProductQueries {
+    List<ProductSummary> listProducts(ProductId after, int limit);
+
+    /**
+     * Resumenes de los productos en stock bajo, ordenados de menor a mayor
+     * stock. Los ids salen de {@link LowStockIndex#lowStockIds()}, asi que la
+     * consola y los conteos usan el mismo criterio; los ids que ya no existen
+     * se omiten.
+     */
+    List<ProductSummary> findLowStock(Collection<ProductId> lowStockIds);
+}
@@ -3,15 +3,47 @@ package com.enyoi.arka.domain.ports.out;
 import com.enyoi.arka.domain.entities.Product;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository {
     Product save(Product product);
     Optional<Product> findById(ProductId id);
+    List<Product> findAllById(Collection<ProductId> ids);
     List<Product> findAll();
+
+    /**
+     * Hasta {@code limit} productos con id mayor que {@code after} (null para
+     * empezar desde el principio), ordenados por id.
+     */
+    List<Product> findPage(ProductId after, int limit);
+
+    /**
+     * Recorre todos los productos con memoria constante. El stream debe
+     * consumirse dentro de la unidad de trabajo y cerrarse al terminar.
+     */
+    Stream<Product> streamAll();
+
     List<Product> findByCategory(String category);
     List<Product> findLowStockProducts(int threshold);
+
+    /**
+     * Cantidad de productos con stock menor que {@code threshold}, sin cargarlos.
+     */
+    long countLowStock(int threshold);
+
+    boolean tryDecrementStock(ProductId id, int quantity);
+    /**
+     * Descuenta el stock de varios productos y retorna el primero sin stock
+     * suficiente. Si alguno falla dentro de una unidad de trabajo, los
+     * descuentos anteriores siguen pendientes en ella: el llamador debe
+     * revertirla, por ejemplo lanzando una excepcion.
+     */
+    Optional<ProductId> tryDecrementStock(Map<ProductId, Integer> quantities);
+    boolean incrementStock(ProductId id, int quantity);
     void deleteById(ProductId id);
     boolean existsById(ProductId id);
 }
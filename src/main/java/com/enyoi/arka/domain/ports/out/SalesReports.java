@@ -0,0 +1,43 @@
+package com.enyoi.arka.domain.ports.out;
+
+import com.enyoi.arka.domain.valueobjects.CategoryRevenue;
+import com.enyoi.arka.domain.valueobjects.CustomerRevenue;
+import com.enyoi.arka.domain.valueobjects.DateRange;
+import com.enyoi.arka.domain.valueobjects.InventoryValuation;
+import com.enyoi.arka.domain.valueobjects.ProductSales;
+
+import java.util.stream.Stream;
+
+/**
+ * Reportes de ventas e inventario agregados por la base de datos. Las
+ * ventas son las ordenes ya confirmadas (cualquier estado salvo
+ * PENDIENTE) creadas dentro del rango. Los montos se agrupan por moneda.
+ *
+ * <p>Los resultados se leen a medida que se consumen: el stream debe
+ * cerrarse y consumirse dentro de la unidad de trabajo que lo abrio. Esa
+ * unidad de trabajo debe ser de solo lectura ({@link UnitOfWork#read}):
+ * un reporte largo dentro de una escritura retiene el lock de escritura
+ * mientras se recorre.
+ */
+public interface SalesReports {
+
+    /**
+     * Ingresos por dia y categoria, ordenados por dia y categoria.
+     */
+    Stream<CategoryRevenue> dailyRevenueByCategory(DateRange range);
+
+    /**
+     * Ventas por producto, de mayor a menor cantidad de unidades.
+     */
+    Stream<ProductSales> salesByProduct(DateRange range);
+
+    /**
+     * Ingresos por cliente, de mayor a menor ingreso.
+     */
+    Stream<CustomerRevenue> revenueByCustomer(DateRange range);
+
+    /**
+     * Valor actual del inventario por categoria.
+     */
+    Stream<InventoryValuation> inventoryValuation();
+}
@@ -0,0 +1,59 @@
+package com.enyoi.arka.domain.ports.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Delimita una unidad de trabajo: las operaciones de los repositorios
+ * ejecutadas dentro de {@link #execute} comparten el mismo contexto de
+ * persistencia, propio del hilo que la ejecuta. Las llamadas anidadas
+ * reutilizan la unidad de trabajo activa.
+ */
+public interface UnitOfWork {
+    <T> T execute(Supplier<T> work);
+
+    default void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Unidad de trabajo que solo lee: no debe escribir y no bloquea a las
+     * unidades de trabajo que escriben. Por defecto equivale a
+     * {@link #execute}.
+     */
+    default <T> T read(Supplier<T> work) {
+        return execute(work);
+    }
+
+    /**
+     * Ejecuta {@code action} cuando la unidad de trabajo activa se confirme;
+     * si se revierte, la accion se descarta. Sin unidad de trabajo activa se
+     * ejecuta de inmediato.
+     */
+    default void afterCommit(Runnable action) {
+        action.run();
+    }
+
+    /**
+     * Ejecuta {@code action} si la unidad de trabajo activa se revierte; si
+     * se confirma, la accion se descarta. Sin unidad de trabajo activa no
+     * hay nada que revertir y la accion tambien se descarta.
+     */
+    default void afterRollback(Runnable action) {
+    }
+
+    /**
+     * Unidad de trabajo que solo ejecuta la operacion, para adaptadores que
+     * no necesitan delimitar un contexto (por ejemplo, en pruebas con mocks).
+     */
+    static UnitOfWork none() {
+        return new UnitOfWork() {
+            @Override
+            public <T> T execute(Supplier<T> work) {
+                return work.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import com.enyoi.arka.domain.entities.ProductCategory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Ingresos de una categoria en un dia, en una moneda.
+ */
+public record CategoryRevenue(
+        LocalDate day,
+        ProductCategory category,
+        String currency,
+        long unitsSold,
+        BigDecimal revenue
+) {
+}
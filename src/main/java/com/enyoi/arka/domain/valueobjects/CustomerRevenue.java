@@ -0,0 +1,16 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import java.math.BigDecimal;
+
+/**
+ * Ordenes e ingresos de un cliente en un rango. {@code customerName} es
+ * null si el cliente ya no existe.
+ */
+public record CustomerRevenue(
+        CustomerId customerId,
+        String customerName,
+        long orderCount,
+        BigDecimal revenue,
+        String currency
+) {
+}
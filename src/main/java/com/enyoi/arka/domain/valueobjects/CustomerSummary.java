@@ -0,0 +1,8 @@
+package com.enyoi.arka.domain.valueobjects;
+
+/**
+ * Columnas de un cliente que muestran los listados. El email se lee como
+ * texto: ya se valido al guardar el cliente.
+ */
+public record CustomerSummary(CustomerId id, String name, String email, String city) {
+}
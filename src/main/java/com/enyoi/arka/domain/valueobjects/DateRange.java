@@ -0,0 +1,33 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Rango de dias para los reportes, con ambos extremos incluidos. Sobre
+ * columnas de fecha y hora se aplica como el intervalo semiabierto
+ * {@code [start(), endExclusive())}.
+ */
+public record DateRange(LocalDate from, LocalDate to) {
+
+    public DateRange {
+        Objects.requireNonNull(from, "From must not be null");
+        Objects.requireNonNull(to, "To must not be null");
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("To must not be before from");
+        }
+    }
+
+    public static DateRange day(LocalDate day) {
+        return new DateRange(day, day);
+    }
+
+    public LocalDateTime start() {
+        return from.atStartOfDay();
+    }
+
+    public LocalDateTime endExclusive() {
+        return to.plusDays(1).atStartOfDay();
+    }
+}
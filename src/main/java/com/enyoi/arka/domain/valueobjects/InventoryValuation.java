@@ -0,0 +1,18 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import com.enyoi.arka.domain.entities.ProductCategory;
+
+import java.math.BigDecimal;
+
+/**
+ * Valor del inventario de una categoria: suma de stock por precio de sus
+ * productos, en una moneda.
+ */
+public record InventoryValuation(
+        ProductCategory category,
+        String currency,
+        long productCount,
+        long unitsInStock,
+        BigDecimal value
+) {
+}
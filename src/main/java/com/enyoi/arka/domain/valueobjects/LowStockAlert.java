@@ -0,0 +1,14 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import java.util.Objects;
+
+/**
+ * Alerta de stock bajo de un producto, para envios en lote. El producto se
+ * identifica por {@code productId}; el nombre es solo para mostrar.
+ */
+public record LowStockAlert(ProductId productId, String productName, int currentStock) {
+
+    public LowStockAlert {
+        Objects.requireNonNull(productId, "Product id must not be null");
+    }
+}
@@ -0,0 +1,111 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Umbrales de stock bajo. Un producto esta en stock bajo cuando su stock es
+ * menor que su umbral: el del propio producto si existe, si no el de su
+ * categoria y en ultimo caso el umbral por defecto.
+ */
+public class LowStockThresholds {
+    public static final int DEFAULT_THRESHOLD = 10;
+
+    private final int defaultThreshold;
+    private final Map<ProductCategory, Integer> byCategory;
+    private final Map<ProductId, Integer> byProduct;
+
+    private LowStockThresholds(Builder builder) {
+        this.defaultThreshold = builder.defaultThreshold;
+        this.byCategory = Collections.unmodifiableMap(new EnumMap<>(builder.byCategory));
+        this.byProduct = Map.copyOf(builder.byProduct);
+    }
+
+    public static LowStockThresholds defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int thresholdFor(ProductId productId, ProductCategory category) {
+        Integer threshold = byProduct.get(productId);
+        if (threshold != null) {
+            return threshold;
+        }
+        return category == null ? defaultThreshold : byCategory.getOrDefault(category, defaultThreshold);
+    }
+
+    public boolean isLow(Product product) {
+        return product.isLowStock(thresholdFor(product.getId(), product.getCategory()));
+    }
+
+    /**
+     * Mayor umbral configurado; sirve para acotar una consulta por umbral
+     * unico antes de aplicar los umbrales de cada producto.
+     */
+    public int maxThreshold() {
+        int max = defaultThreshold;
+        for (int threshold : byCategory.values()) {
+            max = Math.max(max, threshold);
+        }
+        for (int threshold : byProduct.values()) {
+            max = Math.max(max, threshold);
+        }
+        return max;
+    }
+
+    public static class Builder {
+        private int defaultThreshold = DEFAULT_THRESHOLD;
+        private final Map<ProductCategory, Integer> byCategory = new EnumMap<>(ProductCategory.class);
+        private final Map<ProductId, Integer> byProduct = new HashMap<>();
+
+        public Builder defaultThreshold(int threshold) {
+            this.defaultThreshold = requireNonNegative(threshold);
+            return this;
+        }
+
+        public Builder category(ProductCategory category, int threshold) {
+            byCategory.put(Objects.requireNonNull(category), requireNonNegative(threshold));
+            return this;
+        }
+
+        public Builder product(ProductId productId, int threshold) {
+            byProduct.put(Objects.requireNonNull(productId), requireNonNegative(threshold));
+            return this;
+        }
+
+        public LowStockThresholds build() {
+            return new LowStockThresholds(this);
+        }
+
+        private static int requireNonNegative(int threshold) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("Threshold must not be negative");
+            }
+            return threshold;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LowStockThresholds that = (LowStockThresholds) o;
+        return defaultThreshold == that.defaultThreshold
+                && byCategory.equals(that.byCategory)
+                && byProduct.equals(that.byProduct);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(defaultThreshold, byCategory, byProduct);
+    }
+}
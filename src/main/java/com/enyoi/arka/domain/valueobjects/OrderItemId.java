@@ -0,0 +1,40 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import java.util.Objects;
+
+public class OrderItemId {
+    private final String value;
+
+    private OrderItemId(String value) {
+        this.value = value;
+    }
+
+    public static OrderItemId of(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Order item ID must not be empty");
+        }
+        return new OrderItemId(value.trim());
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderItemId orderItemId = (OrderItemId) o;
+        return Objects.equals(value, orderItemId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderItemId{" + "value='" + value + '\'' + '}';
+    }
+}
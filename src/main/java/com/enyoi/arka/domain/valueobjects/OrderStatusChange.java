@@ -0,0 +1,17 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import com.enyoi.arka.domain.entities.Order;
+
+import java.util.Objects;
+
+/**
+ * Resultado de un cambio de estado aplicado en el repositorio: la orden ya
+ * actualizada y el email del cliente a notificar (null si el cliente no
+ * existe).
+ */
+public record OrderStatusChange(Order order, String customerEmail) {
+
+    public OrderStatusChange {
+        Objects.requireNonNull(order, "Order must not be null");
+    }
+}
@@ -0,0 +1,7 @@
+package com.enyoi.arka.domain.valueobjects;
+
+/**
+ * Notificacion de cambio de estado de una orden, para envios en lote.
+ */
+public record OrderStatusNotification(String orderId, String customerEmail, String status) {
+}
@@ -0,0 +1,19 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import com.enyoi.arka.domain.entities.OrderStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Resumen de una orden para listados y reportes: total y cantidad de lineas
+ * calculados por la base de datos, sin cargar los items.
+ */
+public record OrderSummary(
+        OrderId id,
+        CustomerId customerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        String totalCurrency,
+        int lineCount
+) {
+}
@@ -0,0 +1,15 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import java.util.Objects;
+
+/**
+ * Resultado de una transicion masiva para una orden. El email del cliente
+ * solo se informa cuando la transicion se aplico.
+ */
+public record OrderTransition(OrderId orderId, OrderTransitionResult result, String customerEmail) {
+
+    public OrderTransition {
+        Objects.requireNonNull(orderId, "Order id must not be null");
+        Objects.requireNonNull(result, "Result must not be null");
+    }
+}
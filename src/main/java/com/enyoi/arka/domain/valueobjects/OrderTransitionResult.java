@@ -0,0 +1,20 @@
+package com.enyoi.arka.domain.valueobjects;
+
+/**
+ * Resultado de aplicar una transicion de estado a una orden dentro de un lote.
+ */
+public enum OrderTransitionResult {
+    OK,
+    ILLEGAL_STATE,
+    NOT_FOUND,
+    /**
+     * La orden estaba en el estado esperado pero su cliente no existe, asi
+     * que no hay a quien notificar: la orden queda sin cambios, igual que
+     * en la transicion de una sola orden.
+     */
+    CUSTOMER_NOT_FOUND;
+
+    public boolean isOk() {
+        return this == OK;
+    }
+}
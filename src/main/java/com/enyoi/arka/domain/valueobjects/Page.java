@@ -0,0 +1,33 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Pagina de resultados por cursor (keyset). {@code next} es el cursor a
+ * pasar para pedir la pagina siguiente, o null si esta es la ultima.
+ */
+public record Page<T, C>(List<T> items, C next) {
+
+    public Page {
+        items = List.copyOf(Objects.requireNonNull(items, "Items must not be null"));
+    }
+
+    /**
+     * Arma la pagina a partir de una consulta que pidio {@code limit + 1}
+     * filas: si llego la fila extra hay pagina siguiente, y el cursor es el
+     * del ultimo elemento de esta pagina.
+     */
+    public static <T, C> Page<T, C> fromLookahead(List<T> fetched, int limit, Function<T, C> cursor) {
+        if (fetched.size() <= limit) {
+            return new Page<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new Page<>(items, cursor.apply(items.get(limit - 1)));
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
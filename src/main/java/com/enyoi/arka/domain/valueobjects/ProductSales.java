@@ -0,0 +1,17 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import java.math.BigDecimal;
+
+/**
+ * Ventas de un producto en un rango: unidades, ordenes que lo incluyen e
+ * ingresos. {@code productName} es null si el producto ya no existe.
+ */
+public record ProductSales(
+        ProductId productId,
+        String productName,
+        long unitsSold,
+        long orderCount,
+        BigDecimal revenue,
+        String currency
+) {
+}
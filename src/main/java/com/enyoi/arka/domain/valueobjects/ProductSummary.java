@@ -0,0 +1,19 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import com.enyoi.arka.domain.entities.ProductCategory;
+
+import java.math.BigDecimal;
+
+/**
+ * Columnas de un producto que muestran los listados. Se lee directamente de
+ * la base de datos, sin construir el {@code Product} ni su {@link Money}.
+ */
+public record ProductSummary(
+        ProductId id,
+        String name,
+        ProductCategory category,
+        int stock,
+        BigDecimal priceAmount,
+        String priceCurrency
+) {
+}
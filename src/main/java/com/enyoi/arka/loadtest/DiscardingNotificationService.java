@@ -0,0 +1,19 @@
+package com.enyoi.arka.loadtest;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+
+/**
+ * Destino de notificaciones que no hace nada, para que la prueba de carga
+ * mida el outbox sin el costo de escribir en consola.
+ */
+class DiscardingNotificationService implements NotificationService {
+
+    @Override
+    public void notifyOrderStatusChange(String orderId, String customerEmail, String status) {
+    }
+
+    @Override
+    public void notifyLowStockAlert(ProductId productId, String productName, int currentStock) {
+    }
+}
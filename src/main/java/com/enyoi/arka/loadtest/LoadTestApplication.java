@@ -0,0 +1,113 @@
+package com.enyoi.arka.loadtest;
+
+import com.enyoi.arka.adapters.in.InventoryServiceImpl;
+import com.enyoi.arka.adapters.in.OrderServiceImpl;
+import com.enyoi.arka.adapters.metrics.Instrumentation;
+import com.enyoi.arka.adapters.metrics.MetricsRegistry;
+import com.enyoi.arka.adapters.metrics.PrometheusExporter;
+import com.enyoi.arka.adapters.out.repository.CachingCustomerRepository;
+import com.enyoi.arka.adapters.out.repository.CachingProductRepository;
+import com.enyoi.arka.adapters.out.repository.JpaCustomerRepository;
+import com.enyoi.arka.adapters.out.repository.JpaNotificationOutbox;
+import com.enyoi.arka.adapters.out.repository.JpaOrderRepository;
+import com.enyoi.arka.adapters.out.repository.JpaProductRepository;
+import com.enyoi.arka.adapters.out.repository.LowStockTrackingProductRepository;
+import com.enyoi.arka.adapters.out.repository.config.DatabaseConfig;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.adapters.out.service.CoalescingNotificationService;
+import com.enyoi.arka.adapters.out.service.outbox.NotificationOutbox;
+import com.enyoi.arka.adapters.out.service.outbox.OutboxDispatcher;
+import com.enyoi.arka.adapters.out.service.outbox.OutboxNotificationService;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.ports.in.InventoryService;
+import com.enyoi.arka.domain.ports.in.OrderService;
+import com.enyoi.arka.domain.ports.out.CustomerRepository;
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.OrderRepository;
+import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.LowStockThresholds;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Prueba de carga sintetica. Arma los mismos adaptadores que
+ * {@code ArkaApplication} sobre una base de datos dedicada, siembra
+ * clientes y productos y ejecuta la mezcla de operaciones configurada.
+ * Las notificaciones pasan por el outbox, pero el despachador las descarta
+ * en lugar de escribirlas en consola. Los puertos estan instrumentados
+ * igual que en la aplicacion; con {@code --metrics=<archivo>} se exporta
+ * el desglose por puerto y metodo en formato Prometheus.
+ *
+ * <pre>
+ * ./gradlew loadtest -PloadtestArgs="--workers=8 --duration=120 --mix=create:50,confirm:30,restock:20"
+ * </pre>
+ */
+public class LoadTestApplication {
+
+    private static final int PRODUCT_CACHE_SIZE = 10_000;
+    private static final Duration PRODUCT_CACHE_TTL = Duration.ofMinutes(5);
+    private static final int CUSTOMER_EMAIL_CACHE_SIZE = 100_000;
+    private static final Duration CUSTOMER_EMAIL_CACHE_TTL = Duration.ofHours(1);
+    private static final int NOTIFICATION_OUTBOX_CAPACITY = 10_000;
+    private static final Duration LOW_STOCK_ALERT_WINDOW = Duration.ofHours(24);
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.printf("Prueba de carga: %d clientes, %d productos, %d hilos, %ds (+%ds calentamiento), mezcla %s%n",
+                config.customers(), config.products(), config.workers(),
+                config.duration().toSeconds(), config.warmup().toSeconds(), config.mix());
+
+        EntityManagerFactory entityManagerFactory = DatabaseConfig.createEntityManagerFactory(config.jdbcUrl());
+        JpaUnitOfWork unitOfWork = new JpaUnitOfWork(entityManagerFactory);
+
+        MetricsRegistry metrics = new MetricsRegistry();
+        LowStockTrackingProductRepository lowStockIndex = new LowStockTrackingProductRepository(
+                new JpaProductRepository(unitOfWork::currentEntityManager), LowStockThresholds.defaults(), unitOfWork);
+        lowStockIndex.rebuild();
+        ProductRepository productRepo = Instrumentation.instrument(ProductRepository.class,
+                new CachingProductRepository(lowStockIndex, PRODUCT_CACHE_SIZE, PRODUCT_CACHE_TTL, unitOfWork), metrics);
+        CustomerRepository customerRepo = Instrumentation.instrument(CustomerRepository.class,
+                new CachingCustomerRepository(new JpaCustomerRepository(unitOfWork::currentEntityManager),
+                        CUSTOMER_EMAIL_CACHE_SIZE, CUSTOMER_EMAIL_CACHE_TTL, unitOfWork), metrics);
+        OrderRepository orderRepo = Instrumentation.instrument(OrderRepository.class,
+                new JpaOrderRepository(unitOfWork::currentEntityManager), metrics);
+
+        NotificationOutbox outbox = new JpaNotificationOutbox(unitOfWork::currentEntityManager);
+        OutboxDispatcher dispatcher = OutboxDispatcher.builder(outbox, new DiscardingNotificationService(), unitOfWork).build();
+        dispatcher.start();
+        CoalescingNotificationService coalescing = new CoalescingNotificationService(
+                new OutboxNotificationService(outbox, unitOfWork, dispatcher, NOTIFICATION_OUTBOX_CAPACITY),
+                LOW_STOCK_ALERT_WINDOW, unitOfWork);
+        lowStockIndex.addRecoveryListener(coalescing::stockRecovered);
+        NotificationService notificationService = Instrumentation.instrument(NotificationService.class, coalescing, metrics);
+
+        InventoryService inventoryService = Instrumentation.instrument(InventoryService.class,
+                new InventoryServiceImpl(productRepo, notificationService, unitOfWork, lowStockIndex), metrics);
+        OrderService orderService = Instrumentation.instrument(OrderService.class,
+                new OrderServiceImpl(orderRepo, productRepo, customerRepo, notificationService, unitOfWork), metrics);
+
+        try {
+            WorkloadSeeder seeder = new WorkloadSeeder(customerRepo, inventoryService, unitOfWork);
+            long seedStart = System.nanoTime();
+            List<CustomerId> customers = seeder.seedCustomers(config.customers());
+            List<Product> products = seeder.seedProducts(config.products(), config.initialStock());
+            System.out.printf("Datos sembrados en %d ms%n", (System.nanoTime() - seedStart) / 1_000_000);
+
+            LoadTestReport report = new LoadTestDriver(orderService, inventoryService, config, customers, products).run();
+            System.out.println();
+            report.print(System.out, config.duration());
+            System.out.printf("%nOutbox: %s%n", dispatcher.stats());
+            if (config.metricsFile() != null) {
+                new PrometheusExporter(metrics).writeTo(Path.of(config.metricsFile()));
+                System.out.printf("Metricas por puerto en %s%n", config.metricsFile());
+            }
+        } finally {
+            dispatcher.close();
+            entityManagerFactory.close();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.enyoi.arka.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Parametros de una prueba de carga. Se leen de argumentos
+ * {@code --nombre=valor}; los que no se indican toman el valor por defecto.
+ *
+ * @param customers     clientes a sembrar
+ * @param products      productos a sembrar, repartidos entre todas las categorias
+ * @param initialStock  stock inicial de cada producto
+ * @param workers       hilos que ejecutan operaciones en paralelo
+ * @param duration      duracion de la fase de medicion
+ * @param warmup        duracion del calentamiento, que no se reporta
+ * @param mix           proporcion de cada operacion
+ * @param restockAmount unidades que suma cada reposicion
+ * @param jdbcUrl       base de datos de la prueba; se recomienda una dedicada
+ * @param metricsFile   archivo donde exportar las metricas por puerto en
+ *                      formato Prometheus, o {@code null} para no exportarlas
+ */
+public record LoadTestConfig(
+        int customers,
+        int products,
+        int initialStock,
+        int workers,
+        Duration duration,
+        Duration warmup,
+        OperationMix mix,
+        int restockAmount,
+        String jdbcUrl,
+        String metricsFile
+) {
+
+    public static final String DEFAULT_JDBC_URL = "jdbc:sqlite:arka-loadtest.db";
+
+    public LoadTestConfig {
+        if (customers <= 0 || products <= 0 || workers <= 0) {
+            throw new IllegalArgumentException("Customers, products and workers must be positive");
+        }
+        if (initialStock < 0 || restockAmount <= 0) {
+            throw new IllegalArgumentException("Invalid stock settings");
+        }
+        if (duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+            throw new IllegalArgumentException("Invalid duration");
+        }
+    }
+
+    public static LoadTestConfig defaults() {
+        return parse(new String[0]);
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        int customers = 1_000;
+        int products = 500;
+        int initialStock = 100;
+        int workers = Runtime.getRuntime().availableProcessors();
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        OperationMix mix = OperationMix.defaults();
+        int restockAmount = 50;
+        String jdbcUrl = DEFAULT_JDBC_URL;
+        String metricsFile = null;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "customers" -> customers = Integer.parseInt(value);
+                case "products" -> products = Integer.parseInt(value);
+                case "stock" -> initialStock = Integer.parseInt(value);
+                case "workers" -> workers = Integer.parseInt(value);
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "mix" -> mix = OperationMix.parse(value);
+                case "restock" -> restockAmount = Integer.parseInt(value);
+                case "db" -> jdbcUrl = value;
+                case "metrics" -> metricsFile = value;
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        return new LoadTestConfig(customers, products, initialStock, workers, duration, warmup, mix,
+                restockAmount, jdbcUrl, metricsFile);
+    }
+}
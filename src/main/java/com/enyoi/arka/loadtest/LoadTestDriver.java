@@ -0,0 +1,147 @@
+package com.enyoi.arka.loadtest;
+
+import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.ports.in.InventoryService;
+import com.enyoi.arka.domain.ports.in.OrderService;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.OrderId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ejecuta la mezcla de operaciones de un {@link LoadTestConfig} contra los
+ * puertos {@link OrderService} e {@link InventoryService} desde varios
+ * hilos. Las ordenes avanzan por colas compartidas: las creadas quedan
+ * pendientes, las confirmadas esperan envio y las enviadas esperan entrega.
+ * Cuando una operacion no tiene ordenes disponibles se crea una orden en
+ * su lugar, para no medir operaciones vacias.
+ *
+ * <p>{@code add} agrega un item a la orden pendiente mas reciente, que
+ * otro hilo puede estar confirmando; los errores de estado que resultan
+ * son parte de la carga, igual que los de stock insuficiente.
+ */
+class LoadTestDriver {
+
+    private static final int MAX_ITEMS_PER_ORDER = 3;
+    private static final int MAX_QUANTITY = 3;
+
+    private final OrderService orderService;
+    private final InventoryService inventoryService;
+    private final LoadTestConfig config;
+    private final List<CustomerId> customers;
+    private final List<Product> products;
+
+    private final ConcurrentLinkedDeque<OrderId> pending = new ConcurrentLinkedDeque<>();
+    private final Queue<OrderId> confirmed = new ConcurrentLinkedQueue<>();
+    private final Queue<OrderId> shipped = new ConcurrentLinkedQueue<>();
+
+    LoadTestDriver(OrderService orderService, InventoryService inventoryService, LoadTestConfig config,
+                   List<CustomerId> customers, List<Product> products) {
+        this.orderService = Objects.requireNonNull(orderService);
+        this.inventoryService = Objects.requireNonNull(inventoryService);
+        this.config = Objects.requireNonNull(config);
+        this.customers = List.copyOf(customers);
+        this.products = List.copyOf(products);
+    }
+
+    /**
+     * Corre el calentamiento y luego la fase de medicion; solo la segunda
+     * queda en el reporte.
+     */
+    LoadTestReport run() throws InterruptedException {
+        if (!config.warmup().isZero()) {
+            runPhase(new LoadTestReport(), config.warmup().toNanos());
+        }
+        LoadTestReport report = new LoadTestReport();
+        runPhase(report, config.duration().toNanos());
+        return report;
+    }
+
+    private void runPhase(LoadTestReport report, long durationNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + durationNanos;
+        List<Thread> threads = new ArrayList<>(config.workers());
+        for (int i = 0; i < config.workers(); i++) {
+            Thread thread = new Thread(() -> work(report, deadline), "loadtest-worker-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private void work(LoadTestReport report, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            execute(config.mix().next(random), random, report);
+        }
+    }
+
+    void execute(Operation requested, ThreadLocalRandom random, LoadTestReport report) {
+        OrderId target = claim(requested);
+        Operation operation = target == null && requested != Operation.RESTOCK ? Operation.CREATE_ORDER : requested;
+        long start = System.nanoTime();
+        try {
+            switch (operation) {
+                case CREATE_ORDER -> pending.addLast(orderService.createOrder(randomCustomer(random), randomItems(random)).getId());
+                case ADD_ITEM -> orderService.addItemToOrder(target, randomItem(random));
+                case CONFIRM -> confirmed.add(orderService.confirmOrder(target).getId());
+                case SHIP -> shipped.add(orderService.shipOrder(target).getId());
+                case DELIVER -> orderService.deliverOrder(target);
+                case RESTOCK -> restock(random);
+            }
+            report.recordSuccess(operation, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            report.recordError(operation, e);
+        }
+    }
+
+    /**
+     * Toma la orden sobre la que trabaja la operacion, o {@code null} si no
+     * hay ninguna disponible. {@code add} la consulta sin sacarla de la cola.
+     */
+    private OrderId claim(Operation operation) {
+        return switch (operation) {
+            case ADD_ITEM -> pending.peekLast();
+            case CONFIRM -> pending.pollFirst();
+            case SHIP -> confirmed.poll();
+            case DELIVER -> shipped.poll();
+            case CREATE_ORDER, RESTOCK -> null;
+        };
+    }
+
+    private void restock(ThreadLocalRandom random) {
+        Product product = products.get(random.nextInt(products.size()));
+        inventoryService.increaseStock(product.getId(), config.restockAmount());
+    }
+
+    private CustomerId randomCustomer(ThreadLocalRandom random) {
+        return customers.get(random.nextInt(customers.size()));
+    }
+
+    private List<OrderItem> randomItems(ThreadLocalRandom random) {
+        int count = 1 + random.nextInt(MAX_ITEMS_PER_ORDER);
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(randomItem(random));
+        }
+        return items;
+    }
+
+    private OrderItem randomItem(ThreadLocalRandom random) {
+        Product product = products.get(random.nextInt(products.size()));
+        return OrderItem.builder()
+                .productId(product.getId())
+                .quantity(1 + random.nextInt(MAX_QUANTITY))
+                .unitPrice(product.getPrice())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.enyoi.arka.loadtest;
+
+import com.enyoi.arka.adapters.metrics.HistogramSnapshot;
+import com.enyoi.arka.adapters.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultados de una prueba de carga: latencia de las operaciones exitosas
+ * y errores por operacion y tipo de excepcion. Es seguro registrar desde
+ * varios hilos.
+ */
+public class LoadTestReport {
+
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> errors = new EnumMap<>(Operation.class);
+
+    public LoadTestReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            errors.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void recordSuccess(Operation operation, long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    public void recordError(Operation operation, Throwable error) {
+        errors.get(operation)
+                .computeIfAbsent(error.getClass().getSimpleName(), key -> new LongAdder())
+                .increment();
+    }
+
+    public HistogramSnapshot latency(Operation operation) {
+        return latencies.get(operation).snapshot();
+    }
+
+    public long errorCount(Operation operation, Class<? extends Throwable> type) {
+        LongAdder count = errors.get(operation).get(type.getSimpleName());
+        return count == null ? 0 : count.sum();
+    }
+
+    public long errorCount(Operation operation) {
+        return errors.get(operation).values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public void print(PrintStream out, Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+        long totalOk = 0;
+        long totalErrors = 0;
+
+        out.printf("%-14s %10s %9s %10s %9s %9s %9s %9s %9s%n",
+                "Operacion", "Exitosas", "Errores", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            HistogramSnapshot snapshot = latency(operation);
+            long failed = errorCount(operation);
+            if (snapshot.count() == 0 && failed == 0) {
+                continue;
+            }
+            totalOk += snapshot.count();
+            totalErrors += failed;
+            out.printf("%-14s %10d %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation, snapshot.count(), failed, (snapshot.count() + failed) / seconds,
+                    millis(snapshot.percentile(50)), millis(snapshot.percentile(90)),
+                    millis(snapshot.percentile(99)), millis(snapshot.percentile(99.9)),
+                    millis(snapshot.max()));
+        }
+        out.printf("%-14s %10d %9d %10.1f%n", "TOTAL", totalOk, totalErrors, (totalOk + totalErrors) / seconds);
+
+        if (totalErrors > 0) {
+            out.println();
+            out.println("Errores:");
+            for (Operation operation : Operation.values()) {
+                new TreeMap<>(errors.get(operation)).forEach((type, count) ->
+                        out.printf("  %-14s %-32s %9d%n", operation, type, count.sum()));
+            }
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.enyoi.arka.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Operaciones que ejecuta la prueba de carga. Cada una se identifica en
+ * la linea de comandos por su nombre corto.
+ */
+public enum Operation {
+    CREATE_ORDER("create"),
+    ADD_ITEM("add"),
+    CONFIRM("confirm"),
+    SHIP("ship"),
+    DELIVER("deliver"),
+    RESTOCK("restock");
+
+    private final String shortName;
+
+    Operation(String shortName) {
+        this.shortName = shortName;
+    }
+
+    public String shortName() {
+        return shortName;
+    }
+
+    public static Operation fromShortName(String shortName) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.shortName.equalsIgnoreCase(shortName.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + shortName));
+    }
+}
@@ -0,0 +1,89 @@
+package com.enyoi.arka.loadtest;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Proporcion de cada {@link Operation} en la carga, expresada como pesos
+ * enteros. Con {@code create:40,confirm:20} se crean el doble de ordenes
+ * de las que se confirman.
+ */
+public class OperationMix {
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    public OperationMix(Map<Operation, Integer> weights) {
+        Map<Operation, Integer> copy = new EnumMap<>(Operation.class);
+        weights.forEach((operation, weight) -> {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + operation);
+            }
+            if (weight > 0) {
+                copy.put(operation, weight);
+            }
+        });
+        if (copy.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix must not be empty");
+        }
+        this.weights = Collections.unmodifiableMap(copy);
+        this.operations = copy.keySet().toArray(new Operation[0]);
+        this.cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += copy.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        this.total = sum;
+    }
+
+    /**
+     * Interpreta una lista {@code nombre:peso} separada por comas, por
+     * ejemplo {@code create:40,add:10,confirm:15}.
+     */
+    public static OperationMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            weights.merge(Operation.fromShortName(parts[0]), Integer.parseInt(parts[1].trim()), Integer::sum);
+        }
+        return new OperationMix(weights);
+    }
+
+    public static OperationMix defaults() {
+        return parse("create:40,add:10,confirm:15,ship:10,deliver:10,restock:15");
+    }
+
+    public Operation next(RandomGenerator random) {
+        int value = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    public Map<Operation, Integer> weights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        weights.forEach((operation, weight) -> {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(operation.shortName()).append(':').append(weight);
+        });
+        return builder.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.enyoi.arka.loadtest;
+
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.ports.in.InventoryService;
+import com.enyoi.arka.domain.ports.out.CustomerRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
+import com.enyoi.arka.domain.valueobjects.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Siembra los clientes y productos de la prueba a traves de los puertos,
+ * en lotes de {@value #BATCH_SIZE} por unidad de trabajo. Los productos se
+ * reparten en partes iguales entre todas las {@link ProductCategory}.
+ */
+class WorkloadSeeder {
+
+    private static final int BATCH_SIZE = 500;
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+
+    private final CustomerRepository customerRepository;
+    private final InventoryService inventoryService;
+    private final UnitOfWork unitOfWork;
+
+    WorkloadSeeder(CustomerRepository customerRepository, InventoryService inventoryService, UnitOfWork unitOfWork) {
+        this.customerRepository = customerRepository;
+        this.inventoryService = inventoryService;
+        this.unitOfWork = unitOfWork;
+    }
+
+    List<CustomerId> seedCustomers(int count) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<CustomerId> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, count);
+            int start = from;
+            unitOfWork.run(() -> {
+                for (int i = start; i < to; i++) {
+                    Customer customer = customerRepository.save(Customer.builder()
+                            .id(CustomerId.of(UUID.randomUUID().toString()))
+                            .name("Cliente " + i)
+                            .email(Email.of("cliente" + i + "." + run + "@loadtest.arka"))
+                            .city("Ciudad " + (i % 20))
+                            .build());
+                    ids.add(customer.getId());
+                }
+            });
+        }
+        return ids;
+    }
+
+    List<Product> seedProducts(int count, int stock) {
+        List<Product> products = new ArrayList<>(count);
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, count);
+            int start = from;
+            unitOfWork.run(() -> {
+                for (int i = start; i < to; i++) {
+                    ProductCategory category = CATEGORIES[i % CATEGORIES.length];
+                    products.add(inventoryService.registerProduct(
+                            "Producto " + i,
+                            "Producto sintetico de " + category,
+                            Money.of(BigDecimal.valueOf(10_000L + (i % 100) * 1_000L), "COP"),
+                            stock,
+                            category.name()));
+                }
+            });
+        }
+        return products;
+    }
+}
@@ -0,0 +1,38 @@
+-- Esquema base equivalente al generado por Hibernate para las entidades JPA.
+-- Usa IF NOT EXISTS para adoptar bases de datos creadas con hbm2ddl=update.
+
+CREATE TABLE IF NOT EXISTS customers (
+    id VARCHAR(100) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255),
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(50),
+    city VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id VARCHAR(100) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    price_amount NUMERIC(19,4) NOT NULL,
+    price_currency VARCHAR(3) NOT NULL,
+    stock INTEGER NOT NULL,
+    category VARCHAR(50) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    id VARCHAR(100) NOT NULL PRIMARY KEY,
+    customer_id VARCHAR(100) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id VARCHAR(100) NOT NULL PRIMARY KEY,
+    order_id VARCHAR(100) NOT NULL REFERENCES orders (id),
+    product_id VARCHAR(100) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price_amount NUMERIC(19,4) NOT NULL,
+    unit_price_currency VARCHAR(3) NOT NULL
+);
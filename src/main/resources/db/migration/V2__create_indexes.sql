@@ -0,0 +1,17 @@
+-- Indices secundarios para las consultas de los repositorios JPA.
+
+-- JpaOrderRepository.findByCustomerId
+CREATE INDEX IF NOT EXISTS idx_orders_customer_id ON orders (customer_id);
+
+-- JpaOrderRepository.findByStatus / findPendingOrders; el prefijo (status)
+-- cubre el filtro por estado y created_at permite recorrerlas en orden.
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON orders (status, created_at);
+
+-- Carga de items por orden (fetch join y orphan removal)
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items (order_id);
+
+-- JpaProductRepository.findLowStockProducts
+CREATE INDEX IF NOT EXISTS idx_products_stock ON products (stock);
+
+-- JpaProductRepository.findByCategory
+CREATE INDEX IF NOT EXISTS idx_products_category ON products (category);
@@ -0,0 +1,20 @@
+-- Bandeja de salida de notificaciones (OutboxNotificationService). Los
+-- eventos se insertan en la misma transaccion que la orden y los entrega
+-- OutboxDispatcher en segundo plano.
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id VARCHAR(100) NOT NULL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    order_id VARCHAR(100),
+    customer_email VARCHAR(255),
+    status VARCHAR(50),
+    product_name VARCHAR(255),
+    current_stock INTEGER,
+    state VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    next_attempt_at TIMESTAMP NOT NULL
+);
+
+-- JpaNotificationOutbox.findDue: eventos pendientes cuyo reintento ya vencio
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_state_next_attempt ON notification_outbox (state, next_attempt_at);
@@ -0,0 +1,13 @@
+-- Totales desnormalizados de cada orden. JpaOrderRepository.save los
+-- recalcula desde los items en cada escritura, asi que los listados y
+-- reportes de ingresos se resuelven sobre la tabla orders sin leer items.
+
+ALTER TABLE orders ADD COLUMN total_amount NUMERIC(19,4) NOT NULL DEFAULT 0;
+ALTER TABLE orders ADD COLUMN total_currency VARCHAR(3) NOT NULL DEFAULT 'COP';
+ALTER TABLE orders ADD COLUMN line_count INTEGER NOT NULL DEFAULT 0;
+
+-- Calcula los totales de las ordenes existentes
+UPDATE orders SET
+    total_amount = COALESCE((SELECT SUM(i.quantity * i.unit_price_amount) FROM order_items i WHERE i.order_id = orders.id), 0),
+    total_currency = COALESCE((SELECT MIN(i.unit_price_currency) FROM order_items i WHERE i.order_id = orders.id), 'COP'),
+    line_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = orders.id);
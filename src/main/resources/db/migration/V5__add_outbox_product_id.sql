@@ -0,0 +1,13 @@
+-- Las alertas de stock bajo identifican el producto por id:
+-- CoalescingNotificationService agrupa por id y no por nombre, que puede
+-- repetirse o cambiar.
+
+ALTER TABLE notification_outbox ADD COLUMN product_id VARCHAR(100);
+
+-- Completa las alertas pendientes con el id del producto de ese nombre
+UPDATE notification_outbox SET product_id = (SELECT MIN(p.id) FROM products p WHERE p.name = notification_outbox.product_name)
+WHERE event_type = 'LOW_STOCK_ALERT';
+
+-- Las alertas de productos que ya no existen no se pueden entregar
+UPDATE notification_outbox SET state = 'FAILED'
+WHERE event_type = 'LOW_STOCK_ALERT' AND product_id IS NULL;
@@ -2,10 +2,15 @@ package com.enyoi.arka.adapters.in;
 
 import com.enyoi.arka.domain.entities.Product;
 import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.exception.InsufficientStockException;
 import com.enyoi.arka.domain.exception.ProductNotFoundException;
+import com.enyoi.arka.domain.ports.out.LowStockIndex;
 import com.enyoi.arka.domain.ports.out.NotificationService;
 import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
 import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.Page;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -133,6 +138,43 @@ class InventoryServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getProductsPage()")
+    class GetProductsPageTests {
+
+        @Test
+        @DisplayName("Debe pedir una fila extra y retornar el cursor de la siguiente página")
+        void debeRetornarCursorDeSiguientePagina() {
+            // Given
+            when(productRepository.findPage(null, 3)).thenReturn(List.of(
+                    crearProducto("prod-001", "Producto 1", 10),
+                    crearProducto("prod-002", "Producto 2", 20),
+                    crearProducto("prod-003", "Producto 3", 30)));
+
+            // When
+            Page<Product, ProductId> pagina = inventoryService.getProductsPage(null, 2);
+
+            // Then
+            assertThat(pagina.items()).hasSize(2);
+            assertThat(pagina.next()).isEqualTo(ProductId.of("prod-002"));
+        }
+
+        @Test
+        @DisplayName("La última página no debe tener cursor")
+        void ultimaPaginaNoDebeTenerCursor() {
+            // Given
+            when(productRepository.findPage(ProductId.of("prod-002"), 3))
+                    .thenReturn(List.of(crearProducto("prod-003", "Producto 3", 30)));
+
+            // When
+            Page<Product, ProductId> pagina = inventoryService.getProductsPage(ProductId.of("prod-002"), 2);
+
+            // Then
+            assertThat(pagina.items()).hasSize(1);
+            assertThat(pagina.hasNext()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("updateStock()")
     class UpdateStockTests {
@@ -162,15 +204,71 @@ class InventoryServiceImplTest {
         @DisplayName("Debe reducir stock de producto")
         void debeReducirStockDeProducto() {
             // Given
-            Product producto = crearProducto("prod-001", "Teclado", 50);
-            when(productRepository.findById(ProductId.of("prod-001"))).thenReturn(Optional.of(producto));
-            when(productRepository.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(productRepository.tryDecrementStock(ProductId.of("prod-001"), 10)).thenReturn(true);
 
             // When
             inventoryService.reduceStock(ProductId.of("prod-001"), 10);
 
             // Then
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository).tryDecrementStock(ProductId.of("prod-001"), 10);
+            verify(productRepository, never()).save(any(Product.class));
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción si el stock es insuficiente")
+        void debeLanzarExcepcionSiStockInsuficiente() {
+            // Given
+            Product producto = crearProducto("prod-001", "Teclado", 5);
+            when(productRepository.tryDecrementStock(ProductId.of("prod-001"), 10)).thenReturn(false);
+            when(productRepository.findById(ProductId.of("prod-001"))).thenReturn(Optional.of(producto));
+
+            // When & Then
+            assertThatThrownBy(() -> inventoryService.reduceStock(ProductId.of("prod-001"), 10))
+                    .isInstanceOf(InsufficientStockException.class)
+                    .hasMessageContaining("available 5");
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción si el producto no existe")
+        void debeLanzarExcepcionSiProductoNoExiste() {
+            // Given
+            when(productRepository.tryDecrementStock(any(), anyInt())).thenReturn(false);
+            when(productRepository.findById(any())).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> inventoryService.reduceStock(ProductId.of("no-existe"), 10))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("increaseStock()")
+    class IncreaseStockTests {
+
+        @Test
+        @DisplayName("Debe sumar el stock con un incremento atómico, sin leer el producto")
+        void debeSumarStockSinLeerProducto() {
+            // Given
+            when(productRepository.incrementStock(ProductId.of("prod-001"), 50)).thenReturn(true);
+
+            // When
+            inventoryService.increaseStock(ProductId.of("prod-001"), 50);
+
+            // Then
+            verify(productRepository).incrementStock(ProductId.of("prod-001"), 50);
+            verify(productRepository, never()).findById(any());
+            verify(productRepository, never()).save(any(Product.class));
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción si el producto no existe")
+        void debeLanzarExcepcionSiProductoNoExiste() {
+            // Given
+            when(productRepository.incrementStock(ProductId.of("no-existe"), 50)).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> inventoryService.increaseStock(ProductId.of("no-existe"), 50))
+                    .isInstanceOf(ProductNotFoundException.class);
         }
     }
 
@@ -193,6 +291,39 @@ class InventoryServiceImplTest {
             // Then
             assertThat(resultado).hasSize(1);
         }
+
+        @Test
+        @DisplayName("Debe aplicar el umbral a stock estrictamente menor")
+        void debeExcluirStockIgualAlUmbral() {
+            // Given
+            when(productRepository.findLowStockProducts(10)).thenReturn(List.of(
+                    crearProducto("prod-001", "Producto 1", 9),
+                    crearProducto("prod-002", "Producto 2", 10)
+            ));
+
+            // When
+            List<Product> resultado = inventoryService.getLowStockProducts();
+
+            // Then
+            assertThat(resultado).extracting(Product::getName).containsExactly("Producto 1");
+        }
+
+        @Test
+        @DisplayName("Debe consultar el índice de stock bajo si se configura")
+        void debeConsultarIndiceDeStockBajo() {
+            // Given
+            LowStockIndex indice = mock(LowStockIndex.class);
+            when(indice.lowStockProducts()).thenReturn(List.of(crearProducto("prod-001", "Producto 1", 5)));
+            InventoryServiceImpl servicio = new InventoryServiceImpl(
+                    productRepository, notificationService, UnitOfWork.none(), indice);
+
+            // When
+            List<Product> resultado = servicio.getLowStockProducts();
+
+            // Then
+            assertThat(resultado).hasSize(1);
+            verify(productRepository, never()).findLowStockProducts(anyInt());
+        }
     }
 
     @Nested
@@ -200,8 +331,8 @@ class InventoryServiceImplTest {
     class GenerateRestockReportTests {
 
         @Test
-        @DisplayName("Debe notificar por cada producto con stock bajo")
-        void debeNotificarPorCadaProductoConStockBajo() {
+        @DisplayName("Debe enviar un único resumen con todos los productos con stock bajo")
+        void debeEnviarUnUnicoResumen() {
             // Given
             List<Product> productosConStockBajo = List.of(
                     crearProducto("prod-001", "Producto 1", 5),
@@ -213,14 +344,15 @@ class InventoryServiceImplTest {
             inventoryService.generateRestockReport();
 
             // Then
-            verify(notificationService, times(2)).notifyLowStockAlert(anyString(), anyInt());
-            verify(notificationService).notifyLowStockAlert("Producto 1", 5);
-            verify(notificationService).notifyLowStockAlert("Producto 2", 3);
+            verify(notificationService).notifyLowStockDigest(List.of(
+                    new LowStockAlert(ProductId.of("prod-001"), "Producto 1", 5),
+                    new LowStockAlert(ProductId.of("prod-002"), "Producto 2", 3)));
+            verify(notificationService, never()).notifyLowStockAlert(any(), anyString(), anyInt());
         }
 
         @Test
-        @DisplayName("No debe notificar si no hay productos con stock bajo")
-        void noDebeNotificarSiNoHayProductosConStockBajo() {
+        @DisplayName("Debe enviar un resumen vacío si no hay productos con stock bajo")
+        void debeEnviarResumenVacioSinStockBajo() {
             // Given
             when(productRepository.findLowStockProducts(10)).thenReturn(List.of());
 
@@ -228,7 +360,8 @@ class InventoryServiceImplTest {
             inventoryService.generateRestockReport();
 
             // Then
-            verify(notificationService, never()).notifyLowStockAlert(anyString(), anyInt());
+            verify(notificationService).notifyLowStockDigest(List.of());
+            verify(notificationService, never()).notifyLowStockAlert(any(), anyString(), anyInt());
         }
     }
 
@@ -249,5 +382,20 @@ class InventoryServiceImplTest {
             assertThatThrownBy(() -> new InventoryServiceImpl(productRepository, null))
                     .isInstanceOf(NullPointerException.class);
         }
+
+        @Test
+        @DisplayName("Debe fallar con UnitOfWork null")
+        void debeFallarConUnitOfWorkNull() {
+            assertThatThrownBy(() -> new InventoryServiceImpl(productRepository, notificationService, null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("Debe fallar con LowStockIndex null")
+        void debeFallarConLowStockIndexNull() {
+            assertThatThrownBy(() -> new InventoryServiceImpl(
+                    productRepository, notificationService, UnitOfWork.none(), null))
+                    .isInstanceOf(NullPointerException.class);
+        }
     }
 }
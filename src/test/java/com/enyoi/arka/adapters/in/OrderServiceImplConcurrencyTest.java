@@ -0,0 +1,135 @@
+package com.enyoi.arka.adapters.in;
+
+import com.enyoi.arka.adapters.out.repository.JpaCustomerRepository;
+import com.enyoi.arka.adapters.out.repository.JpaOrderRepository;
+import com.enyoi.arka.adapters.out.repository.JpaProductRepository;
+import com.enyoi.arka.adapters.out.repository.config.DatabaseConfig;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.adapters.out.repository.config.SqliteProfile;
+import com.enyoi.arka.adapters.out.service.ConsoleNotificationService;
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.exception.InsufficientStockException;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderServiceImpl - Tests de Concurrencia")
+class OrderServiceImplConcurrencyTest {
+
+    private static final int HILOS = 32;
+    private static final int STOCK_INICIAL = 20;
+
+    // Base de datos en archivo: la base en memoria compartida no admite
+    // escritores concurrentes desde varias conexiones
+    @TempDir
+    static Path directorio;
+
+    private static EntityManagerFactory entityManagerFactory;
+    private static JpaUnitOfWork unitOfWork;
+    private static JpaProductRepository productRepository;
+    private static JpaCustomerRepository customerRepository;
+    private static JpaOrderRepository orderRepository;
+    private static OrderServiceImpl orderService;
+
+    @BeforeAll
+    static void setUpClass() {
+        String jdbcUrl = "jdbc:sqlite:" + directorio.resolve("arka-concurrency.db");
+        entityManagerFactory = DatabaseConfig.createEntityManagerFactory(jdbcUrl, SqliteProfile.THROUGHPUT);
+        unitOfWork = new JpaUnitOfWork(entityManagerFactory);
+
+        productRepository = new JpaProductRepository(unitOfWork::currentEntityManager);
+        customerRepository = new JpaCustomerRepository(unitOfWork::currentEntityManager);
+        orderRepository = new JpaOrderRepository(unitOfWork::currentEntityManager);
+        orderService = new OrderServiceImpl(orderRepository, productRepository, customerRepository,
+                new ConsoleNotificationService(), unitOfWork);
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe crear órdenes desde 32 hilos sin sobrevender el stock")
+    void debeCrearOrdenesConcurrentesSinSobrevender() throws Exception {
+        // Given
+        unitOfWork.run(() -> {
+            customerRepository.save(Customer.builder()
+                    .id(CustomerId.of("cust-001"))
+                    .name("Cliente")
+                    .lastName("Concurrente")
+                    .email(Email.of("concurrente@test.com"))
+                    .phone("123456789")
+                    .city("Bogotá")
+                    .build());
+            productRepository.save(Product.builder()
+                    .id(ProductId.of("prod-001"))
+                    .name("Teclado")
+                    .description("Teclado mecánico")
+                    .price(Money.of(new BigDecimal("150000.00"), "COP"))
+                    .stock(STOCK_INICIAL)
+                    .category(ProductCategory.PERIFERICOS)
+                    .build());
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch inicio = new CountDownLatch(1);
+        AtomicInteger creadas = new AtomicInteger();
+        AtomicInteger sinStock = new AtomicInteger();
+        List<Future<?>> tareas = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < HILOS; i++) {
+            tareas.add(executor.submit(() -> {
+                inicio.await();
+                OrderItem item = OrderItem.builder()
+                        .productId(ProductId.of("prod-001"))
+                        .quantity(1)
+                        .unitPrice(Money.of(new BigDecimal("150000.00"), "COP"))
+                        .build();
+                try {
+                    orderService.createOrder(CustomerId.of("cust-001"), List.of(item));
+                    creadas.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    sinStock.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        inicio.countDown();
+        for (Future<?> tarea : tareas) {
+            tarea.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(creadas.get()).isEqualTo(STOCK_INICIAL);
+        assertThat(sinStock.get()).isEqualTo(HILOS - STOCK_INICIAL);
+        assertThat(unitOfWork.execute(() -> productRepository.findById(ProductId.of("prod-001"))))
+                .hasValueSatisfying(producto -> assertThat(producto.getStock()).isZero());
+        assertThat(unitOfWork.execute(() -> orderRepository.findByCustomerId(CustomerId.of("cust-001"))))
+                .hasSize(STOCK_INICIAL);
+    }
+}
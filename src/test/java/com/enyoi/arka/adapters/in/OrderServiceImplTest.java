@@ -16,6 +16,10 @@ import com.enyoi.arka.domain.valueobjects.CustomerId;
 import com.enyoi.arka.domain.valueobjects.Email;
 import com.enyoi.arka.domain.valueobjects.Money;
 import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderStatusChange;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.OrderTransition;
+import com.enyoi.arka.domain.valueobjects.OrderTransitionResult;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,11 +31,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -109,10 +116,10 @@ class OrderServiceImplTest {
             Product producto = crearProducto("prod-001", 100);
             OrderItem item = crearItem("prod-001", 2, 100000);
 
-            when(customerRepository.findById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente));
-            when(productRepository.findById(ProductId.of("prod-001"))).thenReturn(Optional.of(producto));
+            when(customerRepository.findEmailById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente.getEmail()));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of(producto));
+            when(productRepository.tryDecrementStock(anyMap())).thenReturn(Optional.empty());
             when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
-            when(productRepository.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
             Order resultado = orderService.createOrder(CustomerId.of("cust-001"), List.of(item));
@@ -121,7 +128,8 @@ class OrderServiceImplTest {
             assertThat(resultado).isNotNull();
             assertThat(resultado.getItems()).hasSize(1);
             verify(orderRepository).save(any(Order.class));
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository).tryDecrementStock(Map.of(ProductId.of("prod-001"), 2));
+            verify(productRepository, never()).save(any(Product.class));
             verify(notificationService).notifyOrderStatusChange(anyString(), anyString(), eq("PENDIENTE"));
         }
 
@@ -129,7 +137,7 @@ class OrderServiceImplTest {
         @DisplayName("Debe lanzar excepción si cliente no existe")
         void debeLanzarExcepcionSiClienteNoExiste() {
             // Given
-            when(customerRepository.findById(any())).thenReturn(Optional.empty());
+            when(customerRepository.findEmailById(any())).thenReturn(Optional.empty());
             OrderItem item = crearItem("prod-001", 2, 100000);
 
             // When & Then
@@ -143,8 +151,8 @@ class OrderServiceImplTest {
         void debeLanzarExcepcionSiProductoNoExiste() {
             // Given
             Customer cliente = crearCliente("cust-001");
-            when(customerRepository.findById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente));
-            when(productRepository.findById(any())).thenReturn(Optional.empty());
+            when(customerRepository.findEmailById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente.getEmail()));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of());
             OrderItem item = crearItem("no-existe", 2, 100000);
 
             // When & Then
@@ -160,14 +168,83 @@ class OrderServiceImplTest {
             Product producto = crearProducto("prod-001", 5);
             OrderItem item = crearItem("prod-001", 10, 100000);
 
-            when(customerRepository.findById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente));
-            when(productRepository.findById(ProductId.of("prod-001"))).thenReturn(Optional.of(producto));
+            when(customerRepository.findEmailById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente.getEmail()));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of(producto));
 
             // When & Then
             assertThatThrownBy(() -> orderService.createOrder(CustomerId.of("cust-001"), List.of(item)))
                     .isInstanceOf(InsufficientStockException.class)
                     .hasMessageContaining("Insufficient stock");
         }
+
+        @Test
+        @DisplayName("Debe cargar todos los productos en una sola consulta")
+        void debeCargarTodosLosProductosEnUnaSolaConsulta() {
+            // Given
+            Customer cliente = crearCliente("cust-001");
+            Product producto1 = crearProducto("prod-001", 100);
+            Product producto2 = crearProducto("prod-002", 100);
+            List<OrderItem> items = List.of(
+                    crearItem("prod-001", 2, 100000),
+                    crearItem("prod-002", 3, 100000)
+            );
+
+            when(customerRepository.findEmailById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente.getEmail()));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of(producto1, producto2));
+            when(productRepository.tryDecrementStock(anyMap())).thenReturn(Optional.empty());
+            when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            // When
+            orderService.createOrder(CustomerId.of("cust-001"), items);
+
+            // Then
+            verify(productRepository, times(1)).findAllById(anyCollection());
+            verify(productRepository, never()).findById(any());
+            verify(productRepository).tryDecrementStock(Map.of(
+                    ProductId.of("prod-001"), 2,
+                    ProductId.of("prod-002"), 3));
+        }
+
+        @Test
+        @DisplayName("Debe fallar sin guardar la orden si otro pedido agotó el stock")
+        void debeFallarSinGuardarOrdenSiOtroPedidoAgotoElStock() {
+            // Given
+            Customer cliente = crearCliente("cust-001");
+            Product producto = crearProducto("prod-001", 10);
+            OrderItem item = crearItem("prod-001", 5, 100000);
+
+            when(customerRepository.findEmailById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente.getEmail()));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of(producto));
+            when(productRepository.tryDecrementStock(anyMap())).thenReturn(Optional.of(ProductId.of("prod-001")));
+            when(productRepository.findById(ProductId.of("prod-001"))).thenReturn(Optional.of(crearProducto("prod-001", 2)));
+
+            // When & Then - informa el stock que dejó el otro pedido, no el leído antes
+            assertThatThrownBy(() -> orderService.createOrder(CustomerId.of("cust-001"), List.of(item)))
+                    .isInstanceOf(InsufficientStockException.class)
+                    .hasMessageContaining("available 2");
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(notificationService, never()).notifyOrderStatusChange(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Debe validar stock sumando items repetidos del mismo producto")
+        void debeValidarStockSumandoItemsRepetidos() {
+            // Given
+            Customer cliente = crearCliente("cust-001");
+            Product producto = crearProducto("prod-001", 5);
+            List<OrderItem> items = List.of(
+                    crearItem("prod-001", 3, 100000),
+                    crearItem("prod-001", 3, 100000)
+            );
+
+            when(customerRepository.findEmailById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente.getEmail()));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of(producto));
+
+            // When & Then
+            assertThatThrownBy(() -> orderService.createOrder(CustomerId.of("cust-001"), items))
+                    .isInstanceOf(InsufficientStockException.class);
+            verify(orderRepository, never()).save(any(Order.class));
+        }
     }
 
     @Nested
@@ -233,12 +310,9 @@ class OrderServiceImplTest {
         @DisplayName("Debe confirmar orden pendiente")
         void debeConfirmarOrdenPendiente() {
             // Given
-            Order orden = crearOrden("order-001", "cust-001", OrderStatus.PENDIENTE, List.of());
-            Customer cliente = crearCliente("cust-001");
-
-            when(orderRepository.findById(OrderId.of("order-001"))).thenReturn(Optional.of(orden));
-            when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
-            when(customerRepository.findById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente));
+            Order confirmada = crearOrden("order-001", "cust-001", OrderStatus.CONFIRMADO, List.of());
+            when(orderRepository.transitionStatus(OrderId.of("order-001"), OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO))
+                    .thenReturn(Optional.of(new OrderStatusChange(confirmada, "cliente@test.com")));
 
             // When
             Order resultado = orderService.confirmOrder(OrderId.of("order-001"));
@@ -246,20 +320,50 @@ class OrderServiceImplTest {
             // Then
             assertThat(resultado).isNotNull();
             assertThat(resultado.getStatus()).isEqualTo(OrderStatus.CONFIRMADO);
-            verify(orderRepository).save(any(Order.class));
-            verify(notificationService).notifyOrderStatusChange(anyString(), anyString(), eq("CONFIRMADO"));
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(customerRepository, never()).findById(any());
+            verify(notificationService).notifyOrderStatusChange("order-001", "cliente@test.com", "CONFIRMADO");
         }
 
         @Test
         @DisplayName("Debe fallar al confirmar orden no pendiente")
         void debeFallarAlConfirmarOrdenNoPendiente() {
             // Given
-            Order orden = crearOrden("order-001", "cust-001", OrderStatus.ENTREGADO, List.of());
-            when(orderRepository.findById(OrderId.of("order-001"))).thenReturn(Optional.of(orden));
+            when(orderRepository.transitionStatus(any(), any(), any())).thenReturn(Optional.empty());
+            when(orderRepository.existsById(OrderId.of("order-001"))).thenReturn(true);
 
             // When & Then
             assertThatThrownBy(() -> orderService.confirmOrder(OrderId.of("order-001")))
-                    .isInstanceOf(IllegalStateException.class);
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("only pending orders can be confirmed");
+            verify(notificationService, never()).notifyOrderStatusChange(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Debe fallar al confirmar orden inexistente")
+        void debeFallarAlConfirmarOrdenInexistente() {
+            // Given
+            when(orderRepository.transitionStatus(any(), any(), any())).thenReturn(Optional.empty());
+            when(orderRepository.existsById(OrderId.of("no-existe"))).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> orderService.confirmOrder(OrderId.of("no-existe")))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Order not found");
+        }
+
+        @Test
+        @DisplayName("Debe fallar si el cliente de la orden no existe")
+        void debeFallarSiClienteNoExiste() {
+            // Given
+            Order confirmada = crearOrden("order-001", "cust-001", OrderStatus.CONFIRMADO, List.of());
+            when(orderRepository.transitionStatus(any(), any(), any()))
+                    .thenReturn(Optional.of(new OrderStatusChange(confirmada, null)));
+
+            // When & Then
+            assertThatThrownBy(() -> orderService.confirmOrder(OrderId.of("order-001")))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Customer not found");
         }
     }
 
@@ -314,11 +418,9 @@ class OrderServiceImplTest {
             // Given
             OrderItem item = crearItem("prod-001", 2, 100000);
             Order orden = crearOrden("order-001", "cust-001", OrderStatus.PENDIENTE, List.of(item));
-            Product producto = crearProducto("prod-001", 100);
 
             when(orderRepository.findById(OrderId.of("order-001"))).thenReturn(Optional.of(orden));
-            when(productRepository.findById(ProductId.of("prod-001"))).thenReturn(Optional.of(producto));
-            when(productRepository.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(productRepository.incrementStock(ProductId.of("prod-001"), 2)).thenReturn(true);
             when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
@@ -326,7 +428,7 @@ class OrderServiceImplTest {
 
             // Then
             assertThat(resultado).isNotNull();
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository).incrementStock(ProductId.of("prod-001"), 2);
             verify(orderRepository).save(any(Order.class));
         }
     }
@@ -339,12 +441,9 @@ class OrderServiceImplTest {
         @DisplayName("Debe enviar orden confirmada")
         void debeEnviarOrdenConfirmada() {
             // Given
-            Order orden = crearOrden("order-001", "cust-001", OrderStatus.CONFIRMADO, List.of());
-            Customer cliente = crearCliente("cust-001");
-
-            when(orderRepository.findById(OrderId.of("order-001"))).thenReturn(Optional.of(orden));
-            when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
-            when(customerRepository.findById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente));
+            Order actualizada = crearOrden("order-001", "cust-001", OrderStatus.EN_DESPACHO, List.of());
+            when(orderRepository.transitionStatus(OrderId.of("order-001"), OrderStatus.CONFIRMADO, OrderStatus.EN_DESPACHO))
+                    .thenReturn(Optional.of(new OrderStatusChange(actualizada, "cliente@test.com")));
 
             // When
             Order resultado = orderService.shipOrder(OrderId.of("order-001"));
@@ -364,12 +463,9 @@ class OrderServiceImplTest {
         @DisplayName("Debe entregar orden en despacho")
         void debeEntregarOrdenEnDespacho() {
             // Given
-            Order orden = crearOrden("order-001", "cust-001", OrderStatus.EN_DESPACHO, List.of());
-            Customer cliente = crearCliente("cust-001");
-
-            when(orderRepository.findById(OrderId.of("order-001"))).thenReturn(Optional.of(orden));
-            when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
-            when(customerRepository.findById(CustomerId.of("cust-001"))).thenReturn(Optional.of(cliente));
+            Order actualizada = crearOrden("order-001", "cust-001", OrderStatus.ENTREGADO, List.of());
+            when(orderRepository.transitionStatus(OrderId.of("order-001"), OrderStatus.EN_DESPACHO, OrderStatus.ENTREGADO))
+                    .thenReturn(Optional.of(new OrderStatusChange(actualizada, "cliente@test.com")));
 
             // When
             Order resultado = orderService.deliverOrder(OrderId.of("order-001"));
@@ -381,6 +477,69 @@ class OrderServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("confirmOrders() / shipOrders()")
+    class BatchTransitionTests {
+
+        @Test
+        @DisplayName("Debe retornar el resultado por orden y notificar en un solo lote")
+        void debeRetornarResultadoPorOrdenYNotificarEnLote() {
+            // Given
+            List<OrderId> ids = List.of(OrderId.of("order-001"), OrderId.of("order-002"), OrderId.of("order-003"));
+            when(orderRepository.transitionStatuses(ids, OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO)).thenReturn(List.of(
+                    new OrderTransition(OrderId.of("order-001"), OrderTransitionResult.OK, "uno@test.com"),
+                    new OrderTransition(OrderId.of("order-002"), OrderTransitionResult.ILLEGAL_STATE, null),
+                    new OrderTransition(OrderId.of("order-003"), OrderTransitionResult.NOT_FOUND, null)
+            ));
+
+            // When
+            Map<OrderId, OrderTransitionResult> resultado = orderService.confirmOrders(ids);
+
+            // Then
+            assertThat(resultado).containsExactly(
+                    Map.entry(OrderId.of("order-001"), OrderTransitionResult.OK),
+                    Map.entry(OrderId.of("order-002"), OrderTransitionResult.ILLEGAL_STATE),
+                    Map.entry(OrderId.of("order-003"), OrderTransitionResult.NOT_FOUND));
+            verify(notificationService).notifyOrderStatusChanges(List.of(
+                    new OrderStatusNotification("order-001", "uno@test.com", "CONFIRMADO")));
+            verify(notificationService, never()).notifyOrderStatusChange(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Debe informar la orden sin cliente en el resultado en lugar de descartar su notificación")
+        void debeInformarOrdenSinCliente() {
+            // Given
+            List<OrderId> ids = List.of(OrderId.of("order-001"), OrderId.of("order-002"));
+            when(orderRepository.transitionStatuses(ids, OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO)).thenReturn(List.of(
+                    new OrderTransition(OrderId.of("order-001"), OrderTransitionResult.OK, "uno@test.com"),
+                    new OrderTransition(OrderId.of("order-002"), OrderTransitionResult.CUSTOMER_NOT_FOUND, null)));
+
+            // When
+            Map<OrderId, OrderTransitionResult> resultado = orderService.confirmOrders(ids);
+
+            // Then
+            assertThat(resultado).containsEntry(OrderId.of("order-002"), OrderTransitionResult.CUSTOMER_NOT_FOUND);
+            verify(notificationService).notifyOrderStatusChanges(List.of(
+                    new OrderStatusNotification("order-001", "uno@test.com", "CONFIRMADO")));
+        }
+
+        @Test
+        @DisplayName("No debe notificar si ninguna orden cambió de estado")
+        void noDebeNotificarSiNingunaOrdenCambio() {
+            // Given
+            List<OrderId> ids = List.of(OrderId.of("order-001"));
+            when(orderRepository.transitionStatuses(ids, OrderStatus.CONFIRMADO, OrderStatus.EN_DESPACHO)).thenReturn(List.of(
+                    new OrderTransition(OrderId.of("order-001"), OrderTransitionResult.ILLEGAL_STATE, null)));
+
+            // When
+            Map<OrderId, OrderTransitionResult> resultado = orderService.shipOrders(ids);
+
+            // Then
+            assertThat(resultado).containsEntry(OrderId.of("order-001"), OrderTransitionResult.ILLEGAL_STATE);
+            verify(notificationService, never()).notifyOrderStatusChanges(any());
+        }
+    }
+
     @Nested
     @DisplayName("getAllOrders()")
     class GetAllOrdersTests {
@@ -404,6 +563,26 @@ class OrderServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("countOrdersByStatus()")
+    class CountOrdersByStatusTests {
+
+        @Test
+        @DisplayName("Debe contar en el repositorio sin cargar órdenes")
+        void debeContarSinCargarOrdenes() {
+            // Given
+            when(orderRepository.countByStatus(OrderStatus.PENDIENTE)).thenReturn(7L);
+
+            // When
+            long resultado = orderService.countOrdersByStatus(OrderStatus.PENDIENTE);
+
+            // Then
+            assertThat(resultado).isEqualTo(7);
+            verify(orderRepository, never()).findAll();
+            verify(orderRepository, never()).findByStatus(any());
+        }
+    }
+
     @Nested
     @DisplayName("Constructor")
     class ConstructorTests {
@@ -435,5 +614,13 @@ class OrderServiceImplTest {
             assertThatThrownBy(() -> new OrderServiceImpl(orderRepository, productRepository, customerRepository, null))
                     .isInstanceOf(NullPointerException.class);
         }
+
+        @Test
+        @DisplayName("Debe fallar con UnitOfWork null")
+        void debeFallarConUnitOfWorkNull() {
+            assertThatThrownBy(() -> new OrderServiceImpl(orderRepository, productRepository, customerRepository,
+                    notificationService, null))
+                    .isInstanceOf(NullPointerException.class);
+        }
     }
 }
@@ -0,0 +1,116 @@
+package com.enyoi.arka.adapters.metrics;
+
+import com.enyoi.arka.domain.exception.ProductNotFoundException;
+import com.enyoi.arka.domain.ports.in.InventoryService;
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Instrumentation - Tests")
+class InstrumentationTest {
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    @DisplayName("Debe delegar la llamada y contarla")
+    void debeDelegarYContar() {
+        // Given
+        InventoryService instrumented = Instrumentation.instrument(InventoryService.class, inventoryService, registry);
+
+        // When
+        instrumented.getAllProducts();
+        instrumented.getAllProducts();
+
+        // Then
+        verify(inventoryService, times(2)).getAllProducts();
+        MethodSnapshot snapshot = registry.method("InventoryService", "getAllProducts").snapshot();
+        assertThat(snapshot.calls()).isEqualTo(2);
+        assertThat(snapshot.errors()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe propagar la excepcion original y contarla como error")
+    void debePropagarExcepcionYContarError() {
+        // Given
+        ProductId id = ProductId.of("prod-001");
+        when(inventoryService.getProductById(id)).thenThrow(new ProductNotFoundException("prod-001"));
+        InventoryService instrumented = Instrumentation.instrument(InventoryService.class, inventoryService, registry);
+
+        // When / Then
+        assertThatThrownBy(() -> instrumented.getProductById(id))
+                .isInstanceOf(ProductNotFoundException.class);
+        MethodSnapshot snapshot = registry.method("InventoryService", "getProductById").snapshot();
+        assertThat(snapshot.calls()).isEqualTo(1);
+        assertThat(snapshot.errors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe medir tambien los metodos por defecto del puerto")
+    void debeMedirMetodosPorDefecto() {
+        // Given
+        NotificationService instrumented = Instrumentation.instrument(NotificationService.class, notificationService, registry);
+        List<LowStockAlert> alerts = List.of(new LowStockAlert(ProductId.of("prod-001"), "Teclado", 2));
+
+        // When
+        instrumented.notifyLowStockDigest(alerts);
+
+        // Then
+        verify(notificationService).notifyLowStockDigest(alerts);
+        assertThat(registry.method("NotificationService", "notifyLowStockDigest").snapshot().calls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe medir por separado las sobrecargas de un método")
+    void debeMedirSobrecargasPorSeparado() {
+        // Given
+        ProductId id = ProductId.of("prod-001");
+        ProductRepository instrumented = Instrumentation.instrument(ProductRepository.class, productRepository, registry);
+
+        // When
+        instrumented.tryDecrementStock(id, 1);
+        instrumented.tryDecrementStock(id, 2);
+        instrumented.tryDecrementStock(Map.of(id, 1));
+
+        // Then
+        assertThat(registry.method("ProductRepository", "tryDecrementStock(ProductId,int)").snapshot().calls())
+                .isEqualTo(2);
+        assertThat(registry.method("ProductRepository", "tryDecrementStock(Map)").snapshot().calls()).isEqualTo(1);
+        assertThat(registry.snapshot()).extracting(MethodSnapshot::method).doesNotContain("tryDecrementStock");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tipos que no son interfaces")
+    void debeRechazarClases() {
+        assertThatThrownBy(() -> Instrumentation.instrument(Object.class, new Object(), registry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
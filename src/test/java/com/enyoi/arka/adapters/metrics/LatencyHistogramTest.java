@@ -0,0 +1,128 @@
+package com.enyoi.arka.adapters.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram - Tests")
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Nested
+    @DisplayName("percentile()")
+    class PercentileTests {
+
+        @Test
+        @DisplayName("Debe retornar cero sin muestras")
+        void debeRetornarCeroSinMuestras() {
+            // When
+            HistogramSnapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertThat(snapshot.count()).isZero();
+            assertThat(snapshot.percentile(99)).isZero();
+        }
+
+        @Test
+        @DisplayName("Debe estimar los percentiles con error relativo menor al 3%")
+        void debeEstimarPercentilesConErrorAcotado() {
+            // Given: 1..100000 microsegundos
+            for (long micros = 1; micros <= 100_000; micros++) {
+                histogram.record(micros * 1_000);
+            }
+
+            // When
+            HistogramSnapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertThat(snapshot.count()).isEqualTo(100_000);
+            assertThat((double) snapshot.percentile(50)).isCloseTo(50_000_000, within(1_500_000.0));
+            assertThat((double) snapshot.percentile(99)).isCloseTo(99_000_000, within(2_970_000.0));
+            assertThat(snapshot.percentile(100)).isEqualTo(100_000_000);
+            assertThat(snapshot.max()).isEqualTo(100_000_000);
+        }
+
+        @Test
+        @DisplayName("Debe registrar exactamente los valores pequeños")
+        void debeRegistrarExactamenteValoresPequenos() {
+            // Given
+            histogram.record(3);
+            histogram.record(7);
+
+            // When
+            HistogramSnapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertThat(snapshot.percentile(50)).isEqualTo(3);
+            assertThat(snapshot.percentile(100)).isEqualTo(7);
+            assertThat(snapshot.mean()).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("Debe rechazar percentiles fuera de rango")
+        void debeRechazarPercentilesFueraDeRango() {
+            assertThatThrownBy(() -> histogram.snapshot().percentile(101))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cubetas")
+    class BucketTests {
+
+        @Test
+        @DisplayName("Cada valor debe caer en una cubeta cuyo limite superior lo contiene")
+        void cadaValorDebeCaerEnSuCubeta() {
+            for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789, 1L << 39}) {
+                int index = LatencyHistogram.indexOf(value);
+                assertThat(LatencyHistogram.upperBound(index)).isGreaterThanOrEqualTo(value);
+                if (index > 0) {
+                    assertThat(LatencyHistogram.upperBound(index - 1)).isLessThan(value);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Los valores fuera de rango deben caer en la ultima cubeta")
+        void valoresFueraDeRangoDebenCaerEnUltimaCubeta() {
+            assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe contar todas las muestras registradas desde varios hilos")
+    void debeContarMuestrasConcurrentes() throws InterruptedException {
+        // Given
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            }));
+        }
+
+        // When
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(histogram.snapshot().count()).isEqualTo(40_000);
+    }
+}
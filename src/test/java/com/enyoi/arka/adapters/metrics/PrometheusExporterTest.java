@@ -0,0 +1,78 @@
+package com.enyoi.arka.adapters.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrometheusExporter - Tests")
+class PrometheusExporterTest {
+
+    private MetricsRegistry registry;
+    private PrometheusExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+        exporter = new PrometheusExporter(registry);
+        MethodMetrics createOrder = registry.method("OrderService", "createOrder");
+        createOrder.record(2_000_000, false);
+        createOrder.record(4_000_000, true);
+    }
+
+    @Test
+    @DisplayName("Debe exportar contadores y cuantiles por puerto y metodo")
+    void debeExportarContadoresYCuantiles() {
+        // When
+        String texto = exporter.scrape();
+
+        // Then
+        assertThat(texto)
+                .contains("# TYPE arka_port_calls_total counter")
+                .contains("arka_port_calls_total{port=\"OrderService\",method=\"createOrder\"} 2")
+                .contains("arka_port_errors_total{port=\"OrderService\",method=\"createOrder\"} 1")
+                .contains("# TYPE arka_port_latency_seconds summary")
+                .contains("arka_port_latency_seconds{port=\"OrderService\",method=\"createOrder\",quantile=\"0.99\"}")
+                .contains("arka_port_latency_seconds_sum{port=\"OrderService\",method=\"createOrder\"} 0.006000000")
+                .contains("arka_port_latency_seconds_count{port=\"OrderService\",method=\"createOrder\"} 2");
+    }
+
+    @Test
+    @DisplayName("writeTo() debe escribir el archivo completo")
+    void writeToDebeEscribirArchivo(@TempDir Path dir) throws IOException {
+        // Given
+        Path archivo = dir.resolve("metrics/arka.prom");
+
+        // When
+        exporter.writeTo(archivo);
+
+        // Then
+        assertThat(Files.readString(archivo)).isEqualTo(exporter.scrape());
+    }
+
+    @Test
+    @DisplayName("El endpoint debe publicar las metricas en /metrics")
+    void endpointDebePublicarMetricas() throws Exception {
+        try (PrometheusEndpoint endpoint = PrometheusEndpoint.start(exporter, 0)) {
+            // When
+            HttpResponse<String> respuesta = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + endpoint.port() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            // Then
+            assertThat(respuesta.statusCode()).isEqualTo(200);
+            assertThat(respuesta.headers().firstValue("Content-Type")).contains(PrometheusExporter.CONTENT_TYPE);
+            assertThat(respuesta.body()).contains("arka_port_calls_total");
+        }
+    }
+}
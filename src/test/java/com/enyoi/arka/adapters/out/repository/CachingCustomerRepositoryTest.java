@@ -0,0 +1,255 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.ports.out.CustomerRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingCustomerRepository - Tests")
+class CachingCustomerRepositoryTest {
+
+    private static final CustomerId ID = CustomerId.of("cust-001");
+    private static final Email EMAIL = Email.of("cliente@test.com");
+
+    @Mock
+    private CustomerRepository delegate;
+
+    private CachingCustomerRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingCustomerRepository(delegate, 100, Duration.ofMinutes(5));
+    }
+
+    @Nested
+    @DisplayName("findEmailById()")
+    class FindEmailByIdTests {
+
+        @Test
+        @DisplayName("Debe consultar el repositorio una sola vez por cliente")
+        void debeConsultarUnaSolaVez() {
+            // Given
+            when(delegate.findEmailById(ID)).thenReturn(Optional.of(EMAIL));
+
+            // When
+            repository.findEmailById(ID);
+            Optional<Email> resultado = repository.findEmailById(ID);
+
+            // Then
+            assertThat(resultado).contains(EMAIL);
+            verify(delegate, times(1)).findEmailById(ID);
+            verify(delegate, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("No debe cachear clientes inexistentes")
+        void noDebeCachearInexistentes() {
+            // Given
+            when(delegate.findEmailById(ID)).thenReturn(Optional.empty());
+
+            // When
+            repository.findEmailById(ID);
+            repository.findEmailById(ID);
+
+            // Then
+            verify(delegate, times(2)).findEmailById(ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidación")
+    class InvalidationTests {
+
+        @BeforeEach
+        void setUp() {
+            when(delegate.findEmailById(ID)).thenReturn(Optional.of(EMAIL));
+            repository.findEmailById(ID);
+        }
+
+        @Test
+        @DisplayName("save() debe invalidar el email del cliente")
+        void saveDebeInvalidar() {
+            // Given
+            Customer cliente = Customer.builder()
+                    .id(ID)
+                    .name("Cliente")
+                    .email(Email.of("nuevo@test.com"))
+                    .build();
+
+            // When
+            repository.save(cliente);
+            repository.findEmailById(ID);
+
+            // Then
+            verify(delegate).save(cliente);
+            verify(delegate, times(2)).findEmailById(ID);
+        }
+
+        @Test
+        @DisplayName("delete() debe invalidar el email del cliente")
+        void deleteDebeInvalidar() {
+            // When
+            repository.delete(ID);
+            repository.findEmailById(ID);
+
+            // Then
+            verify(delegate).delete(ID);
+            verify(delegate, times(2)).findEmailById(ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("existsById()")
+    class ExistsByIdTests {
+
+        @Test
+        @DisplayName("Debe responder desde el cache sin contar aciertos")
+        void debeResponderDesdeCacheSinContar() {
+            // Given
+            when(delegate.findEmailById(ID)).thenReturn(Optional.of(EMAIL));
+            repository.findEmailById(ID);
+
+            // When
+            boolean existe = repository.existsById(ID);
+
+            // Then
+            assertThat(existe).isTrue();
+            verify(delegate, never()).existsById(ID);
+            assertThat(repository.stats().hits()).isZero();
+            assertThat(repository.stats().misses()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Dentro de una unidad de trabajo")
+    class UnitOfWorkTests {
+
+        private UnidadDeTrabajoAbierta unidad;
+
+        @BeforeEach
+        void setUp() {
+            unidad = new UnidadDeTrabajoAbierta();
+            repository = new CachingCustomerRepository(delegate, 100, Duration.ofMinutes(5), unidad);
+        }
+
+        @Test
+        @DisplayName("Tras escribir no debe cachear un email que luego se revierte")
+        void noDebeCachearEmailRevertido() {
+            // Given
+            Email nuevo = Email.of("nuevo@test.com");
+            when(delegate.findEmailById(ID)).thenReturn(Optional.of(nuevo), Optional.of(EMAIL));
+            repository.save(Customer.builder().id(ID).name("Cliente").email(nuevo).build());
+            repository.findEmailById(ID);
+
+            // When
+            unidad.revertir();
+            Optional<Email> resultado = repository.findEmailById(ID);
+
+            // Then
+            assertThat(resultado).contains(EMAIL);
+            verify(delegate, times(2)).findEmailById(ID);
+        }
+
+        @Test
+        @DisplayName("Debe invalidar al confirmar el email que otro hilo cacheó durante la transacción")
+        void debeInvalidarAlConfirmar() throws Exception {
+            // Given
+            when(delegate.findEmailById(ID)).thenReturn(Optional.of(EMAIL), Optional.empty());
+            repository.delete(ID);
+            Thread otroHilo = new Thread(() -> repository.findEmailById(ID));
+            otroHilo.start();
+            otroHilo.join();
+
+            // When
+            unidad.confirmar();
+            Optional<Email> resultado = repository.findEmailById(ID);
+
+            // Then
+            assertThat(resultado).isEmpty();
+            verify(delegate, times(2)).findEmailById(ID);
+        }
+
+        @Test
+        @DisplayName("No debe cachear una lectura que empezó antes de un commit concurrente")
+        void noDebeCachearLecturaAnteriorAlCommit() throws Exception {
+            // Given
+            CountDownLatch leido = new CountDownLatch(1);
+            CountDownLatch continuar = new CountDownLatch(1);
+            AtomicInteger lecturas = new AtomicInteger();
+            when(delegate.findEmailById(ID)).thenAnswer(invocation -> {
+                if (lecturas.incrementAndGet() == 1) {
+                    leido.countDown();
+                    continuar.await();
+                    return Optional.of(EMAIL);
+                }
+                return Optional.empty();
+            });
+            Thread lector = new Thread(() -> repository.findEmailById(ID));
+            lector.start();
+            leido.await();
+
+            // When
+            repository.delete(ID);
+            unidad.confirmar();
+            continuar.countDown();
+            lector.join();
+            Optional<Email> resultado = repository.findEmailById(ID);
+
+            // Then
+            assertThat(resultado).isEmpty();
+            verify(delegate, times(2)).findEmailById(ID);
+        }
+    }
+
+    /**
+     * Unidad de trabajo que se mantiene abierta hasta que la prueba la
+     * confirma o la revierte.
+     */
+    private static class UnidadDeTrabajoAbierta implements UnitOfWork {
+        private final List<Runnable> alConfirmar = new ArrayList<>();
+        private final List<Runnable> alRevertir = new ArrayList<>();
+
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+
+        @Override
+        public void afterCommit(Runnable action) {
+            alConfirmar.add(action);
+        }
+
+        @Override
+        public void afterRollback(Runnable action) {
+            alRevertir.add(action);
+        }
+
+        void confirmar() {
+            alConfirmar.forEach(Runnable::run);
+        }
+
+        void revertir() {
+            alRevertir.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingProductRepository - Tests")
+class CachingProductRepositoryTest {
+
+    private static final ProductId ID = ProductId.of("prod-001");
+
+    @Mock
+    private ProductRepository delegate;
+
+    private CachingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProductRepository(delegate, 100, Duration.ofMinutes(5));
+    }
+
+    private Product crearProducto(String id, int stock) {
+        return Product.builder()
+                .id(ProductId.of(id))
+                .name("Teclado")
+                .description("Teclado mecánico")
+                .price(Money.of(new BigDecimal("150000.00"), "COP"))
+                .stock(stock)
+                .category(ProductCategory.PERIFERICOS)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("findById()")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("Debe consultar el repositorio una sola vez para lecturas repetidas")
+        void debeConsultarUnaSolaVez() {
+            // Given
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 10)));
+
+            // When
+            repository.findById(ID);
+            Optional<Product> resultado = repository.findById(ID);
+
+            // Then
+            assertThat(resultado).isPresent();
+            assertThat(resultado.get().getStock()).isEqualTo(10);
+            verify(delegate, times(1)).findById(ID);
+            assertThat(repository.stats().hits()).isEqualTo(1);
+            assertThat(repository.stats().misses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Debe entregar copias que no alteran el valor cacheado")
+        void debeEntregarCopias() {
+            // Given
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 10)));
+            repository.findById(ID).orElseThrow().reduceStock(5);
+
+            // When
+            Product resultado = repository.findById(ID).orElseThrow();
+
+            // Then
+            assertThat(resultado.getStock()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("No debe cachear productos inexistentes")
+        void noDebeCachearInexistentes() {
+            // Given
+            when(delegate.findById(ID)).thenReturn(Optional.empty());
+
+            // When
+            repository.findById(ID);
+            repository.findById(ID);
+
+            // Then
+            verify(delegate, times(2)).findById(ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllById()")
+    class FindAllByIdTests {
+
+        @Test
+        @DisplayName("Debe consultar solo los productos que no están en cache")
+        void debeConsultarSoloFaltantes() {
+            // Given
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 10)));
+            repository.findById(ID);
+            when(delegate.findAllById(List.of(ProductId.of("prod-002"))))
+                    .thenReturn(List.of(crearProducto("prod-002", 20)));
+
+            // When
+            List<Product> resultado = repository.findAllById(List.of(ID, ProductId.of("prod-002")));
+
+            // Then
+            assertThat(resultado).extracting(p -> p.getId().value())
+                    .containsExactlyInAnyOrder("prod-001", "prod-002");
+            verify(delegate).findAllById(List.of(ProductId.of("prod-002")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidación")
+    class InvalidationTests {
+
+        @BeforeEach
+        void setUp() {
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 10)));
+            repository.findById(ID);
+        }
+
+        @Test
+        @DisplayName("save() debe invalidar el producto")
+        void saveDebeInvalidar() {
+            // When
+            repository.save(crearProducto("prod-001", 50));
+            repository.findById(ID);
+
+            // Then
+            verify(delegate, times(2)).findById(ID);
+        }
+
+        @Test
+        @DisplayName("deleteById() debe invalidar el producto")
+        void deleteByIdDebeInvalidar() {
+            // When
+            repository.deleteById(ID);
+            repository.findById(ID);
+
+            // Then
+            verify(delegate, times(2)).findById(ID);
+        }
+
+        @Test
+        @DisplayName("Los cambios de stock deben invalidar el producto")
+        void cambiosDeStockDebenInvalidar() {
+            // Given
+            when(delegate.tryDecrementStock(ID, 1)).thenReturn(true);
+            when(delegate.tryDecrementStock(Map.of(ID, 1))).thenReturn(Optional.empty());
+            when(delegate.incrementStock(ID, 1)).thenReturn(true);
+
+            // When
+            repository.tryDecrementStock(ID, 1);
+            repository.findById(ID);
+            repository.tryDecrementStock(Map.of(ID, 1));
+            repository.findById(ID);
+            repository.incrementStock(ID, 1);
+            repository.findById(ID);
+
+            // Then
+            verify(delegate, times(4)).findById(ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("existsById()")
+    class ExistsByIdTests {
+
+        @Test
+        @DisplayName("No debe contar fallos de cache al consultar existencia")
+        void noDebeContarFallos() {
+            // Given
+            when(delegate.existsById(ID)).thenReturn(true);
+
+            // When
+            boolean existe = repository.existsById(ID);
+
+            // Then
+            assertThat(existe).isTrue();
+            assertThat(repository.stats().misses()).isZero();
+        }
+
+        @Test
+        @DisplayName("Debe responder desde el cache si el producto está cacheado")
+        void debeResponderDesdeCache() {
+            // Given
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 10)));
+            repository.findById(ID);
+
+            // When
+            boolean existe = repository.existsById(ID);
+
+            // Then
+            assertThat(existe).isTrue();
+            verify(delegate, never()).existsById(ID);
+            assertThat(repository.stats().hits()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Dentro de una unidad de trabajo")
+    class UnitOfWorkTests {
+
+        private UnidadDeTrabajoAbierta unidad;
+
+        @BeforeEach
+        void setUp() {
+            unidad = new UnidadDeTrabajoAbierta();
+            repository = new CachingProductRepository(delegate, 100, Duration.ofMinutes(5), unidad);
+        }
+
+        @Test
+        @DisplayName("Tras escribir no debe llenar el cache con datos sin confirmar")
+        void noDebeCachearTrasEscribir() {
+            // Given
+            when(delegate.tryDecrementStock(ID, 1)).thenReturn(true);
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 9)));
+            repository.tryDecrementStock(ID, 1);
+
+            // When
+            repository.findById(ID);
+            unidad.revertir();
+            repository.findById(ID);
+
+            // Then
+            verify(delegate, times(2)).findById(ID);
+        }
+
+        @Test
+        @DisplayName("Debe invalidar de nuevo al revertir lo que otro hilo cacheó durante la transacción")
+        void debeInvalidarAlRevertir() throws Exception {
+            // Given
+            when(delegate.tryDecrementStock(ID, 1)).thenReturn(true);
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 10)));
+            repository.tryDecrementStock(ID, 1);
+            Thread otroHilo = new Thread(() -> repository.findById(ID));
+            otroHilo.start();
+            otroHilo.join();
+
+            // When
+            unidad.revertir();
+            repository.findById(ID);
+
+            // Then
+            verify(delegate, times(2)).findById(ID);
+        }
+
+        @Test
+        @DisplayName("Debe invalidar de nuevo al confirmar y volver a cachear después")
+        void debeInvalidarAlConfirmar() throws Exception {
+            // Given
+            when(delegate.findById(ID)).thenReturn(Optional.of(crearProducto("prod-001", 50)));
+            repository.save(crearProducto("prod-001", 50));
+            Thread otroHilo = new Thread(() -> repository.findById(ID));
+            otroHilo.start();
+            otroHilo.join();
+
+            // When
+            unidad.confirmar();
+            repository.findById(ID);
+            repository.findById(ID);
+
+            // Then
+            verify(delegate, times(2)).findById(ID);
+            assertThat(repository.stats().hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("No debe cachear una lectura que empezó antes de un commit concurrente")
+        void noDebeCachearLecturaAnteriorAlCommit() throws Exception {
+            // Given
+            CountDownLatch leido = new CountDownLatch(1);
+            CountDownLatch continuar = new CountDownLatch(1);
+            AtomicInteger lecturas = new AtomicInteger();
+            when(delegate.findById(ID)).thenAnswer(invocation -> {
+                if (lecturas.incrementAndGet() == 1) {
+                    leido.countDown();
+                    continuar.await();
+                    return Optional.of(crearProducto("prod-001", 2));
+                }
+                return Optional.of(crearProducto("prod-001", 50));
+            });
+            Thread lector = new Thread(() -> repository.findById(ID));
+            lector.start();
+            leido.await();
+
+            // When
+            repository.incrementStock(ID, 48);
+            unidad.confirmar();
+            continuar.countDown();
+            lector.join();
+            Optional<Product> resultado = repository.findById(ID);
+
+            // Then
+            assertThat(resultado).get().extracting(Product::getStock).isEqualTo(50);
+            verify(delegate, times(2)).findById(ID);
+        }
+    }
+
+    /**
+     * Unidad de trabajo que se mantiene abierta hasta que la prueba la
+     * confirma o la revierte.
+     */
+    private static class UnidadDeTrabajoAbierta implements UnitOfWork {
+        private final List<Runnable> alConfirmar = new ArrayList<>();
+        private final List<Runnable> alRevertir = new ArrayList<>();
+
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+
+        @Override
+        public void afterCommit(Runnable action) {
+            alConfirmar.add(action);
+        }
+
+        @Override
+        public void afterRollback(Runnable action) {
+            alRevertir.add(action);
+        }
+
+        void confirmar() {
+            alConfirmar.forEach(Runnable::run);
+        }
+
+        void revertir() {
+            alRevertir.forEach(Runnable::run);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -124,6 +125,34 @@ class JpaCustomerRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findEmailById()")
+    class FindEmailByIdTests {
+
+        @Test
+        @DisplayName("Debe retornar solo el email del cliente")
+        void debeRetornarEmailDelCliente() {
+            // Given
+            repository.save(crearCliente("cust-101", "Ana", "ana@test.com"));
+
+            // When
+            Optional<Email> resultado = repository.findEmailById(CustomerId.of("cust-101"));
+
+            // Then
+            assertThat(resultado).contains(Email.of("ana@test.com"));
+        }
+
+        @Test
+        @DisplayName("Debe retornar vacío para cliente inexistente")
+        void debeRetornarVacioParaClienteInexistente() {
+            // When
+            Optional<Email> resultado = repository.findEmailById(CustomerId.of("no-existe"));
+
+            // Then
+            assertThat(resultado).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("findAll()")
     class FindAllTests {
@@ -148,6 +177,41 @@ class JpaCustomerRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findPage() y streamAll()")
+    class PaginationTests {
+
+        @BeforeEach
+        void setUp() {
+            repository.save(crearCliente("cust-001", "Ana", "ana@test.com"));
+            repository.save(crearCliente("cust-002", "Luis", "luis@test.com"));
+            repository.save(crearCliente("cust-003", "Marta", "marta@test.com"));
+        }
+
+        @Test
+        @DisplayName("findPage() debe paginar por id a partir del cursor")
+        void findPageDebePaginarPorCursor() {
+            // When
+            List<Customer> segunda = repository.findPage(CustomerId.of("cust-001"), 5);
+
+            // Then
+            assertThat(segunda).extracting(c -> c.getId().value()).containsExactly("cust-002", "cust-003");
+        }
+
+        @Test
+        @DisplayName("streamAll() debe recorrer todos los clientes")
+        void streamAllDebeRecorrerTodosLosClientes() {
+            // When
+            long total;
+            try (Stream<Customer> clientes = repository.streamAll()) {
+                total = clientes.count();
+            }
+
+            // Then
+            assertThat(total).isEqualTo(3);
+        }
+    }
+
     @Nested
     @DisplayName("delete()")
     class DeleteTests {
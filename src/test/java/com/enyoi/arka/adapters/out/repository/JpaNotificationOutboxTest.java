@@ -0,0 +1,137 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.adapters.out.service.outbox.OutboxEvent;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JpaNotificationOutbox - Tests de Integración")
+class JpaNotificationOutboxTest {
+
+    private static final LocalDateTime AHORA = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    private static EntityManagerFactory entityManagerFactory;
+    private JpaUnitOfWork unitOfWork;
+    private JpaNotificationOutbox outbox;
+
+    @BeforeAll
+    static void setUpClass() {
+        entityManagerFactory = Persistence.createEntityManagerFactory("test-persistence-unit");
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        unitOfWork = new JpaUnitOfWork(entityManagerFactory);
+        outbox = new JpaNotificationOutbox(unitOfWork::currentEntityManager);
+        unitOfWork.run(() -> unitOfWork.currentEntityManager()
+                .createQuery("DELETE FROM OutboxEventEntity").executeUpdate());
+    }
+
+    private OutboxEvent crearEvento(String orderId, LocalDateTime creado) {
+        return OutboxEvent.orderStatusChange(orderId, "cliente@test.com", "CONFIRMADO", creado);
+    }
+
+    @Nested
+    @DisplayName("append() / findDue()")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Debe retornar los eventos pendientes del más antiguo al más reciente")
+        void debeRetornarEventosEnOrden() {
+            // Given
+            unitOfWork.run(() -> {
+                outbox.append(crearEvento("ord-002", AHORA.minusMinutes(1)));
+                outbox.append(crearEvento("ord-001", AHORA.minusMinutes(2)));
+                outbox.append(OutboxEvent.lowStockAlert("prod-001", "Teclado", 3, AHORA));
+            });
+
+            // When
+            List<OutboxEvent> eventos = unitOfWork.execute(() -> outbox.findDue(AHORA, 10));
+
+            // Then
+            assertThat(eventos).extracting(OutboxEvent::orderId).containsExactly("ord-001", "ord-002", null);
+            assertThat(eventos.get(2).productName()).isEqualTo("Teclado");
+            assertThat(eventos.get(2).productId()).isEqualTo("prod-001");
+            assertThat(eventos.get(2).currentStock()).isEqualTo(3);
+            assertThat(unitOfWork.execute(outbox::countPending)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("No debe guardar el evento si la unidad de trabajo se revierte")
+        void noDebeGuardarSiSeRevierte() {
+            // When
+            assertThatThrownBy(() -> unitOfWork.run(() -> {
+                outbox.append(crearEvento("ord-001", AHORA));
+                throw new IllegalStateException("fallo");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // Then
+            assertThat(unitOfWork.execute(outbox::countPending)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Entrega y reintentos")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("removeDispatched() debe eliminar los eventos entregados")
+        void removeDispatchedDebeEliminarEventos() {
+            // Given
+            OutboxEvent evento = crearEvento("ord-001", AHORA);
+            unitOfWork.run(() -> outbox.append(evento));
+
+            // When
+            unitOfWork.run(() -> outbox.removeDispatched(List.of(evento.id())));
+
+            // Then
+            assertThat(unitOfWork.execute(outbox::countPending)).isZero();
+        }
+
+        @Test
+        @DisplayName("Un evento reprogramado no debe estar disponible antes de su reintento")
+        void eventoReprogramadoNoDebeEstarDisponibleAntes() {
+            // Given
+            OutboxEvent evento = crearEvento("ord-001", AHORA);
+            unitOfWork.run(() -> outbox.append(evento));
+
+            // When
+            unitOfWork.run(() -> outbox.scheduleRetry(evento.id(), 1, AHORA.plusMinutes(1)));
+
+            // Then
+            assertThat(unitOfWork.execute(() -> outbox.findDue(AHORA, 10))).isEmpty();
+            assertThat(unitOfWork.execute(() -> outbox.findDue(AHORA.plusMinutes(1), 10)))
+                    .singleElement()
+                    .satisfies(e -> assertThat(e.attempts()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("Un evento fallido no debe contarse como pendiente")
+        void eventoFallidoNoDebeContarseComoPendiente() {
+            // Given
+            OutboxEvent evento = crearEvento("ord-001", AHORA);
+            unitOfWork.run(() -> outbox.append(evento));
+
+            // When
+            unitOfWork.run(() -> outbox.markFailed(evento.id(), 5));
+
+            // Then
+            assertThat(unitOfWork.execute(outbox::countPending)).isZero();
+            assertThat(unitOfWork.execute(() -> outbox.findDue(AHORA, 10))).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.OrderStatus;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderSummary;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JpaOrderQueries - Tests de Integración")
+class JpaOrderQueriesTest {
+
+    private static EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private JpaOrderRepository repository;
+    private JpaOrderQueries queries;
+
+    @BeforeAll
+    static void setUpClass() {
+        entityManagerFactory = Persistence.createEntityManagerFactory("test-persistence-unit");
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager = entityManagerFactory.createEntityManager();
+        repository = new JpaOrderRepository(entityManager);
+        queries = new JpaOrderQueries(() -> entityManager);
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("DELETE FROM OrderItemEntity").executeUpdate();
+        entityManager.createQuery("DELETE FROM OrderEntity").executeUpdate();
+        entityManager.getTransaction().commit();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (entityManager != null && entityManager.isOpen()) {
+            entityManager.close();
+        }
+    }
+
+    private OrderItem crearOrderItem(String productId, int cantidad, String precioUnitario) {
+        return OrderItem.builder()
+                .productId(ProductId.of(productId))
+                .quantity(cantidad)
+                .unitPrice(Money.of(new BigDecimal(precioUnitario), "COP"))
+                .build();
+    }
+
+    private Order crearOrden(String orderId, List<OrderItem> items) {
+        return Order.builder()
+                .id(OrderId.of(orderId))
+                .customerId(CustomerId.of("cust-001"))
+                .items(items)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe calcular total y cantidad de líneas sin cargar entidades")
+    void debeCalcularTotalYLineasSinCargarEntidades() {
+        // Given
+        repository.save(crearOrden("order-001", List.of(
+                crearOrderItem("prod-001", 2, "50000.00"),
+                crearOrderItem("prod-002", 1, "75000.00"))));
+        entityManager.clear();
+
+        // When
+        List<OrderSummary> resultado = queries.findByStatus(OrderStatus.PENDIENTE, null, 10);
+
+        // Then
+        assertThat(resultado).hasSize(1);
+        OrderSummary resumen = resultado.get(0);
+        assertThat(resumen.customerId()).isEqualTo(CustomerId.of("cust-001"));
+        assertThat(resumen.totalAmount()).isEqualByComparingTo("175000.00");
+        assertThat(resumen.totalCurrency()).isEqualTo("COP");
+        assertThat(resumen.lineCount()).isEqualTo(2);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Una orden sin items debe tener total cero")
+    void ordenSinItemsDebeTenerTotalCero() {
+        // Given
+        repository.save(crearOrden("order-002", List.of()));
+
+        // When
+        OrderSummary resumen = queries.findByStatus(OrderStatus.PENDIENTE, null, 10).get(0);
+
+        // Then
+        assertThat(resumen.totalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(resumen.lineCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por estado y paginar por cursor")
+    void debeFiltrarPorEstadoYPaginar() {
+        // Given
+        repository.save(crearOrden("order-001", List.of(crearOrderItem("prod-001", 1, "1000.00"))));
+        repository.save(crearOrden("order-002", List.of(crearOrderItem("prod-001", 1, "1000.00"))));
+        repository.save(crearOrden("order-003", List.of(crearOrderItem("prod-001", 1, "1000.00"))));
+        repository.transitionStatus(OrderId.of("order-002"), OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+        // When
+        List<OrderSummary> primera = queries.findByStatus(OrderStatus.PENDIENTE, null, 1);
+        List<OrderSummary> segunda = queries.findByStatus(OrderStatus.PENDIENTE, primera.get(0).id(), 1);
+
+        // Then
+        assertThat(primera).extracting(o -> o.id().value()).containsExactly("order-001");
+        assertThat(segunda).extracting(o -> o.id().value()).containsExactly("order-003");
+    }
+}
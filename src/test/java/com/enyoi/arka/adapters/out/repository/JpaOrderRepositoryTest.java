@@ -1,22 +1,34 @@
 package com.enyoi.arka.adapters.out.repository;
 
+import com.enyoi.arka.adapters.out.repository.entity.OrderEntity;
+import com.enyoi.arka.domain.entities.Customer;
 import com.enyoi.arka.domain.entities.Order;
 import com.enyoi.arka.domain.entities.OrderItem;
 import com.enyoi.arka.domain.entities.OrderStatus;
 import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
 import com.enyoi.arka.domain.valueobjects.Money;
 import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.OrderStatusChange;
+import com.enyoi.arka.domain.valueobjects.OrderTransition;
+import com.enyoi.arka.domain.valueobjects.OrderTransitionResult;
 import com.enyoi.arka.domain.valueobjects.ProductId;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("JpaOrderRepository - Tests de Integración")
 class JpaOrderRepositoryTest {
@@ -55,6 +67,7 @@ class JpaOrderRepositoryTest {
         entityManager.getTransaction().begin();
         entityManager.createQuery("DELETE FROM OrderItemEntity").executeUpdate();
         entityManager.createQuery("DELETE FROM OrderEntity").executeUpdate();
+        entityManager.createQuery("DELETE FROM CustomerEntity").executeUpdate();
         entityManager.getTransaction().commit();
     }
 
@@ -136,6 +149,72 @@ class JpaOrderRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Totales persistidos")
+    class PersistedTotalsTests {
+
+        private OrderEntity leerFila(String orderId) {
+            entityManager.clear();
+            return entityManager.find(OrderEntity.class, orderId);
+        }
+
+        @Test
+        @DisplayName("save() debe guardar el total y la cantidad de líneas de una orden nueva")
+        void saveDebeGuardarTotales() {
+            // Given
+            Order orden = crearOrden("order-101", "cust-001", List.of(
+                    crearOrderItem("prod-001", 2, new BigDecimal("50000.00")),
+                    crearOrderItem("prod-002", 1, new BigDecimal("75000.00"))));
+
+            // When
+            repository.save(orden);
+
+            // Then
+            OrderEntity fila = leerFila("order-101");
+            assertThat(fila.getTotalAmount()).isEqualByComparingTo("175000.00");
+            assertThat(fila.getTotalCurrency()).isEqualTo("COP");
+            assertThat(fila.getLineCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Agregar un item debe recalcular los totales guardados")
+        void agregarItemDebeRecalcularTotales() {
+            // Given
+            repository.save(crearOrden("order-102", "cust-001", List.of(
+                    crearOrderItem("prod-001", 1, new BigDecimal("10000.00")))));
+            Order orden = repository.findById(OrderId.of("order-102")).orElseThrow();
+
+            // When
+            orden.addItem(crearOrderItem("prod-002", 3, new BigDecimal("5000.00")));
+            repository.save(orden);
+
+            // Then
+            OrderEntity fila = leerFila("order-102");
+            assertThat(fila.getTotalAmount()).isEqualByComparingTo("25000.00");
+            assertThat(fila.getLineCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Quitar un item debe recalcular los totales guardados")
+        void quitarItemDebeRecalcularTotales() {
+            // Given
+            repository.save(crearOrden("order-103", "cust-001", List.of(
+                    crearOrderItem("prod-001", 1, new BigDecimal("10000.00")),
+                    crearOrderItem("prod-002", 2, new BigDecimal("5000.00")))));
+            Order orden = repository.findById(OrderId.of("order-103")).orElseThrow();
+
+            // When
+            orden.remove(orden.getItems().get(0));
+            repository.save(orden);
+
+            // Then
+            OrderEntity fila = leerFila("order-103");
+            assertThat(fila.getTotalAmount()).isEqualByComparingTo(
+                    orden.getItems().get(0).getTotalPrice().amount());
+            assertThat(fila.getLineCount()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("findById()")
     class FindByIdTests {
@@ -200,6 +279,58 @@ class JpaOrderRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findPage() y streamAll()")
+    class PaginationTests {
+
+        @BeforeEach
+        void setUp() {
+            for (int i = 1; i <= 5; i++) {
+                repository.save(crearOrden("order-00" + i, "cust-001",
+                        List.of(crearOrderItem("prod-00" + i, i, new BigDecimal("1000.00")))));
+            }
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("findPage() debe paginar por id a partir del cursor")
+        void findPageDebePaginarPorCursor() {
+            // When
+            List<Order> primera = repository.findPage(null, 2);
+            List<Order> segunda = repository.findPage(primera.get(1).getId(), 2);
+            List<Order> ultima = repository.findPage(OrderId.of("order-004"), 2);
+
+            // Then
+            assertThat(primera).extracting(o -> o.getId().value()).containsExactly("order-001", "order-002");
+            assertThat(segunda).extracting(o -> o.getId().value()).containsExactly("order-003", "order-004");
+            assertThat(ultima).extracting(o -> o.getId().value()).containsExactly("order-005");
+            assertThat(ultima.get(0).getItems()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("findPage() debe rechazar un límite no positivo")
+        void findPageDebeRechazarLimiteNoPositivo() {
+            assertThatThrownBy(() -> repository.findPage(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("streamAll() debe recorrer todas las órdenes sin retenerlas en el contexto")
+        void streamAllDebeRecorrerTodasLasOrdenes() {
+            // When
+            List<Order> resultado;
+            try (Stream<Order> ordenes = repository.streamAll()) {
+                resultado = ordenes.toList();
+            }
+
+            // Then
+            assertThat(resultado).hasSize(5);
+            assertThat(resultado).allSatisfy(o -> assertThat(o.getItems()).hasSize(1));
+            assertThat(entityManager.unwrap(Session.class)
+                    .getStatistics().getEntityCount()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("findByCustomerId()")
     class FindByCustomerIdTests {
@@ -329,6 +460,44 @@ class JpaOrderRepositoryTest {
             // Then
             assertThat(existe).isFalse();
         }
+
+        @Test
+        @DisplayName("No debe cargar la orden en el contexto de persistencia")
+        void noDebeCargarOrdenEnContexto() {
+            // Given
+            repository.save(crearOrden("order-018", "cust-001",
+                    List.of(crearOrderItem("prod-001", 1, new BigDecimal("1000.00")))));
+            entityManager.clear();
+
+            // When
+            boolean existe = repository.existsById(OrderId.of("order-018"));
+
+            // Then
+            assertThat(existe).isTrue();
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("countByStatus() y countByCustomer()")
+    class CountTests {
+
+        @Test
+        @DisplayName("Debe contar las órdenes por estado y por cliente")
+        void debeContarOrdenesPorEstadoYCliente() {
+            // Given
+            repository.save(crearOrden("order-021", "cust-001", List.of()));
+            repository.save(crearOrden("order-022", "cust-001", List.of()));
+            repository.save(crearOrden("order-023", "cust-002", List.of()));
+            repository.transitionStatus(OrderId.of("order-023"), OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+            // When / Then
+            assertThat(repository.countByStatus(OrderStatus.PENDIENTE)).isEqualTo(2);
+            assertThat(repository.countByStatus(OrderStatus.CONFIRMADO)).isEqualTo(1);
+            assertThat(repository.countByStatus(OrderStatus.ENTREGADO)).isZero();
+            assertThat(repository.countByCustomer(CustomerId.of("cust-001"))).isEqualTo(2);
+            assertThat(repository.countByCustomer(CustomerId.of("cust-999"))).isZero();
+        }
     }
 
     @Nested
@@ -388,4 +557,336 @@ class JpaOrderRepositoryTest {
             assertThat(primerItem.getUnitPrice().amount()).isEqualByComparingTo(new BigDecimal("50000.00"));
         }
     }
+
+    @Nested
+    @DisplayName("save() de una orden existente")
+    class IncrementalSaveTests {
+
+        private Statistics statistics;
+
+        @BeforeEach
+        void setUp() {
+            repository.save(crearOrden("order-201", "cust-001", List.of(
+                    crearOrderItem("prod-001", 1, new BigDecimal("1000.00")),
+                    crearOrderItem("prod-002", 2, new BigDecimal("2000.00")),
+                    crearOrderItem("prod-003", 3, new BigDecimal("3000.00"))
+            )));
+            entityManager.clear();
+            statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+        }
+
+        @Test
+        @DisplayName("Debe conservar los ids de los items entre lecturas")
+        void debeConservarIdsDeItems() {
+            // When
+            List<OrderItem> primeraLectura = repository.findById(OrderId.of("order-201")).orElseThrow().getItems();
+            entityManager.clear();
+            List<OrderItem> segundaLectura = repository.findById(OrderId.of("order-201")).orElseThrow().getItems();
+
+            // Then
+            assertThat(segundaLectura).extracting(OrderItem::getId)
+                    .containsExactlyInAnyOrderElementsOf(primeraLectura.stream().map(OrderItem::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Un cambio de estado solo debe actualizar la fila de la orden")
+        void cambioDeEstadoSoloDebeActualizarLaOrden() {
+            // Given
+            Order orden = repository.findById(OrderId.of("order-201")).orElseThrow();
+            entityManager.clear();
+            orden.confirm();
+
+            // When
+            repository.save(orden);
+
+            // Then
+            assertThat(statistics.getEntityInsertCount()).isZero();
+            assertThat(statistics.getEntityDeleteCount()).isZero();
+            assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+            entityManager.clear();
+            Order guardada = repository.findById(OrderId.of("order-201")).orElseThrow();
+            assertThat(guardada.getStatus()).isEqualTo(OrderStatus.CONFIRMADO);
+            assertThat(guardada.getItems()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Agregar un item solo debe insertar esa línea")
+        void agregarItemSoloDebeInsertarEsaLinea() {
+            // Given
+            Order orden = repository.findById(OrderId.of("order-201")).orElseThrow();
+            entityManager.clear();
+            orden.addItem(crearOrderItem("prod-004", 4, new BigDecimal("4000.00")));
+
+            // When
+            repository.save(orden);
+
+            // Then
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+            assertThat(statistics.getEntityDeleteCount()).isZero();
+            entityManager.clear();
+            assertThat(repository.findById(OrderId.of("order-201")).orElseThrow().getItems()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("Eliminar un item solo debe borrar esa línea")
+        void eliminarItemSoloDebeBorrarEsaLinea() {
+            // Given
+            Order orden = repository.findById(OrderId.of("order-201")).orElseThrow();
+            entityManager.clear();
+            OrderItem item = orden.getItems().stream()
+                    .filter(i -> i.getProductId().value().equals("prod-002"))
+                    .findFirst()
+                    .orElseThrow();
+            orden.remove(item);
+
+            // When
+            repository.save(orden);
+
+            // Then
+            assertThat(statistics.getEntityInsertCount()).isZero();
+            assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+            entityManager.clear();
+            assertThat(repository.findById(OrderId.of("order-201")).orElseThrow().getItems())
+                    .extracting(i -> i.getProductId().value())
+                    .containsExactlyInAnyOrder("prod-001", "prod-003");
+        }
+    }
+
+    @Nested
+    @DisplayName("transitionStatus()")
+    class TransitionStatusTests {
+
+        private Statistics statistics;
+
+        @BeforeEach
+        void setUp() {
+            new JpaCustomerRepository(entityManager).save(Customer.builder()
+                    .id(CustomerId.of("cust-001"))
+                    .name("Cliente")
+                    .lastName("Test")
+                    .email(Email.of("cliente@test.com"))
+                    .build());
+            repository.save(crearOrden("order-301", "cust-001", List.of(
+                    crearOrderItem("prod-001", 1, new BigDecimal("1000.00")),
+                    crearOrderItem("prod-002", 2, new BigDecimal("2000.00"))
+            )));
+            entityManager.clear();
+            statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+        }
+
+        @Test
+        @DisplayName("Debe cambiar el estado y retornar la orden con el email del cliente")
+        void debeCambiarEstadoYRetornarEmail() {
+            // When
+            Optional<OrderStatusChange> resultado = repository.transitionStatus(
+                    OrderId.of("order-301"), OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+            // Then
+            assertThat(resultado).isPresent();
+            assertThat(resultado.get().order().getStatus()).isEqualTo(OrderStatus.CONFIRMADO);
+            assertThat(resultado.get().order().getItems()).hasSize(2);
+            assertThat(resultado.get().customerEmail()).isEqualTo("cliente@test.com");
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Debe retornar vacío si el estado actual no es el esperado")
+        void debeRetornarVacioSiEstadoNoEsElEsperado() {
+            // When
+            Optional<OrderStatusChange> resultado = repository.transitionStatus(
+                    OrderId.of("order-301"), OrderStatus.CONFIRMADO, OrderStatus.EN_DESPACHO);
+
+            // Then
+            assertThat(resultado).isEmpty();
+            assertThat(repository.findById(OrderId.of("order-301")).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.PENDIENTE);
+        }
+
+        @Test
+        @DisplayName("Debe retornar vacío si la orden no existe")
+        void debeRetornarVacioSiOrdenNoExiste() {
+            // When
+            Optional<OrderStatusChange> resultado = repository.transitionStatus(
+                    OrderId.of("no-existe"), OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+            // Then
+            assertThat(resultado).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Debe leer el estado nuevo aunque la orden esté en el contexto de persistencia")
+        void debeLeerEstadoNuevoConOrdenEnContexto() {
+            // Given
+            repository.findById(OrderId.of("order-301"));
+
+            // When
+            repository.transitionStatus(OrderId.of("order-301"), OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+            // Then
+            assertThat(repository.findById(OrderId.of("order-301")).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.CONFIRMADO);
+        }
+    }
+
+    @Nested
+    @DisplayName("transitionStatuses()")
+    class TransitionStatusesTests {
+
+        @BeforeEach
+        void setUp() {
+            new JpaCustomerRepository(entityManager).save(Customer.builder()
+                    .id(CustomerId.of("cust-001"))
+                    .name("Cliente")
+                    .lastName("Test")
+                    .email(Email.of("cliente@test.com"))
+                    .build());
+            repository.save(crearOrden("order-401", "cust-001", List.of()));
+            repository.save(crearOrden("order-402", "cust-001", List.of()));
+            Order confirmada = crearOrden("order-403", "cust-001", List.of());
+            confirmada.confirm();
+            repository.save(confirmada);
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Debe aplicar la transición solo a las órdenes en el estado esperado")
+        void debeAplicarTransicionSoloAOrdenesEnEstadoEsperado() {
+            // When
+            List<OrderTransition> resultado = repository.transitionStatuses(
+                    List.of(OrderId.of("order-401"), OrderId.of("order-403"), OrderId.of("no-existe"), OrderId.of("order-402")),
+                    OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+            // Then
+            assertThat(resultado).extracting(t -> t.orderId().value())
+                    .containsExactly("order-401", "order-403", "no-existe", "order-402");
+            assertThat(resultado).extracting(OrderTransition::result).containsExactly(
+                    OrderTransitionResult.OK,
+                    OrderTransitionResult.ILLEGAL_STATE,
+                    OrderTransitionResult.NOT_FOUND,
+                    OrderTransitionResult.OK);
+            assertThat(resultado.get(0).customerEmail()).isEqualTo("cliente@test.com");
+            assertThat(repository.findByStatus(OrderStatus.CONFIRMADO)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("No debe cambiar una orden cuyo cliente no existe")
+        void noDebeCambiarOrdenSinCliente() {
+            // Given
+            repository.save(crearOrden("order-404", "cust-999", List.of()));
+            entityManager.clear();
+
+            // When
+            List<OrderTransition> resultado = repository.transitionStatuses(
+                    List.of(OrderId.of("order-401"), OrderId.of("order-404")), OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+            // Then
+            assertThat(resultado).extracting(OrderTransition::result).containsExactly(
+                    OrderTransitionResult.OK,
+                    OrderTransitionResult.CUSTOMER_NOT_FOUND);
+            assertThat(repository.findById(OrderId.of("order-404")))
+                    .get().extracting(Order::getStatus).isEqualTo(OrderStatus.PENDIENTE);
+        }
+
+        @Test
+        @DisplayName("Debe procesar lotes más grandes que el límite de parámetros")
+        void debeProcesarLotesGrandes() {
+            // Given
+            List<OrderId> ids = new ArrayList<>();
+            for (int i = 0; i < 1200; i++) {
+                ids.add(OrderId.of("no-existe-" + i));
+            }
+            ids.add(OrderId.of("order-401"));
+            ids.add(OrderId.of("order-402"));
+
+            // When
+            List<OrderTransition> resultado = repository.transitionStatuses(ids, OrderStatus.PENDIENTE, OrderStatus.CONFIRMADO);
+
+            // Then
+            assertThat(resultado).hasSize(1202);
+            assertThat(resultado).filteredOn(t -> t.result().isOk()).hasSize(2);
+            assertThat(repository.findPendingOrders()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Carga de items sin N+1")
+    class FetchJoinTests {
+
+        private Statistics statistics;
+
+        @BeforeEach
+        void setUp() {
+            for (int i = 1; i <= 5; i++) {
+                repository.save(crearOrden("order-10" + i, "cust-001", List.of(
+                        crearOrderItem("prod-001", 1, new BigDecimal("1000.00")),
+                        crearOrderItem("prod-002", 2, new BigDecimal("2000.00"))
+                )));
+            }
+            entityManager.clear();
+            statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+        }
+
+        @Test
+        @DisplayName("findAll() debe cargar órdenes e items en una sola consulta")
+        void findAllDebeCargarOrdenesEItemsEnUnaSolaConsulta() {
+            // When
+            List<Order> resultado = repository.findAll();
+
+            // Then
+            assertThat(resultado).hasSize(5);
+            assertThat(resultado).allMatch(o -> o.getItems().size() == 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("findByCustomerId() debe cargar órdenes e items en una sola consulta")
+        void findByCustomerIdDebeCargarOrdenesEItemsEnUnaSolaConsulta() {
+            // When
+            List<Order> resultado = repository.findByCustomerId(CustomerId.of("cust-001"));
+
+            // Then
+            assertThat(resultado).hasSize(5);
+            assertThat(resultado).allMatch(o -> o.getItems().size() == 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("findByStatus() debe cargar órdenes e items en una sola consulta")
+        void findByStatusDebeCargarOrdenesEItemsEnUnaSolaConsulta() {
+            // When
+            List<Order> resultado = repository.findByStatus(OrderStatus.PENDIENTE);
+
+            // Then
+            assertThat(resultado).hasSize(5);
+            assertThat(resultado).allMatch(o -> o.getItems().size() == 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("findPendingOrders() debe cargar órdenes e items en una sola consulta")
+        void findPendingOrdersDebeCargarOrdenesEItemsEnUnaSolaConsulta() {
+            // When
+            List<Order> resultado = repository.findPendingOrders();
+
+            // Then
+            assertThat(resultado).hasSize(5);
+            assertThat(resultado).allMatch(o -> o.getItems().size() == 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("findById() debe cargar la orden y sus items en una sola consulta")
+        void findByIdDebeCargarOrdenEItemsEnUnaSolaConsulta() {
+            // When
+            Optional<Order> resultado = repository.findById(OrderId.of("order-101"));
+
+            // Then
+            assertThat(resultado).isPresent();
+            assertThat(resultado.get().getItems()).hasSize(2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import com.enyoi.arka.domain.valueobjects.ProductSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JpaProductQueries - Tests de Integración")
+class JpaProductQueriesTest {
+
+    private static EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private JpaProductQueries queries;
+
+    @BeforeAll
+    static void setUpClass() {
+        entityManagerFactory = Persistence.createEntityManagerFactory("test-persistence-unit");
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager = entityManagerFactory.createEntityManager();
+        queries = new JpaProductQueries(() -> entityManager);
+        JpaProductRepository repository = new JpaProductRepository(entityManager);
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("DELETE FROM ProductEntity").executeUpdate();
+        entityManager.getTransaction().commit();
+        repository.save(crearProducto("prod-001", "Teclado", 3, ProductCategory.PERIFERICOS));
+        repository.save(crearProducto("prod-002", "SSD 1TB", 8, ProductCategory.ALMACENAMIENTO));
+        repository.save(crearProducto("prod-003", "RAM 16GB", 40, ProductCategory.COMPONENTES));
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (entityManager != null && entityManager.isOpen()) {
+            entityManager.close();
+        }
+    }
+
+    private Product crearProducto(String id, String nombre, int stock, ProductCategory categoria) {
+        return Product.builder()
+                .id(ProductId.of(id))
+                .name(nombre)
+                .description("Descripción de " + nombre)
+                .price(Money.of(new BigDecimal("100.00"), "COP"))
+                .stock(stock)
+                .category(categoria)
+                .build();
+    }
+
+    @Test
+    @DisplayName("listProducts() debe retornar solo las columnas del listado, paginadas por id")
+    void listProductsDebeRetornarProyecciones() {
+        // When
+        List<ProductSummary> primera = queries.listProducts(null, 2);
+        List<ProductSummary> segunda = queries.listProducts(primera.get(1).id(), 2);
+
+        // Then
+        assertThat(primera).extracting(ProductSummary::name).containsExactly("Teclado", "SSD 1TB");
+        assertThat(primera.get(0).priceAmount()).isEqualByComparingTo("100.00");
+        assertThat(segunda).extracting(ProductSummary::name).containsExactly("RAM 16GB");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findLowStock() debe retornar los productos indicados ordenados por stock")
+    void findLowStockDebeRetornarLosIdsIndicados() {
+        // When
+        List<ProductSummary> resultado = queries.findLowStock(
+                Set.of(ProductId.of("prod-002"), ProductId.of("prod-001"), ProductId.of("prod-999")));
+
+        // Then
+        assertThat(resultado).extracting(p -> p.id().value()).containsExactly("prod-001", "prod-002");
+    }
+
+    @Test
+    @DisplayName("findLowStock() debe consultar en bloques y ordenar el resultado completo por stock")
+    void findLowStockDebeConsultarEnBloques() {
+        // Given
+        List<ProductId> ids = new ArrayList<>();
+        ids.add(ProductId.of("prod-002"));
+        for (int i = 0; i < 1200; i++) {
+            ids.add(ProductId.of("prod-inexistente-" + i));
+        }
+        ids.add(ProductId.of("prod-001"));
+
+        // When
+        List<ProductSummary> resultado = queries.findLowStock(ids);
+
+        // Then
+        assertThat(resultado).extracting(p -> p.id().value()).containsExactly("prod-001", "prod-002");
+    }
+
+    @Test
+    @DisplayName("findLowStock() sin ids debe retornar una lista vacía")
+    void findLowStockSinIdsDebeRetornarVacio() {
+        // When
+        List<ProductSummary> resultado = queries.findLowStock(Set.of());
+
+        // Then
+        assertThat(resultado).isEmpty();
+    }
+}
@@ -7,11 +7,15 @@ import com.enyoi.arka.domain.valueobjects.ProductId;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
+import org.hibernate.Session;
 import org.junit.jupiter.api.*;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -142,6 +146,51 @@ class JpaProductRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAllById()")
+    class FindAllByIdTests {
+
+        @Test
+        @DisplayName("Debe encontrar todos los productos solicitados")
+        void debeEncontrarTodosLosProductosSolicitados() {
+            // Given
+            repository.save(crearProducto("prod-030", "Producto 1", 10, ProductCategory.OTROS));
+            repository.save(crearProducto("prod-031", "Producto 2", 20, ProductCategory.OTROS));
+            repository.save(crearProducto("prod-032", "Producto 3", 30, ProductCategory.OTROS));
+
+            // When
+            List<Product> resultado = repository.findAllById(List.of(ProductId.of("prod-030"), ProductId.of("prod-032")));
+
+            // Then
+            assertThat(resultado).hasSize(2);
+            assertThat(resultado).extracting(p -> p.getId().value())
+                    .containsExactlyInAnyOrder("prod-030", "prod-032");
+        }
+
+        @Test
+        @DisplayName("Debe ignorar IDs inexistentes")
+        void debeIgnorarIdsInexistentes() {
+            // Given
+            repository.save(crearProducto("prod-033", "Producto 1", 10, ProductCategory.OTROS));
+
+            // When
+            List<Product> resultado = repository.findAllById(List.of(ProductId.of("prod-033"), ProductId.of("no-existe")));
+
+            // Then
+            assertThat(resultado).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Debe retornar lista vacía sin IDs")
+        void debeRetornarListaVaciaSinIds() {
+            // When
+            List<Product> resultado = repository.findAllById(List.of());
+
+            // Then
+            assertThat(resultado).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("findAll()")
     class FindAllTests {
@@ -172,6 +221,45 @@ class JpaProductRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findPage() y streamAll()")
+    class PaginationTests {
+
+        @BeforeEach
+        void setUp() {
+            repository.save(crearProducto("prod-001", "Mouse", 20, ProductCategory.PERIFERICOS));
+            repository.save(crearProducto("prod-002", "SSD 1TB", 20, ProductCategory.ALMACENAMIENTO));
+            repository.save(crearProducto("prod-003", "RAM 16GB", 25, ProductCategory.COMPONENTES));
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("findPage() debe paginar por id a partir del cursor")
+        void findPageDebePaginarPorCursor() {
+            // When
+            List<Product> primera = repository.findPage(null, 2);
+            List<Product> segunda = repository.findPage(ProductId.of("prod-002"), 2);
+
+            // Then
+            assertThat(primera).extracting(p -> p.getId().value()).containsExactly("prod-001", "prod-002");
+            assertThat(segunda).extracting(p -> p.getId().value()).containsExactly("prod-003");
+        }
+
+        @Test
+        @DisplayName("streamAll() debe recorrer todos los productos sin retenerlos en el contexto")
+        void streamAllDebeRecorrerTodosLosProductos() {
+            // When
+            List<Product> resultado;
+            try (Stream<Product> productos = repository.streamAll()) {
+                resultado = productos.toList();
+            }
+
+            // Then
+            assertThat(resultado).hasSize(3);
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("findByCategory()")
     class FindByCategoryTests {
@@ -206,6 +294,26 @@ class JpaProductRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("countLowStock()")
+    class CountLowStockTests {
+
+        @Test
+        @DisplayName("Debe contar los productos por debajo del umbral")
+        void debeContarProductosPorDebajoDelUmbral() {
+            // Given
+            repository.save(crearProducto("prod-001", "Mouse", 3, ProductCategory.PERIFERICOS));
+            repository.save(crearProducto("prod-002", "SSD 1TB", 10, ProductCategory.ALMACENAMIENTO));
+            repository.save(crearProducto("prod-003", "RAM 16GB", 25, ProductCategory.COMPONENTES));
+
+            // When
+            long cantidad = repository.countLowStock(10);
+
+            // Then
+            assertThat(cantidad).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("findLowStockProducts()")
     class FindLowStockProductsTests {
@@ -239,6 +347,143 @@ class JpaProductRepositoryTest {
             // Then
             assertThat(resultado).isEmpty();
         }
+
+        @Test
+        @DisplayName("No debe incluir productos con stock igual al umbral")
+        void noDebeIncluirStockIgualAlUmbral() {
+            // Given
+            repository.save(crearProducto("prod-016", "Producto en el umbral", 10, ProductCategory.OTROS));
+
+            // When
+            List<Product> resultado = repository.findLowStockProducts(10);
+
+            // Then
+            assertThat(resultado).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("tryDecrementStock()")
+    class TryDecrementStockTests {
+
+        @Test
+        @DisplayName("Debe descontar stock si es suficiente")
+        void debeDescontarStockSiEsSuficiente() {
+            // Given
+            repository.save(crearProducto("prod-040", "Producto", 10, ProductCategory.OTROS));
+
+            // When
+            boolean resultado = repository.tryDecrementStock(ProductId.of("prod-040"), 4);
+
+            // Then
+            assertThat(resultado).isTrue();
+            assertThat(repository.findById(ProductId.of("prod-040")).orElseThrow().getStock()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Debe permitir descontar exactamente el stock disponible")
+        void debePermitirDescontarExactamenteElStockDisponible() {
+            // Given
+            repository.save(crearProducto("prod-041", "Producto", 10, ProductCategory.OTROS));
+
+            // When
+            boolean resultado = repository.tryDecrementStock(ProductId.of("prod-041"), 10);
+
+            // Then
+            assertThat(resultado).isTrue();
+            assertThat(repository.findById(ProductId.of("prod-041")).orElseThrow().getStock()).isZero();
+        }
+
+        @Test
+        @DisplayName("No debe descontar si el stock es insuficiente")
+        void noDebeDescontarSiStockInsuficiente() {
+            // Given
+            repository.save(crearProducto("prod-042", "Producto", 3, ProductCategory.OTROS));
+
+            // When
+            boolean resultado = repository.tryDecrementStock(ProductId.of("prod-042"), 4);
+
+            // Then
+            assertThat(resultado).isFalse();
+            assertThat(repository.findById(ProductId.of("prod-042")).orElseThrow().getStock()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Debe retornar false para producto inexistente")
+        void debeRetornarFalseParaProductoInexistente() {
+            // When
+            boolean resultado = repository.tryDecrementStock(ProductId.of("no-existe"), 1);
+
+            // Then
+            assertThat(resultado).isFalse();
+        }
+
+        @Test
+        @DisplayName("Debe descontar varios productos a la vez")
+        void debeDescontarVariosProductosALaVez() {
+            // Given
+            repository.save(crearProducto("prod-043", "Producto 1", 10, ProductCategory.OTROS));
+            repository.save(crearProducto("prod-044", "Producto 2", 20, ProductCategory.OTROS));
+            Map<ProductId, Integer> cantidades = new LinkedHashMap<>();
+            cantidades.put(ProductId.of("prod-043"), 5);
+            cantidades.put(ProductId.of("prod-044"), 15);
+
+            // When
+            Optional<ProductId> resultado = repository.tryDecrementStock(cantidades);
+
+            // Then
+            assertThat(resultado).isEmpty();
+            assertThat(repository.findById(ProductId.of("prod-043")).orElseThrow().getStock()).isEqualTo(5);
+            assertThat(repository.findById(ProductId.of("prod-044")).orElseThrow().getStock()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("No debe descontar ningún producto si uno no tiene stock")
+        void noDebeDescontarNingunProductoSiUnoNoTieneStock() {
+            // Given
+            repository.save(crearProducto("prod-045", "Producto 1", 10, ProductCategory.OTROS));
+            repository.save(crearProducto("prod-046", "Producto 2", 2, ProductCategory.OTROS));
+            Map<ProductId, Integer> cantidades = new LinkedHashMap<>();
+            cantidades.put(ProductId.of("prod-045"), 5);
+            cantidades.put(ProductId.of("prod-046"), 3);
+
+            // When
+            Optional<ProductId> resultado = repository.tryDecrementStock(cantidades);
+
+            // Then
+            assertThat(resultado).contains(ProductId.of("prod-046"));
+            assertThat(repository.findById(ProductId.of("prod-045")).orElseThrow().getStock()).isEqualTo(10);
+            assertThat(repository.findById(ProductId.of("prod-046")).orElseThrow().getStock()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementStock()")
+    class IncrementStockTests {
+
+        @Test
+        @DisplayName("Debe aumentar el stock del producto")
+        void debeAumentarStockDelProducto() {
+            // Given
+            repository.save(crearProducto("prod-047", "Producto", 10, ProductCategory.OTROS));
+
+            // When
+            boolean resultado = repository.incrementStock(ProductId.of("prod-047"), 5);
+
+            // Then
+            assertThat(resultado).isTrue();
+            assertThat(repository.findById(ProductId.of("prod-047")).orElseThrow().getStock()).isEqualTo(15);
+        }
+
+        @Test
+        @DisplayName("Debe retornar false para producto inexistente")
+        void debeRetornarFalseParaProductoInexistente() {
+            // When
+            boolean resultado = repository.incrementStock(ProductId.of("no-existe"), 5);
+
+            // Then
+            assertThat(resultado).isFalse();
+        }
     }
 
     @Nested
@@ -0,0 +1,371 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.adapters.out.repository.config.DatabaseConfig;
+import com.enyoi.arka.adapters.out.repository.config.JpaUnitOfWork;
+import com.enyoi.arka.adapters.out.repository.config.SqliteProfile;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.ports.out.ProductRepository;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockThresholds;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LowStockTrackingProductRepository - Tests")
+class LowStockTrackingProductRepositoryTest {
+
+    private static final ProductId ID = ProductId.of("prod-001");
+
+    @Mock
+    private ProductRepository delegate;
+
+    private LowStockTrackingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        LowStockThresholds umbrales = LowStockThresholds.builder()
+                .category(ProductCategory.ALMACENAMIENTO, 20)
+                .build();
+        repository = new LowStockTrackingProductRepository(delegate, umbrales, UnitOfWork.none());
+    }
+
+    private Product crearProducto(String id, int stock, ProductCategory categoria) {
+        return Product.builder()
+                .id(ProductId.of(id))
+                .name("Producto " + id)
+                .description("Descripción")
+                .price(Money.of(new BigDecimal("100000.00"), "COP"))
+                .stock(stock)
+                .category(categoria)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("rebuild()")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Debe indexar los productos por debajo de su umbral")
+        void debeIndexarProductosPorDebajoDeSuUmbral() {
+            // Given
+            when(delegate.streamAll()).thenReturn(Stream.of(
+                    crearProducto("prod-001", 5, ProductCategory.PERIFERICOS),
+                    crearProducto("prod-002", 15, ProductCategory.PERIFERICOS),
+                    crearProducto("prod-003", 15, ProductCategory.ALMACENAMIENTO)
+            ));
+
+            // When
+            repository.rebuild();
+
+            // Then
+            assertThat(repository.lowStockCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Mantenimiento incremental")
+    class IncrementalTests {
+
+        @BeforeEach
+        void setUp() {
+            when(delegate.streamAll()).thenReturn(Stream.of(crearProducto("prod-001", 12, ProductCategory.PERIFERICOS)));
+            repository.rebuild();
+        }
+
+        @Test
+        @DisplayName("Un descuento que cruza el umbral debe agregar el producto")
+        void descuentoQueCruzaUmbralDebeAgregarProducto() {
+            // Given
+            when(delegate.tryDecrementStock(ID, 3)).thenReturn(true);
+            when(delegate.findAllById(List.of(ID))).thenReturn(List.of(crearProducto("prod-001", 9, ProductCategory.PERIFERICOS)));
+
+            // When
+            repository.tryDecrementStock(ID, 3);
+
+            // Then
+            assertThat(repository.lowStockCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Un descuento rechazado no debe alterar el índice")
+        void descuentoRechazadoNoDebeAlterarIndice() {
+            // Given
+            when(delegate.tryDecrementStock(Map.of(ID, 3))).thenReturn(Optional.of(ID));
+
+            // When
+            repository.tryDecrementStock(Map.of(ID, 3));
+
+            // Then
+            assertThat(repository.lowStockCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Una reposición sobre el umbral debe retirar el producto")
+        void reposicionDebeRetirarProducto() {
+            // Given
+            when(delegate.tryDecrementStock(Map.of(ID, 5))).thenReturn(Optional.empty());
+            when(delegate.incrementStock(ID, 10)).thenReturn(true);
+            when(delegate.findAllById(any())).thenReturn(
+                    List.of(crearProducto("prod-001", 7, ProductCategory.PERIFERICOS)),
+                    List.of(crearProducto("prod-001", 17, ProductCategory.PERIFERICOS)));
+            repository.tryDecrementStock(Map.of(ID, 5));
+            assertThat(repository.lowStockCount()).isEqualTo(1);
+
+            // When
+            repository.incrementStock(ID, 10);
+
+            // Then
+            assertThat(repository.lowStockCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Debe avisar solo cuando un producto sale del stock bajo")
+        void debeAvisarCuandoProductoSaleDelStockBajo() {
+            // Given
+            List<ProductId> recuperados = new ArrayList<>();
+            repository.addRecoveryListener(recuperados::add);
+            when(delegate.tryDecrementStock(ID, 5)).thenReturn(true);
+            when(delegate.incrementStock(ID, 10)).thenReturn(true);
+            when(delegate.findAllById(any())).thenReturn(
+                    List.of(crearProducto("prod-001", 7, ProductCategory.PERIFERICOS)),
+                    List.of(crearProducto("prod-001", 17, ProductCategory.PERIFERICOS)),
+                    List.of(crearProducto("prod-001", 27, ProductCategory.PERIFERICOS)));
+
+            // When
+            repository.tryDecrementStock(ID, 5);
+            repository.incrementStock(ID, 10);
+            repository.incrementStock(ID, 10);
+
+            // Then
+            assertThat(recuperados).containsExactly(ID);
+        }
+
+        @Test
+        @DisplayName("save() y deleteById() deben actualizar el índice")
+        void saveYDeleteDebenActualizarIndice() {
+            // Given
+            when(delegate.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            // When
+            repository.save(crearProducto("prod-002", 1, ProductCategory.OTROS));
+            repository.save(crearProducto("prod-001", 2, ProductCategory.PERIFERICOS));
+            repository.deleteById(ProductId.of("prod-002"));
+
+            // Then
+            assertThat(repository.lowStockCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Un producto que no estaba en el índice debe agregarse al descontarse")
+        void productoFueraDelIndiceDebeAgregarse() {
+            // Given
+            ProductId nuevo = ProductId.of("prod-009");
+            when(delegate.tryDecrementStock(nuevo, 1)).thenReturn(true);
+            when(delegate.findAllById(List.of(nuevo))).thenReturn(List.of(crearProducto("prod-009", 3, ProductCategory.OTROS)));
+
+            // When
+            repository.tryDecrementStock(nuevo, 1);
+
+            // Then
+            assertThat(repository.lowStockCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Orden de los commits")
+    class CommitOrderTests {
+
+        private AccionesPosterioresAlCommit unidad;
+
+        @BeforeEach
+        void setUp() {
+            unidad = new AccionesPosterioresAlCommit();
+            repository = new LowStockTrackingProductRepository(delegate, LowStockThresholds.defaults(), unidad);
+        }
+
+        @Test
+        @DisplayName("Una acción posterior al commit que llega tarde no debe pisar un nivel más nuevo")
+        void accionTardiaNoDebePisarNivelNuevo() {
+            // Given - la primera transacción deja 5 y la segunda repone hasta 15
+            when(delegate.tryDecrementStock(ID, 5)).thenReturn(true);
+            when(delegate.incrementStock(ID, 10)).thenReturn(true);
+            when(delegate.findAllById(List.of(ID))).thenReturn(
+                    List.of(crearProducto("prod-001", 5, ProductCategory.PERIFERICOS)),
+                    List.of(crearProducto("prod-001", 15, ProductCategory.PERIFERICOS)));
+            repository.tryDecrementStock(ID, 5);
+            repository.incrementStock(ID, 10);
+
+            // When - las acciones se ejecutan en orden inverso
+            unidad.ejecutarEnOrdenInverso();
+
+            // Then
+            assertThat(repository.lowStockCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Un alta que llega tarde no debe revivir un producto borrado")
+        void altaTardiaNoDebeRevivirBorrado() {
+            // Given
+            when(delegate.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
+            repository.save(crearProducto("prod-001", 1, ProductCategory.OTROS));
+            repository.deleteById(ID);
+
+            // When
+            unidad.ejecutarEnOrdenInverso();
+
+            // Then
+            assertThat(repository.lowStockCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrencia")
+    class ConcurrencyTests {
+
+        @TempDir
+        Path directorio;
+
+        @Test
+        @DisplayName("Descuentos y reposiciones concurrentes no deben desviar el índice de la base de datos")
+        void noDebeDesviarseConEscriturasConcurrentes() throws Exception {
+            // Given - base de datos en archivo para tener varias conexiones reales
+            EntityManagerFactory archivo = DatabaseConfig.createEntityManagerFactory(
+                    "jdbc:sqlite:" + directorio.resolve("arka-low-stock.db"), SqliteProfile.THROUGHPUT);
+            ExecutorService hilos = Executors.newFixedThreadPool(8);
+            try {
+                JpaUnitOfWork uow = new JpaUnitOfWork(archivo);
+                JpaProductRepository productos = new JpaProductRepository(uow::currentEntityManager);
+                List<ProductId> ids = IntStream.range(0, 5)
+                        .mapToObj(i -> ProductId.of("prod-00" + i))
+                        .collect(Collectors.toList());
+                uow.run(() -> ids.forEach(id ->
+                        productos.save(crearProducto(id.value(), LowStockThresholds.DEFAULT_THRESHOLD, ProductCategory.OTROS))));
+                LowStockTrackingProductRepository indice =
+                        new LowStockTrackingProductRepository(productos, LowStockThresholds.defaults(), uow);
+                indice.rebuild();
+
+                // When - el stock oscila alrededor del umbral
+                List<Future<?>> tareas = new ArrayList<>();
+                for (int hilo = 0; hilo < 8; hilo++) {
+                    tareas.add(hilos.submit(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int i = 0; i < 200; i++) {
+                            ProductId id = ids.get(random.nextInt(ids.size()));
+                            int cantidad = 1 + random.nextInt(3);
+                            if (random.nextBoolean()) {
+                                uow.run(() -> indice.tryDecrementStock(id, cantidad));
+                            } else {
+                                uow.run(() -> indice.incrementStock(id, cantidad));
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> tarea : tareas) {
+                    tarea.get();
+                }
+
+                // Then - el índice coincide con uno reconstruido desde la base de datos
+                LowStockTrackingProductRepository reconstruido =
+                        new LowStockTrackingProductRepository(productos, LowStockThresholds.defaults(), uow);
+                reconstruido.rebuild();
+                assertThat(idsDe(uow.read(indice::lowStockProducts)))
+                        .isEqualTo(idsDe(uow.read(reconstruido::lowStockProducts)));
+                assertThat(indice.lowStockCount()).isEqualTo(reconstruido.lowStockCount());
+            } finally {
+                hilos.shutdownNow();
+                archivo.close();
+            }
+        }
+
+        private Set<ProductId> idsDe(List<Product> productos) {
+            return productos.stream().map(Product::getId).collect(Collectors.toSet());
+        }
+    }
+
+    @Nested
+    @DisplayName("lowStockProducts()")
+    class LowStockProductsTests {
+
+        @Test
+        @DisplayName("Debe cargar solo los productos en stock bajo")
+        void debeCargarSoloProductosEnStockBajo() {
+            // Given
+            Product bajo = crearProducto("prod-001", 5, ProductCategory.PERIFERICOS);
+            when(delegate.streamAll()).thenReturn(Stream.of(bajo, crearProducto("prod-002", 50, ProductCategory.PERIFERICOS)));
+            when(delegate.findAllById(Set.of(ID))).thenReturn(List.of(bajo));
+            repository.rebuild();
+
+            // When
+            List<Product> resultado = repository.lowStockProducts();
+
+            // Then
+            assertThat(resultado).containsExactly(bajo);
+            verify(delegate).findAllById(Set.of(ID));
+        }
+
+        @Test
+        @DisplayName("No debe consultar el repositorio si no hay productos en stock bajo")
+        void noDebeConsultarSiNoHayStockBajo() {
+            // When
+            List<Product> resultado = repository.lowStockProducts();
+
+            // Then
+            assertThat(resultado).isEmpty();
+            verifyNoInteractions(delegate);
+        }
+    }
+
+    /**
+     * Unidad de trabajo que guarda las acciones posteriores al commit para
+     * que la prueba decida en que orden se ejecutan.
+     */
+    private static class AccionesPosterioresAlCommit implements UnitOfWork {
+        private final List<Runnable> acciones = new ArrayList<>();
+
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+
+        @Override
+        public void afterCommit(Runnable action) {
+            acciones.add(action);
+        }
+
+        void ejecutarEnOrdenInverso() {
+            for (int i = acciones.size() - 1; i >= 0; i--) {
+                acciones.get(i).run();
+            }
+        }
+    }
+}
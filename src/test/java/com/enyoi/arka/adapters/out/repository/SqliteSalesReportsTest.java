@@ -0,0 +1,206 @@
+package com.enyoi.arka.adapters.out.repository;
+
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.entities.Order;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.OrderStatus;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.valueobjects.CategoryRevenue;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.CustomerRevenue;
+import com.enyoi.arka.domain.valueobjects.DateRange;
+import com.enyoi.arka.domain.valueobjects.Email;
+import com.enyoi.arka.domain.valueobjects.InventoryValuation;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.OrderId;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import com.enyoi.arka.domain.valueobjects.ProductSales;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("SqliteSalesReports - Tests de Integración")
+class SqliteSalesReportsTest {
+
+    private static final DateRange MARZO = new DateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+
+    private static EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private SqliteSalesReports reports;
+
+    @BeforeAll
+    static void setUpClass() {
+        entityManagerFactory = Persistence.createEntityManagerFactory("test-persistence-unit");
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager = entityManagerFactory.createEntityManager();
+        reports = new SqliteSalesReports(() -> entityManager);
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("DELETE FROM OrderItemEntity").executeUpdate();
+        entityManager.createQuery("DELETE FROM OrderEntity").executeUpdate();
+        entityManager.createQuery("DELETE FROM ProductEntity").executeUpdate();
+        entityManager.createQuery("DELETE FROM CustomerEntity").executeUpdate();
+        entityManager.getTransaction().commit();
+        cargarDatos();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (entityManager != null && entityManager.isOpen()) {
+            entityManager.close();
+        }
+    }
+
+    private void cargarDatos() {
+        JpaProductRepository productos = new JpaProductRepository(entityManager);
+        productos.save(crearProducto("prod-001", "Teclado", ProductCategory.PERIFERICOS, "100000.00", 5));
+        productos.save(crearProducto("prod-002", "Disco SSD", ProductCategory.ALMACENAMIENTO, "250000.00", 2));
+        new JpaCustomerRepository(entityManager).save(Customer.builder()
+                .id(CustomerId.of("cust-001"))
+                .name("Ana")
+                .email(Email.of("ana@test.com"))
+                .build());
+
+        JpaOrderRepository ordenes = new JpaOrderRepository(entityManager);
+        ordenes.save(crearOrden("order-001", "cust-001", OrderStatus.CONFIRMADO, LocalDateTime.of(2024, 3, 1, 10, 0),
+                crearItem("prod-001", 2, "100000.00"), crearItem("prod-002", 1, "250000.00")));
+        ordenes.save(crearOrden("order-002", "cust-002", OrderStatus.ENTREGADO, LocalDateTime.of(2024, 3, 2, 15, 0),
+                crearItem("prod-001", 1, "100000.00")));
+        // Fuera del reporte: pendiente y fuera del rango
+        ordenes.save(crearOrden("order-003", "cust-001", OrderStatus.PENDIENTE, LocalDateTime.of(2024, 3, 1, 11, 0),
+                crearItem("prod-001", 5, "100000.00")));
+        ordenes.save(crearOrden("order-004", "cust-001", OrderStatus.CONFIRMADO, LocalDateTime.of(2024, 4, 10, 9, 0),
+                crearItem("prod-002", 1, "250000.00")));
+        entityManager.clear();
+    }
+
+    private Product crearProducto(String id, String nombre, ProductCategory categoria, String precio, int stock) {
+        return Product.builder()
+                .id(ProductId.of(id))
+                .name(nombre)
+                .description(nombre)
+                .price(Money.of(new BigDecimal(precio), "COP"))
+                .stock(stock)
+                .category(categoria)
+                .build();
+    }
+
+    private OrderItem crearItem(String productId, int cantidad, String precioUnitario) {
+        return OrderItem.builder()
+                .productId(ProductId.of(productId))
+                .quantity(cantidad)
+                .unitPrice(Money.of(new BigDecimal(precioUnitario), "COP"))
+                .build();
+    }
+
+    private Order crearOrden(String orderId, String customerId, OrderStatus estado, LocalDateTime creada,
+                             OrderItem... items) {
+        return Order.builder()
+                .id(OrderId.of(orderId))
+                .customerId(CustomerId.of(customerId))
+                .status(estado)
+                .items(List.of(items))
+                .createdAt(creada)
+                .build();
+    }
+
+    private static <T> List<T> leer(Stream<T> reporte) {
+        try (reporte) {
+            return reporte.collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("dailyRevenueByCategory() debe agrupar por día y categoría las órdenes vendidas del rango")
+    void ingresosDiariosPorCategoria() {
+        // When
+        List<CategoryRevenue> resultado = leer(reports.dailyRevenueByCategory(MARZO));
+
+        // Then
+        assertThat(resultado).extracting(CategoryRevenue::day, CategoryRevenue::category, CategoryRevenue::unitsSold)
+                .containsExactly(
+                        tuple(LocalDate.of(2024, 3, 1), ProductCategory.ALMACENAMIENTO, 1L),
+                        tuple(LocalDate.of(2024, 3, 1), ProductCategory.PERIFERICOS, 2L),
+                        tuple(LocalDate.of(2024, 3, 2), ProductCategory.PERIFERICOS, 1L));
+        assertThat(resultado.get(1).revenue()).isEqualByComparingTo("200000");
+        assertThat(resultado.get(1).currency()).isEqualTo("COP");
+    }
+
+    @Test
+    @DisplayName("salesByProduct() debe sumar unidades, órdenes e ingresos por producto")
+    void ventasPorProducto() {
+        // When
+        List<ProductSales> resultado = leer(reports.salesByProduct(MARZO));
+
+        // Then
+        assertThat(resultado).hasSize(2);
+        ProductSales teclado = resultado.get(0);
+        assertThat(teclado.productId()).isEqualTo(ProductId.of("prod-001"));
+        assertThat(teclado.productName()).isEqualTo("Teclado");
+        assertThat(teclado.unitsSold()).isEqualTo(3);
+        assertThat(teclado.orderCount()).isEqualTo(2);
+        assertThat(teclado.revenue()).isEqualByComparingTo("300000");
+    }
+
+    @Test
+    @DisplayName("revenueByCustomer() debe usar los totales guardados y ordenar de mayor a menor ingreso")
+    void ingresosPorCliente() {
+        // When
+        List<CustomerRevenue> resultado = leer(reports.revenueByCustomer(MARZO));
+
+        // Then
+        assertThat(resultado).extracting(CustomerRevenue::customerId)
+                .containsExactly(CustomerId.of("cust-001"), CustomerId.of("cust-002"));
+        assertThat(resultado.get(0).customerName()).isEqualTo("Ana");
+        assertThat(resultado.get(0).revenue()).isEqualByComparingTo("450000");
+        assertThat(resultado.get(1).customerName()).isNull();
+        assertThat(resultado.get(1).orderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Un rango sin ventas debe retornar un reporte vacío")
+    void rangoSinVentasDebeRetornarVacio() {
+        // When
+        List<CustomerRevenue> resultado = leer(reports.revenueByCustomer(DateRange.day(LocalDate.of(2024, 5, 1))));
+
+        // Then
+        assertThat(resultado).isEmpty();
+    }
+
+    @Test
+    @DisplayName("inventoryValuation() debe valorar el stock por categoría sin cargar entidades")
+    void valorDelInventario() {
+        // When
+        List<InventoryValuation> resultado = leer(reports.inventoryValuation());
+
+        // Then
+        assertThat(resultado).extracting(InventoryValuation::category, InventoryValuation::unitsInStock)
+                .containsExactly(
+                        tuple(ProductCategory.ALMACENAMIENTO, 2L),
+                        tuple(ProductCategory.PERIFERICOS, 5L));
+        assertThat(resultado.get(0).value()).isEqualByComparingTo("500000");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
@@ -0,0 +1,163 @@
+package com.enyoi.arka.adapters.out.repository.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FrequencyCache - Tests")
+class FrequencyCacheTest {
+
+    private AtomicLong reloj;
+    private FrequencyCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        reloj = new AtomicLong();
+        cache = new FrequencyCache<>(3, Duration.ofSeconds(10), reloj::get);
+    }
+
+    @Nested
+    @DisplayName("get() / put()")
+    class GetPutTests {
+
+        @Test
+        @DisplayName("Debe retornar el valor guardado y contar el acierto")
+        void debeRetornarValorGuardado() {
+            // Given
+            cache.put("a", "valor-a");
+
+            // When & Then
+            assertThat(cache.get("a")).contains("valor-a");
+            assertThat(cache.get("b")).isEmpty();
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Debe expirar las entradas al cumplirse el TTL")
+        void debeExpirarEntradas() {
+            // Given
+            cache.put("a", "valor-a");
+
+            // When
+            reloj.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // Then
+            assertThat(cache.get("a")).isEmpty();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Debe fallar con tamaño no positivo")
+        void debeFallarConTamanoNoPositivo() {
+            assertThatThrownBy(() -> new FrequencyCache<String, String>(0, Duration.ofSeconds(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Desalojo")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Debe desalojar la entrada menos usada al llenarse")
+        void debeDesalojarEntradaMenosUsada() {
+            // Given
+            cache.put("a", "1");
+            cache.put("b", "2");
+            cache.put("c", "3");
+            cache.get("a");
+            cache.get("a");
+            cache.get("c");
+
+            // When
+            cache.put("d", "4");
+
+            // Then
+            assertThat(cache.get("b")).isEmpty();
+            assertThat(cache.get("a")).isPresent();
+            assertThat(cache.get("c")).isPresent();
+            assertThat(cache.get("d")).isPresent();
+            assertThat(cache.stats().evictions()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Entre entradas con igual frecuencia debe desalojar la más antigua")
+        void debeDesalojarLaMasAntiguaEntreEmpatadas() {
+            // Given
+            cache.put("a", "1");
+            cache.put("b", "2");
+            cache.put("c", "3");
+
+            // When
+            cache.put("d", "4");
+
+            // Then
+            assertThat(cache.get("a")).isEmpty();
+            assertThat(cache.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Debe seguir desalojando correctamente tras una invalidación")
+        void debeDesalojarTrasInvalidacion() {
+            // Given
+            cache.put("a", "1");
+            cache.get("a");
+            cache.put("b", "2");
+            cache.put("c", "3");
+            cache.invalidate("b");
+            cache.invalidate("c");
+            cache.put("d", "4");
+            cache.put("e", "5");
+
+            // When
+            cache.put("f", "6");
+
+            // Then
+            assertThat(cache.size()).isEqualTo(3);
+            assertThat(cache.get("a")).isPresent();
+            assertThat(cache.get("d")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate()")
+    class InvalidateTests {
+
+        @Test
+        @DisplayName("Debe eliminar la entrada invalidada")
+        void debeEliminarEntradaInvalidada() {
+            // Given
+            cache.put("a", "1");
+            cache.put("b", "2");
+
+            // When
+            cache.invalidate("a");
+
+            // Then
+            assertThat(cache.get("a")).isEmpty();
+            assertThat(cache.get("b")).isPresent();
+        }
+
+        @Test
+        @DisplayName("Debe vaciar el cache con invalidateAll()")
+        void debeVaciarCache() {
+            // Given
+            cache.put("a", "1");
+            cache.put("b", "2");
+
+            // When
+            cache.invalidateAll();
+
+            // Then
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.enyoi.arka.adapters.out.repository.config;
+
+import com.enyoi.arka.adapters.in.OrderServiceImpl;
+import com.enyoi.arka.adapters.out.repository.JpaCustomerRepository;
+import com.enyoi.arka.adapters.out.repository.JpaOrderRepository;
+import com.enyoi.arka.adapters.out.repository.JpaProductRepository;
+import com.enyoi.arka.adapters.out.service.ConsoleNotificationService;
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.entities.OrderItem;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.RollbackException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JpaUnitOfWork - Tests de Integración")
+class JpaUnitOfWorkTest {
+
+    private static EntityManagerFactory entityManagerFactory;
+    private JpaUnitOfWork unitOfWork;
+    private JpaProductRepository productRepository;
+    private Statistics statistics;
+
+    @BeforeAll
+    static void setUpClass() {
+        entityManagerFactory = Persistence.createEntityManagerFactory("test-persistence-unit");
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        unitOfWork = new JpaUnitOfWork(entityManagerFactory);
+        productRepository = new JpaProductRepository(unitOfWork::currentEntityManager);
+        limpiarBaseDeDatos();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private void limpiarBaseDeDatos() {
+        unitOfWork.run(() -> {
+            unitOfWork.currentEntityManager().createQuery("DELETE FROM OrderItemEntity").executeUpdate();
+            unitOfWork.currentEntityManager().createQuery("DELETE FROM OrderEntity").executeUpdate();
+            unitOfWork.currentEntityManager().createQuery("DELETE FROM ProductEntity").executeUpdate();
+            unitOfWork.currentEntityManager().createQuery("DELETE FROM CustomerEntity").executeUpdate();
+        });
+    }
+
+    private Product crearProducto(String id, int stock) {
+        return Product.builder()
+                .id(ProductId.of(id))
+                .name("Producto " + id)
+                .description("Descripción")
+                .price(Money.of(new BigDecimal("100.00"), "COP"))
+                .stock(stock)
+                .category(ProductCategory.PERIFERICOS)
+                .build();
+    }
+
+    private int stockDe(String id) {
+        return unitOfWork.execute(() -> productRepository.findById(ProductId.of(id)))
+                .map(Product::getStock)
+                .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("execute()")
+    class ExecuteTests {
+
+        @Test
+        @DisplayName("Debe confirmar todas las escrituras en una sola transacción")
+        void debeConfirmarEnUnaSolaTransaccion() {
+            // When
+            unitOfWork.run(() -> {
+                productRepository.save(crearProducto("prod-001", 10));
+                productRepository.save(crearProducto("prod-002", 20));
+                productRepository.tryDecrementStock(ProductId.of("prod-001"), 5);
+            });
+
+            // Then
+            assertThat(statistics.getSuccessfulTransactionCount()).isEqualTo(1);
+            assertThat(stockDe("prod-001")).isEqualTo(5);
+            assertThat(stockDe("prod-002")).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Debe revertir todo si la unidad de trabajo falla")
+        void debeRevertirSiFalla() {
+            // When & Then
+            assertThatThrownBy(() -> unitOfWork.run(() -> {
+                productRepository.save(crearProducto("prod-001", 10));
+                throw new IllegalStateException("fallo");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(unitOfWork.execute(() -> productRepository.existsById(ProductId.of("prod-001")))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Debe revertir y fallar si la transacción queda marcada para rollback")
+        void debeFallarSiSeMarcaRollbackOnly() {
+            // When & Then
+            assertThatThrownBy(() -> unitOfWork.execute(() -> {
+                productRepository.save(crearProducto("prod-001", 10));
+                unitOfWork.currentEntityManager().getTransaction().setRollbackOnly();
+                return "resultado";
+            })).isInstanceOf(RollbackException.class);
+
+            assertThat(unitOfWork.read(() -> productRepository.existsById(ProductId.of("prod-001")))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Un descuento múltiple fallido no debe marcar la transacción: la revierte el llamador")
+        void descuentoMultipleFallidoLoRevierteElLlamador() {
+            // Given
+            unitOfWork.run(() -> {
+                productRepository.save(crearProducto("prod-001", 10));
+                productRepository.save(crearProducto("prod-002", 1));
+            });
+            Map<ProductId, Integer> cantidades = new LinkedHashMap<>();
+            cantidades.put(ProductId.of("prod-001"), 5);
+            cantidades.put(ProductId.of("prod-002"), 3);
+
+            // When
+            assertThatThrownBy(() -> unitOfWork.run(() -> {
+                Optional<ProductId> sinStock = productRepository.tryDecrementStock(cantidades);
+                assertThat(sinStock).contains(ProductId.of("prod-002"));
+                assertThat(unitOfWork.currentEntityManager().getTransaction().getRollbackOnly()).isFalse();
+                throw new IllegalStateException("sin stock");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // Then
+            assertThat(stockDe("prod-001")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Debe reutilizar el EntityManager en llamadas anidadas")
+        void debeReutilizarEntityManagerEnLlamadasAnidadas() {
+            // When
+            boolean mismo = unitOfWork.execute(() -> unitOfWork.currentEntityManager()
+                    == unitOfWork.execute(unitOfWork::currentEntityManager));
+
+            // Then
+            assertThat(mismo).isTrue();
+        }
+
+        @Test
+        @DisplayName("Debe ejecutar las acciones afterCommit solo tras el commit")
+        void debeEjecutarAfterCommitTrasCommit() {
+            // Given
+            List<String> eventos = new ArrayList<>();
+
+            // When
+            unitOfWork.run(() -> {
+                unitOfWork.afterCommit(() -> eventos.add("confirmado"));
+                eventos.add("trabajo");
+            });
+
+            // Then
+            assertThat(eventos).containsExactly("trabajo", "confirmado");
+        }
+
+        @Test
+        @DisplayName("Debe descartar las acciones afterCommit si la unidad de trabajo falla")
+        void debeDescartarAfterCommitSiFalla() {
+            // Given
+            List<String> eventos = new ArrayList<>();
+
+            // When
+            assertThatThrownBy(() -> unitOfWork.run(() -> {
+                unitOfWork.afterCommit(() -> eventos.add("confirmado"));
+                throw new IllegalStateException("fallo");
+            })).isInstanceOf(IllegalStateException.class);
+            unitOfWork.run(() -> { });
+
+            // Then
+            assertThat(eventos).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Debe ejecutar las acciones afterRollback solo si la unidad de trabajo se revierte")
+        void debeEjecutarAfterRollbackSoloAlRevertir() {
+            // Given
+            List<String> eventos = new ArrayList<>();
+
+            // When
+            unitOfWork.run(() -> unitOfWork.afterRollback(() -> eventos.add("confirmada")));
+            assertThatThrownBy(() -> unitOfWork.run(() -> {
+                unitOfWork.afterRollback(() -> eventos.add("revertida"));
+                throw new IllegalStateException("fallo");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // Then
+            assertThat(eventos).containsExactly("revertida");
+        }
+
+        @Test
+        @DisplayName("Debe fallar si no hay unidad de trabajo activa")
+        void debeFallarSinUnidadDeTrabajoActiva() {
+            assertThatThrownBy(() -> unitOfWork.currentEntityManager())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("read()")
+    class ReadTests {
+
+        @TempDir
+        Path directorio;
+
+        @Test
+        @DisplayName("No debe persistir cambios hechos dentro de una lectura")
+        void noDebePersistirCambios() {
+            // When
+            unitOfWork.read(() -> productRepository.save(crearProducto("prod-001", 10)));
+
+            // Then
+            assertThat(unitOfWork.read(() -> productRepository.existsById(ProductId.of("prod-001")))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Debe fallar si se abre una escritura dentro de una lectura")
+        void debeFallarEscrituraAnidada() {
+            assertThatThrownBy(() -> unitOfWork.read(() -> unitOfWork.execute(() -> "escritura")))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Debe unirse a la escritura activa en llamadas anidadas")
+        void debeUnirseAEscrituraActiva() {
+            // When
+            unitOfWork.run(() -> {
+                productRepository.save(crearProducto("prod-001", 10));
+                unitOfWork.read(() -> productRepository.findById(ProductId.of("prod-001")));
+            });
+
+            // Then
+            assertThat(stockDe("prod-001")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Una lectura abierta no debe bloquear una escritura")
+        void lecturaNoDebeBloquearEscritura() throws Exception {
+            // Given - base de datos en archivo (WAL); la base en memoria compartida usa otros locks
+            EntityManagerFactory archivo = DatabaseConfig.createEntityManagerFactory(
+                    "jdbc:sqlite:" + directorio.resolve("arka-read.db"), SqliteProfile.THROUGHPUT);
+            try {
+                JpaUnitOfWork uow = new JpaUnitOfWork(archivo);
+                JpaProductRepository productos = new JpaProductRepository(uow::currentEntityManager);
+                uow.run(() -> productos.save(crearProducto("prod-001", 10)));
+                CountDownLatch lecturaAbierta = new CountDownLatch(1);
+                CountDownLatch escrituraTerminada = new CountDownLatch(1);
+
+                // When
+                CompletableFuture<Integer> lectura = CompletableFuture.supplyAsync(() -> uow.read(() -> {
+                    int stock = productos.findById(ProductId.of("prod-001")).orElseThrow().getStock();
+                    lecturaAbierta.countDown();
+                    await(escrituraTerminada);
+                    return stock;
+                }));
+                await(lecturaAbierta);
+                uow.run(() -> productos.tryDecrementStock(ProductId.of("prod-001"), 3));
+                escrituraTerminada.countDown();
+
+                // Then - la lectura conserva su instantanea
+                assertThat(lectura.get(10, TimeUnit.SECONDS)).isEqualTo(10);
+                assertThat(uow.read(() -> productos.findById(ProductId.of("prod-001"))).orElseThrow().getStock())
+                        .isEqualTo(7);
+            } finally {
+                archivo.close();
+            }
+        }
+
+        private void await(CountDownLatch latch) {
+            try {
+                assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("OrderServiceImpl.createOrder()")
+    class CreateOrderTests {
+
+        @Test
+        @DisplayName("Debe crear la orden y descontar el stock con un único commit")
+        void debeCrearOrdenConUnUnicoCommit() {
+            // Given
+            JpaCustomerRepository customerRepository = new JpaCustomerRepository(unitOfWork::currentEntityManager);
+            OrderServiceImpl orderService = new OrderServiceImpl(
+                    new JpaOrderRepository(unitOfWork::currentEntityManager), productRepository,
+                    customerRepository, new ConsoleNotificationService(), unitOfWork);
+            unitOfWork.run(() -> {
+                customerRepository.save(Customer.builder()
+                        .id(CustomerId.of("cust-001"))
+                        .name("Cliente")
+                        .lastName("Test")
+                        .email(Email.of("cliente@test.com"))
+                        .phone("123456789")
+                        .city("Bogotá")
+                        .build());
+                productRepository.save(crearProducto("prod-001", 10));
+                productRepository.save(crearProducto("prod-002", 10));
+                productRepository.save(crearProducto("prod-003", 10));
+            });
+            List<OrderItem> items = List.of(
+                    crearItem("prod-001", 1),
+                    crearItem("prod-002", 2),
+                    crearItem("prod-003", 3)
+            );
+            statistics.clear();
+
+            // When
+            orderService.createOrder(CustomerId.of("cust-001"), items);
+
+            // Then
+            assertThat(statistics.getSuccessfulTransactionCount()).isEqualTo(1);
+            assertThat(stockDe("prod-001")).isEqualTo(9);
+            assertThat(stockDe("prod-002")).isEqualTo(8);
+            assertThat(stockDe("prod-003")).isEqualTo(7);
+        }
+
+        private OrderItem crearItem(String productoId, int cantidad) {
+            return OrderItem.builder()
+                    .productId(ProductId.of(productoId))
+                    .quantity(cantidad)
+                    .unitPrice(Money.of(new BigDecimal("100.00"), "COP"))
+                    .build();
+        }
+    }
+}
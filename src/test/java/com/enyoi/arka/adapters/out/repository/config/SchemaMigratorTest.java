@@ -0,0 +1,142 @@
+package com.enyoi.arka.adapters.out.repository.config;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SchemaMigrator - Tests de Integración")
+class SchemaMigratorTest {
+
+    private static final String JDBC_URL = "jdbc:sqlite:file:migrationdb?mode=memory&cache=shared";
+
+    // Mantiene viva la base de datos en memoria mientras dura cada test
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(JDBC_URL);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private List<String> consultar(String sql) throws SQLException {
+        List<String> valores = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                valores.add(rs.getString(1));
+            }
+        }
+        return valores;
+    }
+
+    @Nested
+    @DisplayName("migrate()")
+    class MigrateTests {
+
+        @Test
+        @DisplayName("Debe crear las tablas y registrar las versiones aplicadas")
+        void debeCrearTablasYRegistrarVersiones() throws SQLException {
+            // When
+            int aplicadas = new SchemaMigrator(JDBC_URL).migrate();
+
+            // Then
+            assertThat(aplicadas).isEqualTo(SchemaMigrator.MIGRATIONS.size());
+            assertThat(consultar("SELECT name FROM sqlite_master WHERE type = 'table'"))
+                    .contains("customers", "products", "orders", "order_items", "notification_outbox", "schema_version");
+            assertThat(consultar("SELECT version FROM schema_version ORDER BY version"))
+                    .containsExactly("1", "2", "3", "4", "5");
+        }
+
+        @Test
+        @DisplayName("Debe crear los índices secundarios")
+        void debeCrearIndicesSecundarios() throws SQLException {
+            // When
+            new SchemaMigrator(JDBC_URL).migrate();
+
+            // Then
+            assertThat(consultar("SELECT name FROM sqlite_master WHERE type = 'index'"))
+                    .contains("idx_orders_customer_id",
+                            "idx_orders_status_created_at",
+                            "idx_order_items_order_id",
+                            "idx_products_stock",
+                            "idx_products_category",
+                            "idx_notification_outbox_state_next_attempt");
+        }
+
+        @Test
+        @DisplayName("Las consultas por cliente deben usar el índice")
+        void lasConsultasPorClienteDebenUsarElIndice() throws SQLException {
+            // Given
+            new SchemaMigrator(JDBC_URL).migrate();
+
+            // When
+            List<String> plan = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                         "EXPLAIN QUERY PLAN SELECT * FROM orders WHERE customer_id = 'cust-001'")) {
+                while (rs.next()) {
+                    plan.add(rs.getString("detail"));
+                }
+            }
+
+            // Then
+            assertThat(plan).anyMatch(detail -> detail.contains("idx_orders_customer_id"));
+        }
+
+        @Test
+        @DisplayName("No debe aplicar de nuevo migraciones ya registradas")
+        void noDebeAplicarDeNuevoMigracionesRegistradas() {
+            // Given
+            SchemaMigrator migrator = new SchemaMigrator(JDBC_URL);
+            migrator.migrate();
+
+            // When
+            int aplicadas = migrator.migrate();
+
+            // Then
+            assertThat(aplicadas).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Scripts")
+    class ScriptTests {
+
+        @Test
+        @DisplayName("Debe extraer la versión del nombre del script")
+        void debeExtraerVersionDelNombre() {
+            assertThat(SchemaMigrator.versionOf("V12__add_column.sql")).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("Debe rechazar nombres de script inválidos")
+        void debeRechazarNombresInvalidos() {
+            assertThatThrownBy(() -> SchemaMigrator.versionOf("create_tables.sql"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Debe separar sentencias ignorando comentarios")
+        void debeSepararSentenciasIgnorandoComentarios() {
+            String script = "-- comentario\nCREATE TABLE a (id INTEGER);\n\nCREATE INDEX i ON a (\n    id\n);\n";
+
+            assertThat(SchemaMigrator.statements(script)).hasSize(2);
+            assertThat(SchemaMigrator.statements(script).get(0)).isEqualTo("CREATE TABLE a (id INTEGER)");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.enyoi.arka.adapters.out.repository.config;
+
+import com.enyoi.arka.adapters.out.repository.JpaCustomerRepository;
+import com.enyoi.arka.adapters.out.repository.JpaProductRepository;
+import com.enyoi.arka.adapters.out.repository.entity.ProductEntity;
+import com.enyoi.arka.domain.entities.Customer;
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import com.enyoi.arka.domain.valueobjects.CustomerId;
+import com.enyoi.arka.domain.valueobjects.Email;
+import com.enyoi.arka.domain.valueobjects.Money;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache de segundo nivel - Tests de Integración")
+class SecondLevelCacheTest {
+
+    private static EntityManagerFactory entityManagerFactory;
+    private JpaUnitOfWork unitOfWork;
+    private JpaCustomerRepository customers;
+    private JpaProductRepository products;
+    private Statistics statistics;
+
+    @BeforeAll
+    static void setUpClass() {
+        entityManagerFactory = Persistence.createEntityManagerFactory("test-persistence-unit",
+                DatabaseConfig.secondLevelCacheProperties());
+    }
+
+    @AfterAll
+    static void tearDownClass() {
+        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        unitOfWork = new JpaUnitOfWork(entityManagerFactory);
+        customers = new JpaCustomerRepository(unitOfWork::currentEntityManager);
+        products = new JpaProductRepository(unitOfWork::currentEntityManager);
+        unitOfWork.run(() -> {
+            unitOfWork.currentEntityManager().createQuery("DELETE FROM CustomerEntity").executeUpdate();
+            unitOfWork.currentEntityManager().createQuery("DELETE FROM ProductEntity").executeUpdate();
+        });
+        unitOfWork.run(() -> customers.save(Customer.builder()
+                .id(CustomerId.of("cust-001"))
+                .name("Ana")
+                .email(Email.of("ana@test.com"))
+                .build()));
+        unitOfWork.run(() -> products.save(Product.builder()
+                .id(ProductId.of("prod-001"))
+                .name("Teclado")
+                .description("Teclado mecánico")
+                .price(Money.of(new BigDecimal("150000.00"), "COP"))
+                .stock(5)
+                .category(ProductCategory.PERIFERICOS)
+                .build()));
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Una lectura de cliente en un EntityManager nuevo debe servirse desde la región declarada")
+    void lecturaDeClienteDebeServirseDesdeCache() {
+        // When
+        unitOfWork.execute(() -> customers.findById(CustomerId.of("cust-001")));
+        long sentenciasEnFrio = statistics.getPrepareStatementCount();
+        unitOfWork.execute(() -> customers.findById(CustomerId.of("cust-001")));
+
+        // Then
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("customers").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(sentenciasEnFrio);
+    }
+
+    @Test
+    @DisplayName("Los productos no deben pasar por el cache de segundo nivel")
+    void productosNoDebenUsarCache() {
+        // When
+        unitOfWork.execute(() -> products.findById(ProductId.of("prod-001")));
+        unitOfWork.execute(() -> products.findById(ProductId.of("prod-001")));
+
+        // Then
+        assertThat(entityManagerFactory.getCache().contains(ProductEntity.class, "prod-001")).isFalse();
+        assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+    }
+}
@@ -0,0 +1,95 @@
+package com.enyoi.arka.adapters.out.repository.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SqliteProfile - Tests")
+class SqliteProfileTest {
+
+    @TempDir
+    Path directorio;
+
+    private String pragma(Connection connection, String nombre) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA " + nombre)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    @Nested
+    @DisplayName("apply()")
+    class ApplyTests {
+
+        @Test
+        @DisplayName("Debe agregar los pragmas del perfil a la URL")
+        void debeAgregarPragmasALaUrl() {
+            // When
+            String url = SqliteProfile.THROUGHPUT.apply("jdbc:sqlite:arka.db");
+
+            // Then
+            assertThat(url).startsWith("jdbc:sqlite:arka.db?")
+                    .contains("journal_mode=WAL", "synchronous=NORMAL", "busy_timeout=30000",
+                            "temp_store=MEMORY", "mmap_size=268435456", "cache_size=-64000")
+                    .doesNotContain("transaction_mode");
+        }
+
+        @Test
+        @DisplayName("Debe respetar los parámetros que ya trae la URL")
+        void debeRespetarParametrosDeLaUrl() {
+            // When
+            String url = SqliteProfile.DURABLE.apply("jdbc:sqlite:file:testdb?mode=memory&cache=shared&busy_timeout=100");
+
+            // Then
+            assertThat(url).startsWith("jdbc:sqlite:file:testdb?")
+                    .contains("mode=memory", "cache=shared", "busy_timeout=100", "synchronous=FULL")
+                    .doesNotContain("busy_timeout=30000");
+        }
+
+        @Test
+        @DisplayName("Debe abrir conexiones con los pragmas del perfil")
+        void debeAbrirConexionesConLosPragmas() throws SQLException {
+            // Given
+            String url = SqliteProfile.THROUGHPUT.apply("jdbc:sqlite:" + directorio.resolve("profile.db"));
+
+            // When
+            try (Connection connection = DriverManager.getConnection(url)) {
+                // Then
+                assertThat(pragma(connection, "journal_mode")).isEqualToIgnoringCase("wal");
+                assertThat(pragma(connection, "synchronous")).isEqualTo("1");
+                assertThat(pragma(connection, "busy_timeout")).isEqualTo("30000");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("fromName()")
+    class FromNameTests {
+
+        @Test
+        @DisplayName("Debe resolver el perfil sin importar mayúsculas")
+        void debeResolverPerfilSinImportarMayusculas() {
+            assertThat(SqliteProfile.fromName("throughput")).isEqualTo(SqliteProfile.THROUGHPUT);
+            assertThat(SqliteProfile.fromName(" Durable ")).isEqualTo(SqliteProfile.DURABLE);
+        }
+
+        @Test
+        @DisplayName("Debe fallar con un perfil desconocido")
+        void debeFallarConPerfilDesconocido() {
+            assertThatThrownBy(() -> SqliteProfile.fromName("rapido"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rapido");
+        }
+    }
+}
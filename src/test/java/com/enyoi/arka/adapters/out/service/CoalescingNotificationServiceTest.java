@@ -0,0 +1,219 @@
+package com.enyoi.arka.adapters.out.service;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingNotificationService - Tests")
+class CoalescingNotificationServiceTest {
+
+    private static final ProductId TECLADO_ID = ProductId.of("prod-001");
+    private static final LowStockAlert TECLADO = new LowStockAlert(TECLADO_ID, "Teclado", 3);
+    private static final LowStockAlert MOUSE = new LowStockAlert(ProductId.of("prod-002"), "Mouse", 1);
+
+    @Mock
+    private NotificationService delegate;
+
+    private AtomicLong reloj;
+    private CoalescingNotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        reloj = new AtomicLong();
+        notificationService = new CoalescingNotificationService(delegate, Duration.ofHours(1), UnitOfWork.none(), reloj::get);
+    }
+
+    @Nested
+    @DisplayName("notifyLowStockDigest()")
+    class DigestTests {
+
+        @Test
+        @DisplayName("Debe enviar solo los productos no alertados en un único resumen")
+        void debeEnviarSoloProductosNoAlertados() {
+            // Given
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // When
+            notificationService.notifyLowStockDigest(List.of(TECLADO, MOUSE));
+
+            // Then
+            verify(delegate).notifyLowStockDigest(List.of(TECLADO));
+            verify(delegate).notifyLowStockDigest(List.of(MOUSE));
+            assertThat(notificationService.suppressedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("No debe enviar nada si el reporte repite las mismas alertas")
+        void noDebeEnviarReporteRepetido() {
+            // Given
+            notificationService.notifyLowStockDigest(List.of(TECLADO, MOUSE));
+
+            // When
+            notificationService.notifyLowStockDigest(List.of(TECLADO, MOUSE));
+            notificationService.notifyLowStockDigest(List.of(TECLADO, MOUSE));
+
+            // Then
+            verify(delegate, times(1)).notifyLowStockDigest(anyList());
+        }
+
+        @Test
+        @DisplayName("Debe volver a alertar un producto que salió del stock bajo y regresó")
+        void debeVolverAAlertarTrasCruzarUmbral() {
+            // Given
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+            notificationService.notifyLowStockDigest(List.of());
+
+            // When
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // Then
+            verify(delegate, times(2)).notifyLowStockDigest(List.of(TECLADO));
+        }
+
+        @Test
+        @DisplayName("Debe volver a alertar un producto repuesto que cae de nuevo entre dos reportes")
+        void debeVolverAAlertarTrasReponerYCaerDentroDeLaVentana() {
+            // Given
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+            notificationService.stockRecovered(TECLADO_ID);
+
+            // When
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // Then
+            verify(delegate, times(2)).notifyLowStockDigest(List.of(TECLADO));
+            assertThat(notificationService.suppressedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Debe volver a alertar al vencer la ventana")
+        void debeVolverAAlertarAlVencerVentana() {
+            // Given
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // When
+            reloj.addAndGet(Duration.ofHours(1).toNanos());
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // Then
+            verify(delegate, times(2)).notifyLowStockDigest(List.of(TECLADO));
+        }
+
+        @Test
+        @DisplayName("Debe permitir reintentar si el envío falla")
+        void debePermitirReintentarSiFalla() {
+            // Given
+            doThrow(new IllegalStateException("bandeja llena")).doNothing()
+                    .when(delegate).notifyLowStockDigest(List.of(TECLADO));
+            assertThatThrownBy(() -> notificationService.notifyLowStockDigest(List.of(TECLADO)))
+                    .isInstanceOf(IllegalStateException.class);
+
+            // When
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // Then
+            verify(delegate, times(2)).notifyLowStockDigest(List.of(TECLADO));
+        }
+
+        @Test
+        @DisplayName("Debe distinguir productos distintos con el mismo nombre")
+        void debeDistinguirProductosConMismoNombre() {
+            // Given
+            LowStockAlert otroTeclado = new LowStockAlert(ProductId.of("prod-003"), "Teclado", 5);
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // When
+            notificationService.notifyLowStockDigest(List.of(TECLADO, otroTeclado));
+
+            // Then
+            verify(delegate).notifyLowStockDigest(List.of(otroTeclado));
+            assertThat(notificationService.suppressedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Debe volver a alertar si la unidad de trabajo que guardó la alerta se revierte")
+        void debeVolverAAlertarSiSeRevierte() {
+            // Given
+            UnidadQueSeRevierte unidad = new UnidadQueSeRevierte();
+            notificationService = new CoalescingNotificationService(delegate, Duration.ofHours(1), unidad, reloj::get);
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // When
+            unidad.revertir();
+            notificationService.notifyLowStockDigest(List.of(TECLADO));
+
+            // Then
+            verify(delegate, times(2)).notifyLowStockDigest(List.of(TECLADO));
+            assertThat(notificationService.suppressedCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("notifyLowStockAlert()")
+    class AlertTests {
+
+        @Test
+        @DisplayName("Debe descartar alertas repetidas dentro de la ventana")
+        void debeDescartarAlertasRepetidas() {
+            // When
+            notificationService.notifyLowStockAlert(TECLADO_ID, "Teclado", 3);
+            notificationService.notifyLowStockAlert(TECLADO_ID, "Teclado", 2);
+
+            // Then
+            verify(delegate, times(1)).notifyLowStockAlert(TECLADO_ID, "Teclado", 3);
+            verifyNoMoreInteractions(delegate);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe pasar sin cambios las notificaciones de órdenes")
+    void debePasarNotificacionesDeOrdenes() {
+        // When
+        notificationService.notifyOrderStatusChange("ord-001", "cliente@test.com", "ENVIADO");
+        notificationService.notifyOrderStatusChange("ord-001", "cliente@test.com", "ENVIADO");
+
+        // Then
+        verify(delegate, times(2)).notifyOrderStatusChange("ord-001", "cliente@test.com", "ENVIADO");
+    }
+
+    /**
+     * Unidad de trabajo que la prueba revierte despues de ejecutarla.
+     */
+    private static class UnidadQueSeRevierte implements UnitOfWork {
+        private final List<Runnable> alRevertir = new ArrayList<>();
+
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+
+        @Override
+        public void afterRollback(Runnable action) {
+            alRevertir.add(action);
+        }
+
+        void revertir() {
+            alRevertir.forEach(Runnable::run);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.enyoi.arka.adapters.out.service;
 
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -46,7 +50,7 @@ class ConsoleNotificationServiceTest {
     @DisplayName("Debe notificar alerta de stock bajo")
     void debeNotificarAlertaDeStockBajo() {
         // When
-        notificationService.notifyLowStockAlert("Teclado Mecánico", 5);
+        notificationService.notifyLowStockAlert(ProductId.of("prod-001"), "Teclado Mecánico", 5);
 
         // Then
         String output = outputStream.toString();
@@ -54,4 +58,35 @@ class ConsoleNotificationServiceTest {
         assertThat(output).contains("5");
         assertThat(output).contains("stock bajo");
     }
+
+    @Test
+    @DisplayName("Debe notificar un lote de cambios de estado")
+    void debeNotificarLoteDeCambiosDeEstado() {
+        // When
+        notificationService.notifyOrderStatusChanges(List.of(
+                new OrderStatusNotification("order-001", "uno@email.com", "CONFIRMADO"),
+                new OrderStatusNotification("order-002", "dos@email.com", "CONFIRMADO")
+        ));
+
+        // Then
+        String output = outputStream.toString();
+        assertThat(output).contains("2 órdenes actualizadas");
+        assertThat(output).contains("order-001", "uno@email.com");
+        assertThat(output).contains("order-002", "dos@email.com");
+    }
+
+    @Test
+    @DisplayName("Debe notificar un resumen de alertas de stock bajo")
+    void debeNotificarResumenDeStockBajo() {
+        // When
+        notificationService.notifyLowStockDigest(List.of(
+                new LowStockAlert(ProductId.of("prod-001"), "Teclado Mecánico", 5),
+                new LowStockAlert(ProductId.of("prod-002"), "Mouse", 2)
+        ));
+
+        // Then
+        String output = outputStream.toString();
+        assertThat(output).contains("2 productos con stock bajo");
+        assertThat(output).contains("Teclado Mecánico", "Mouse");
+    }
 }
@@ -0,0 +1,177 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.LowStockAlert;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher - Tests")
+class OutboxDispatcherTest {
+
+    private static final LocalDateTime AHORA = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock
+    private NotificationOutbox outbox;
+
+    @Mock
+    private NotificationService delegate;
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = OutboxDispatcher.builder(outbox, delegate, UnitOfWork.none())
+                .batchSize(10)
+                .maxAttempts(3)
+                .backoff(Duration.ofSeconds(1), Duration.ofSeconds(3))
+                .clock(Clock.fixed(AHORA.toInstant(ZoneOffset.UTC), ZoneOffset.UTC))
+                .build();
+    }
+
+    private OutboxEvent cambioDeEstado(String orderId, int intentos) {
+        return new OutboxEvent("evt-" + orderId, OutboxEventType.ORDER_STATUS_CHANGE, orderId,
+                "cliente@test.com", "CONFIRMADO", null, null, 0, intentos, AHORA.minusSeconds(2));
+    }
+
+    @Nested
+    @DisplayName("drain()")
+    class DrainTests {
+
+        @Test
+        @DisplayName("Debe entregar los cambios de estado en una sola llamada")
+        void debeEntregarCambiosDeEstadoEnLote() {
+            // Given
+            when(outbox.findDue(AHORA, 10)).thenReturn(List.of(cambioDeEstado("ord-001", 0), cambioDeEstado("ord-002", 0)));
+
+            // When
+            int entregados = dispatcher.drain();
+
+            // Then
+            assertThat(entregados).isEqualTo(2);
+            verify(delegate).notifyOrderStatusChanges(List.of(
+                    new OrderStatusNotification("ord-001", "cliente@test.com", "CONFIRMADO"),
+                    new OrderStatusNotification("ord-002", "cliente@test.com", "CONFIRMADO")));
+            verify(outbox).removeDispatched(List.of("evt-ord-001", "evt-ord-002"));
+            assertThat(dispatcher.stats().dispatched()).isEqualTo(2);
+            assertThat(dispatcher.stats().maxLatencyMillis()).isEqualTo(2000);
+        }
+
+        @Test
+        @DisplayName("Debe entregar las alertas de stock bajo en un solo resumen")
+        void debeEntregarAlertasDeStockBajoEnResumen() {
+            // Given
+            when(outbox.findDue(AHORA, 10)).thenReturn(List.of(
+                    OutboxEvent.lowStockAlert("prod-001", "Teclado", 3, AHORA),
+                    OutboxEvent.lowStockAlert("prod-002", "Mouse", 1, AHORA)));
+
+            // When
+            dispatcher.drain();
+
+            // Then
+            verify(delegate).notifyLowStockDigest(List.of(
+                    new LowStockAlert(ProductId.of("prod-001"), "Teclado", 3),
+                    new LowStockAlert(ProductId.of("prod-002"), "Mouse", 1)));
+        }
+
+        @Test
+        @DisplayName("Debe seguir leyendo mientras los lotes vengan llenos")
+        void debeSeguirLeyendoLotesLlenos() {
+            // Given
+            List<OutboxEvent> loteLleno = IntStream.range(0, 10)
+                    .mapToObj(i -> cambioDeEstado("ord-" + i, 0))
+                    .toList();
+            when(outbox.findDue(AHORA, 10)).thenReturn(loteLleno, List.of());
+
+            // When
+            int entregados = dispatcher.drain();
+
+            // Then
+            assertThat(entregados).isEqualTo(10);
+            verify(outbox, times(2)).findDue(AHORA, 10);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reintentos")
+    class RetryTests {
+
+        @Test
+        @DisplayName("Debe reprogramar con espera exponencial si la entrega falla")
+        void debeReprogramarSiFalla() {
+            // Given
+            when(outbox.findDue(AHORA, 10)).thenReturn(List.of(cambioDeEstado("ord-001", 1)));
+            doThrow(new RuntimeException("SMTP no disponible")).when(delegate).notifyOrderStatusChanges(anyList());
+
+            // When
+            int entregados = dispatcher.drain();
+
+            // Then
+            assertThat(entregados).isZero();
+            verify(outbox).scheduleRetry("evt-ord-001", 2, AHORA.plusSeconds(2));
+            verify(outbox, never()).removeDispatched(any());
+            assertThat(dispatcher.stats().retried()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Debe marcar como fallido al agotar los intentos")
+        void debeMarcarFallidoAlAgotarIntentos() {
+            // Given
+            when(outbox.findDue(AHORA, 10)).thenReturn(List.of(cambioDeEstado("ord-001", 2)));
+            doThrow(new RuntimeException("SMTP no disponible")).when(delegate).notifyOrderStatusChanges(anyList());
+
+            // When
+            dispatcher.drain();
+
+            // Then
+            verify(outbox).markFailed("evt-ord-001", 3);
+            verify(outbox, never()).scheduleRetry(any(), anyInt(), any());
+            assertThat(dispatcher.stats().failed()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("La espera debe duplicarse hasta el máximo configurado")
+        void esperaDebeDuplicarseHastaElMaximo() {
+            assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+            assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+            assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(3));
+            assertThat(dispatcher.backoff(40)).isEqualTo(Duration.ofSeconds(3));
+        }
+    }
+
+    @Test
+    @DisplayName("start() debe inicializar la profundidad con los eventos pendientes")
+    void startDebeInicializarProfundidad() {
+        // Given
+        when(outbox.countPending()).thenReturn(7L);
+        lenient().when(outbox.findDue(any(), eq(10))).thenReturn(List.of());
+
+        // When
+        dispatcher.start();
+        dispatcher.close();
+
+        // Then
+        assertThat(dispatcher.stats().depth()).isEqualTo(7);
+    }
+}
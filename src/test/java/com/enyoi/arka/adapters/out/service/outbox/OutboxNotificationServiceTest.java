@@ -0,0 +1,98 @@
+package com.enyoi.arka.adapters.out.service.outbox;
+
+import com.enyoi.arka.domain.ports.out.NotificationService;
+import com.enyoi.arka.domain.ports.out.UnitOfWork;
+import com.enyoi.arka.domain.valueobjects.OrderStatusNotification;
+import com.enyoi.arka.domain.valueobjects.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxNotificationService - Tests")
+class OutboxNotificationServiceTest {
+
+    @Mock
+    private NotificationOutbox outbox;
+
+    @Mock
+    private NotificationService delegate;
+
+    private OutboxDispatcher dispatcher;
+    private OutboxNotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = OutboxDispatcher.builder(outbox, delegate, UnitOfWork.none()).build();
+        notificationService = new OutboxNotificationService(outbox, UnitOfWork.none(), dispatcher, 2);
+    }
+
+    @Nested
+    @DisplayName("Encolado")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Debe guardar el evento sin notificar en línea")
+        void debeGuardarEventoSinNotificarEnLinea() {
+            // When
+            notificationService.notifyOrderStatusChange("ord-001", "cliente@test.com", "PENDIENTE");
+
+            // Then
+            ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+            verify(outbox).append(captor.capture());
+            assertThat(captor.getValue().type()).isEqualTo(OutboxEventType.ORDER_STATUS_CHANGE);
+            assertThat(captor.getValue().orderId()).isEqualTo("ord-001");
+            verifyNoInteractions(delegate);
+            assertThat(dispatcher.stats().depth()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Debe guardar un evento por cada cambio del lote")
+        void debeGuardarUnEventoPorCambio() {
+            // When
+            notificationService.notifyOrderStatusChanges(List.of(
+                    new OrderStatusNotification("ord-001", "a@test.com", "ENVIADO"),
+                    new OrderStatusNotification("ord-002", "b@test.com", "ENVIADO")));
+
+            // Then
+            verify(outbox, times(2)).append(any(OutboxEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Capacidad")
+    class CapacityTests {
+
+        @Test
+        @DisplayName("Debe rechazar notificaciones con la bandeja llena")
+        void debeRechazarConBandejaLlena() {
+            // Given
+            notificationService.notifyLowStockAlert(ProductId.of("prod-001"), "Teclado", 3);
+            notificationService.notifyLowStockAlert(ProductId.of("prod-002"), "Mouse", 2);
+
+            // When & Then
+            assertThatThrownBy(() -> notificationService.notifyLowStockAlert(ProductId.of("prod-003"), "Monitor", 1))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(outbox, times(2)).append(any(OutboxEvent.class));
+        }
+
+        @Test
+        @DisplayName("Debe fallar con capacidad no positiva")
+        void debeFallarConCapacidadNoPositiva() {
+            assertThatThrownBy(() -> new OutboxNotificationService(outbox, UnitOfWork.none(), dispatcher, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
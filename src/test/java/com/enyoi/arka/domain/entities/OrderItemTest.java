@@ -1,6 +1,7 @@
 package com.enyoi.arka.domain.entities;
 
  import com.enyoi.arka.domain.valueobjects.Money;
+ import com.enyoi.arka.domain.valueobjects.OrderItemId;
  import com.enyoi.arka.domain.valueobjects.ProductId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +35,41 @@ class OrderItemTest {
             assertThat(item.getUnitPrice().amount()).isEqualByComparingTo(new BigDecimal("50000.00"));
         }
 
+        @Test
+        @DisplayName("Debe generar un id si no se indica")
+        void debeGenerarIdSiNoSeIndica() {
+            // When
+            OrderItem item1 = OrderItem.builder()
+                    .productId(ProductId.of("prod-001"))
+                    .quantity(1)
+                    .unitPrice(Money.of(new BigDecimal("100"), "COP"))
+                    .build();
+            OrderItem item2 = OrderItem.builder()
+                    .productId(ProductId.of("prod-001"))
+                    .quantity(1)
+                    .unitPrice(Money.of(new BigDecimal("100"), "COP"))
+                    .build();
+
+            // Then
+            assertThat(item1.getId()).isNotNull();
+            assertThat(item1.getId()).isNotEqualTo(item2.getId());
+        }
+
+        @Test
+        @DisplayName("Debe conservar el id indicado")
+        void debeConservarIdIndicado() {
+            // When
+            OrderItem item = OrderItem.builder()
+                    .id(OrderItemId.of("item-001"))
+                    .productId(ProductId.of("prod-001"))
+                    .quantity(1)
+                    .unitPrice(Money.of(new BigDecimal("100"), "COP"))
+                    .build();
+
+            // Then
+            assertThat(item.getId()).isEqualTo(OrderItemId.of("item-001"));
+        }
+
         @Test
         @DisplayName("Debe fallar sin productId")
         void debeFallarSinProductId() {
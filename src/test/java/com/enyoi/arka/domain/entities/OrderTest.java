@@ -321,4 +321,27 @@ class OrderTest {
              assertThat(orden.isPending()).isFalse();
          }
      }
+
+     @Nested
+     @DisplayName("Transiciones de OrderStatus")
+     class OrderStatusTransitionTests {
+
+         @Test
+         @DisplayName("Cada estado solo debe alcanzarse desde el anterior")
+         void cadaEstadoSoloDesdeElAnterior() {
+             assertThat(OrderStatus.PENDIENTE.canTransitionTo(OrderStatus.CONFIRMADO)).isTrue();
+             assertThat(OrderStatus.CONFIRMADO.canTransitionTo(OrderStatus.EN_DESPACHO)).isTrue();
+             assertThat(OrderStatus.EN_DESPACHO.canTransitionTo(OrderStatus.ENTREGADO)).isTrue();
+             assertThat(OrderStatus.PENDIENTE.canTransitionTo(OrderStatus.EN_DESPACHO)).isFalse();
+             assertThat(OrderStatus.ENTREGADO.canTransitionTo(OrderStatus.PENDIENTE)).isFalse();
+         }
+
+         @Test
+         @DisplayName("PENDIENTE no debe tener estado anterior ni mensaje de transición")
+         void pendienteEsElEstadoInicial() {
+             assertThat(OrderStatus.PENDIENTE.previous()).isNull();
+             assertThatThrownBy(OrderStatus.PENDIENTE::illegalTransitionMessage)
+                     .isInstanceOf(IllegalStateException.class);
+         }
+     }
 }
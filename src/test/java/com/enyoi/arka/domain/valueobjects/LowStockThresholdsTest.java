@@ -0,0 +1,100 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import com.enyoi.arka.domain.entities.Product;
+import com.enyoi.arka.domain.entities.ProductCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LowStockThresholds - Value Object")
+class LowStockThresholdsTest {
+
+    private static final ProductId PRODUCTO = ProductId.of("prod-001");
+
+    private Product crearProducto(int stock, ProductCategory categoria) {
+        return Product.builder()
+                .id(PRODUCTO)
+                .name("Teclado")
+                .description("Teclado mecánico")
+                .price(Money.of(new BigDecimal("150000.00"), "COP"))
+                .stock(stock)
+                .category(categoria)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("thresholdFor()")
+    class ThresholdForTests {
+
+        @Test
+        @DisplayName("Debe usar el umbral por defecto sin configuración")
+        void debeUsarUmbralPorDefecto() {
+            // When
+            LowStockThresholds umbrales = LowStockThresholds.defaults();
+
+            // Then
+            assertThat(umbrales.thresholdFor(PRODUCTO, ProductCategory.PERIFERICOS))
+                    .isEqualTo(LowStockThresholds.DEFAULT_THRESHOLD);
+        }
+
+        @Test
+        @DisplayName("El umbral del producto debe tener prioridad sobre el de la categoría")
+        void umbralDeProductoDebeTenerPrioridad() {
+            // Given
+            LowStockThresholds umbrales = LowStockThresholds.builder()
+                    .category(ProductCategory.PERIFERICOS, 20)
+                    .product(PRODUCTO, 3)
+                    .build();
+
+            // When & Then
+            assertThat(umbrales.thresholdFor(PRODUCTO, ProductCategory.PERIFERICOS)).isEqualTo(3);
+            assertThat(umbrales.thresholdFor(ProductId.of("prod-002"), ProductCategory.PERIFERICOS)).isEqualTo(20);
+            assertThat(umbrales.thresholdFor(ProductId.of("prod-002"), ProductCategory.OTROS)).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Debe fallar con umbral negativo")
+        void debeFallarConUmbralNegativo() {
+            assertThatThrownBy(() -> LowStockThresholds.builder().defaultThreshold(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("isLow()")
+    class IsLowTests {
+
+        @Test
+        @DisplayName("Debe considerar bajo solo el stock menor que el umbral")
+        void debeConsiderarBajoStockMenorQueUmbral() {
+            // Given
+            LowStockThresholds umbrales = LowStockThresholds.builder()
+                    .category(ProductCategory.PERIFERICOS, 5)
+                    .build();
+
+            // When & Then
+            assertThat(umbrales.isLow(crearProducto(4, ProductCategory.PERIFERICOS))).isTrue();
+            assertThat(umbrales.isLow(crearProducto(5, ProductCategory.PERIFERICOS))).isFalse();
+            assertThat(umbrales.isLow(crearProducto(5, ProductCategory.OTROS))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("maxThreshold() debe retornar el mayor umbral configurado")
+    void maxThresholdDebeRetornarMayorUmbral() {
+        // Given
+        LowStockThresholds umbrales = LowStockThresholds.builder()
+                .defaultThreshold(5)
+                .category(ProductCategory.ALMACENAMIENTO, 8)
+                .product(PRODUCTO, 25)
+                .build();
+
+        // When & Then
+        assertThat(umbrales.maxThreshold()).isEqualTo(25);
+    }
+}
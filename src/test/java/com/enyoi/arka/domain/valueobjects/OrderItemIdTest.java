@@ -0,0 +1,74 @@
+package com.enyoi.arka.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderItemId - Value Object")
+class OrderItemIdTest {
+
+    @Nested
+    @DisplayName("of()")
+    class OfTests {
+
+        @Test
+        @DisplayName("Debe crear OrderItemId con valor válido")
+        void debeCrearOrderItemIdConValorValido() {
+            // When
+            OrderItemId orderItemId = OrderItemId.of("item-001");
+
+            // Then
+            assertThat(orderItemId).isNotNull();
+            assertThat(orderItemId.value()).isEqualTo("item-001");
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción con valor vacío")
+        void debeLanzarExcepcionConValorVacio() {
+            // When & Then
+            assertThatThrownBy(() -> OrderItemId.of(""))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("empty");
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción con solo espacios")
+        void debeLanzarExcepcionConSoloEspacios() {
+            // When & Then
+            assertThatThrownBy(() -> OrderItemId.of("   "))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("Igualdad")
+    class IgualdadTests {
+
+        @Test
+        @DisplayName("Dos OrderItemId con mismo valor deben ser iguales")
+        void dosOrderItemIdConMismoValorDebenSerIguales() {
+            // Given
+            OrderItemId id1 = OrderItemId.of("item-001");
+            OrderItemId id2 = OrderItemId.of("item-001");
+
+            // Then
+            assertThat(id1).isEqualTo(id2);
+            assertThat(id1.hashCode()).isEqualTo(id2.hashCode());
+        }
+
+        @Test
+        @DisplayName("Dos OrderItemId con diferente valor no deben ser iguales")
+        void dosOrderItemIdConDiferenteValorNoDebenSerIguales() {
+            // Given
+            OrderItemId id1 = OrderItemId.of("item-001");
+            OrderItemId id2 = OrderItemId.of("item-002");
+
+            // Then
+            assertThat(id1).isNotEqualTo(id2);
+        }
+    }
+}
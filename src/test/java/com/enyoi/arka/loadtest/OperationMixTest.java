@@ -0,0 +1,83 @@
+package com.enyoi.arka.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OperationMix - Tests")
+class OperationMixTest {
+
+    @Nested
+    @DisplayName("parse()")
+    class ParseTests {
+
+        @Test
+        @DisplayName("Debe interpretar nombres cortos y pesos")
+        void debeInterpretarNombresYPesos() {
+            // When
+            OperationMix mix = OperationMix.parse("create:40, confirm:20,restock:0");
+
+            // Then
+            assertThat(mix.weights()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    Operation.CREATE_ORDER, 40,
+                    Operation.CONFIRM, 20));
+            assertThat(mix).hasToString("create:40,confirm:20");
+        }
+
+        @Test
+        @DisplayName("Debe rechazar operaciones desconocidas")
+        void debeRechazarOperacionesDesconocidas() {
+            assertThatThrownBy(() -> OperationMix.parse("cancel:10"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cancel");
+        }
+
+        @Test
+        @DisplayName("Debe rechazar una mezcla sin pesos positivos")
+        void debeRechazarMezclaVacia() {
+            assertThatThrownBy(() -> OperationMix.parse("create:0"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("next() debe respetar la proporcion de los pesos")
+    void nextDebeRespetarProporcion() {
+        // Given
+        OperationMix mix = OperationMix.parse("create:3,ship:1");
+        Random random = new Random(42);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        // When
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(counts).containsOnlyKeys(Operation.CREATE_ORDER, Operation.SHIP);
+        assertThat(counts.get(Operation.CREATE_ORDER)).isBetween(29_000, 31_000);
+    }
+
+    @Test
+    @DisplayName("LoadTestConfig.parse() debe aplicar las opciones sobre los valores por defecto")
+    void configDebeAplicarOpciones() {
+        // When
+        LoadTestConfig config = LoadTestConfig.parse(new String[]{"--workers=3", "--duration=5", "--mix=create:1"});
+
+        // Then
+        assertThat(config.workers()).isEqualTo(3);
+        assertThat(config.duration()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(config.customers()).isEqualTo(1_000);
+        assertThat(config.mix().weights()).containsOnlyKeys(Operation.CREATE_ORDER);
+        assertThatThrownBy(() -> LoadTestConfig.parse(new String[]{"--threads=3"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}